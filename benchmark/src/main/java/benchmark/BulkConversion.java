@@ -0,0 +1,127 @@
+package benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.codec.StandardAsciiCodec;
+import com.github.f4b6a3.uuid.codec.StandardBinaryCodec;
+import com.github.f4b6a3.uuid.codec.StandardStringCodec;
+
+/**
+ * Compares the bulk conversion of UUIDs to and from text with a loop of
+ * {@link UUID#toString()} and {@link UUID#fromString(String)}, and measures the
+ * bulk conversion of UUIDs to and from binary.
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@OperationsPerInvocation(BulkConversion.SIZE)
+public class BulkConversion {
+
+	static final int SIZE = 1024;
+
+	UUID[] uuids = new UUID[SIZE];
+	long[] longs = new long[SIZE * 2];
+	String[] strings = new String[SIZE];
+	char[] chars = new char[SIZE * 36];
+	byte[] bytes = new byte[SIZE * 36];
+	byte[] binary = new byte[SIZE * 16];
+	ByteBuffer buffer = ByteBuffer.allocateDirect(SIZE * 16);
+
+	public BulkConversion() {
+		for (int i = 0; i < SIZE; i++) {
+			uuids[i] = UUID.randomUUID();
+			longs[i * 2] = uuids[i].getMostSignificantBits();
+			longs[i * 2 + 1] = uuids[i].getLeastSignificantBits();
+			strings[i] = uuids[i].toString();
+		}
+		StandardStringCodec.INSTANCE.encodeAll(uuids, chars, 0);
+		StandardAsciiCodec.INSTANCE.encodeAll(uuids, bytes, 0);
+		StandardBinaryCodec.INSTANCE.encodeAll(uuids, binary, 0);
+		StandardBinaryCodec.INSTANCE.encodeAll(uuids, buffer).flip();
+	}
+
+	@Benchmark
+	public String[] jdkToString() {
+		final String[] result = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			result[i] = uuids[i].toString();
+		}
+		return result;
+	}
+
+	@Benchmark
+	public UUID[] jdkFromString() {
+		final UUID[] result = new UUID[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			result[i] = UUID.fromString(strings[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public char[] encodeAllToChars() {
+		StandardStringCodec.INSTANCE.encodeAll(longs, chars, 0);
+		return chars;
+	}
+
+	@Benchmark
+	public long[] decodeAllFromChars() {
+		StandardStringCodec.INSTANCE.decodeAll(chars, 0, longs);
+		return longs;
+	}
+
+	@Benchmark
+	public byte[] encodeAllToBytes() {
+		StandardAsciiCodec.INSTANCE.encodeAll(longs, bytes, 0);
+		return bytes;
+	}
+
+	@Benchmark
+	public long[] decodeAllFromBytes() {
+		StandardAsciiCodec.INSTANCE.decodeAll(bytes, 0, longs);
+		return longs;
+	}
+
+	@Benchmark
+	public byte[] encodeAllToBinary() {
+		StandardBinaryCodec.INSTANCE.encodeAll(longs, binary, 0);
+		return binary;
+	}
+
+	@Benchmark
+	public long[] decodeAllFromBinary() {
+		StandardBinaryCodec.INSTANCE.decodeAll(binary, 0, longs);
+		return longs;
+	}
+
+	@Benchmark
+	public ByteBuffer encodeAllToDirectBuffer() {
+		buffer.clear();
+		return StandardBinaryCodec.INSTANCE.encodeAll(longs, buffer);
+	}
+
+	@Benchmark
+	public long[] decodeAllFromDirectBuffer() {
+		buffer.rewind();
+		StandardBinaryCodec.INSTANCE.decodeAll(buffer, longs);
+		return longs;
+	}
+}
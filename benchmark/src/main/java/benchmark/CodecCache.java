@@ -0,0 +1,98 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.codec.StandardStringCodec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.other.CachedCodec;
+
+/**
+ * Compares cached codecs with plain codecs for a working set of hot UUIDs.
+ */
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodecCache {
+
+	@Param({ "1000", "100000" })
+	int hotIds;
+
+	UUID[] uuids;
+	String[] canonical;
+	String[] base62;
+
+	CachedCodec cachedCanonical = new CachedCodec(StandardStringCodec.INSTANCE, 65536);
+	CachedCodec cachedBase62 = new CachedCodec(Base62Codec.INSTANCE, 65536);
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int i;
+	}
+
+	@Setup
+	public void setup() {
+		uuids = new UUID[hotIds];
+		canonical = new String[hotIds];
+		base62 = new String[hotIds];
+		for (int i = 0; i < hotIds; i++) {
+			uuids[i] = UUID.randomUUID();
+			// new strings, as if they came from requests
+			canonical[i] = new String(uuids[i].toString().toCharArray());
+			base62[i] = new String(Base62Codec.INSTANCE.encode(uuids[i]).toCharArray());
+		}
+	}
+
+	private int next(Cursor cursor) {
+		final int i = cursor.i;
+		cursor.i = i + 1 == hotIds ? 0 : i + 1;
+		return i;
+	}
+
+	@Benchmark
+	public UUID decodeCanonical(Cursor cursor) {
+		return StandardStringCodec.INSTANCE.decode(canonical[next(cursor)]);
+	}
+
+	@Benchmark
+	public UUID decodeCanonicalCached(Cursor cursor) {
+		return cachedCanonical.decode(canonical[next(cursor)]);
+	}
+
+	@Benchmark
+	public UUID decodeBase62(Cursor cursor) {
+		return Base62Codec.INSTANCE.decode(base62[next(cursor)]);
+	}
+
+	@Benchmark
+	public UUID decodeBase62Cached(Cursor cursor) {
+		return cachedBase62.decode(base62[next(cursor)]);
+	}
+
+	@Benchmark
+	public String encodeBase62(Cursor cursor) {
+		return Base62Codec.INSTANCE.encode(uuids[next(cursor)]);
+	}
+
+	@Benchmark
+	public String encodeBase62Cached(Cursor cursor) {
+		return cachedBase62.encode(uuids[next(cursor)]);
+	}
+}
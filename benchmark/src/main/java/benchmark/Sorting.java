@@ -0,0 +1,102 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.util.UuidComparator;
+import com.github.f4b6a3.uuid.util.UuidSorter;
+
+/**
+ * Compares the sorting of time-based UUIDs with a comparator and with radix
+ * sort.
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Sorting {
+
+	@Param({ "100000", "1000000" })
+	int size;
+
+	UUID[] shuffled;
+	UUID[] uuids;
+	long[] msbs;
+	long[] lsbs;
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		shuffled = new UUID[size];
+		for (int i = 0; i < size; i++) {
+			shuffled[i] = UuidCreator.getTimeBased();
+		}
+		Collections.shuffle(Arrays.asList(shuffled));
+	}
+
+	@Setup(Level.Invocation)
+	public void setupInvocation() {
+		uuids = shuffled.clone();
+		msbs = new long[size];
+		lsbs = new long[size];
+		for (int i = 0; i < size; i++) {
+			msbs[i] = shuffled[i].getMostSignificantBits();
+			lsbs[i] = shuffled[i].getLeastSignificantBits();
+		}
+	}
+
+	@Benchmark
+	public UUID[] comparator() {
+		Arrays.sort(uuids, UuidComparator.getDefaultInstance());
+		return uuids;
+	}
+
+	@Benchmark
+	public UUID[] opaqueComparator() {
+		Arrays.sort(uuids, UuidComparator.getOpaqueInstance());
+		return uuids;
+	}
+
+	@Benchmark
+	public UUID[] radix() {
+		UuidSorter.sort(uuids);
+		return uuids;
+	}
+
+	@Benchmark
+	public UUID[] radixOpaque() {
+		UuidSorter.sortOpaque(uuids);
+		return uuids;
+	}
+
+	@Benchmark
+	public UUID[] parallelRadix() {
+		UuidSorter.parallelSort(uuids);
+		return uuids;
+	}
+
+	@Benchmark
+	public long[] parallelRadixColumns() {
+		UuidSorter.parallelSort(msbs, lsbs);
+		return msbs;
+	}
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.codec.base.Base32Codec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
+import com.github.f4b6a3.uuid.codec.base.BaseNCodec;
+
+/**
+ * Compares strings built from Latin-1 bytes with strings built from chars.
+ * <p>
+ * Run it with the GC profiler to see the allocation per operation:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar StringEncoding -prof gc
+ * </pre>
+ *
+ * In JDK 9+, the "chars" benchmarks allocate a char array that is discarded
+ * after it is compressed into the string.
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringEncoding {
+
+	UUID uuid = UUID.fromString("01234567-89ab-cdef-0123-456789abcdef");
+
+	@Benchmark
+	public String base16Latin1() {
+		return Base16Codec.INSTANCE.encode(uuid);
+	}
+
+	@Benchmark
+	public String base16Chars() {
+		return chars(Base16Codec.INSTANCE, uuid);
+	}
+
+	@Benchmark
+	public String base32Latin1() {
+		return Base32Codec.INSTANCE.encode(uuid);
+	}
+
+	@Benchmark
+	public String base32Chars() {
+		return chars(Base32Codec.INSTANCE, uuid);
+	}
+
+	@Benchmark
+	public String base62Latin1() {
+		return Base62Codec.INSTANCE.encode(uuid);
+	}
+
+	@Benchmark
+	public String base62Chars() {
+		return chars(Base62Codec.INSTANCE, uuid);
+	}
+
+	@Benchmark
+	public String base64UrlLatin1() {
+		return Base64UrlCodec.INSTANCE.encode(uuid);
+	}
+
+	@Benchmark
+	public String base64UrlChars() {
+		return chars(Base64UrlCodec.INSTANCE, uuid);
+	}
+
+	private static String chars(BaseNCodec codec, UUID uuid) {
+		final char[] chars = new char[codec.getBase().getLength()];
+		codec.encode(uuid, chars, 0);
+		return new String(chars);
+	}
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.factory.standard.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeOrderedEpochFactory;
+
+/**
+ * Compares locked factories with thread-confined factories at one thread.
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThreadConfinement {
+
+	TimeBasedFactory lockedV1 = TimeBasedFactory.builder().build();
+	TimeBasedFactory confinedV1 = TimeBasedFactory.builder().withThreadConfinement().build();
+
+	RandomBasedFactory lockedV4 = RandomBasedFactory.builder().withFastRandom().build();
+	RandomBasedFactory confinedV4 = RandomBasedFactory.builder().withFastRandom().withThreadConfinement().build();
+
+	TimeOrderedEpochFactory lockedV7 = TimeOrderedEpochFactory.builder().withIncrementPlus1().build();
+	TimeOrderedEpochFactory confinedV7 = TimeOrderedEpochFactory.builder().withIncrementPlus1()
+			.withThreadConfinement().build();
+
+	@Benchmark
+	public UUID lockedV1() {
+		return lockedV1.create();
+	}
+
+	@Benchmark
+	public UUID confinedV1() {
+		return confinedV1.create();
+	}
+
+	@Benchmark
+	public UUID lockedV4() {
+		return lockedV4.create();
+	}
+
+	@Benchmark
+	public UUID confinedV4() {
+		return confinedV4.create();
+	}
+
+	@Benchmark
+	public UUID lockedV7() {
+		return lockedV7.create();
+	}
+
+	@Benchmark
+	public UUID confinedV7() {
+		return confinedV7.create();
+	}
+}
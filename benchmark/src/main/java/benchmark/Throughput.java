@@ -17,6 +17,10 @@ import org.openjdk.jmh.annotations.Warmup;
 
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.alt.GUID;
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.codec.base.Base32CrockfordCodec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.factory.nonstandard.UlidFactory;
 
 @Fork(1)
 @Threads(4)
@@ -30,6 +34,10 @@ public class Throughput {
 	String string = "01234567-89ab-cdef-0123-456789abcdef";
 	UUID uuid = UUID.fromString(string);
 	GUID guid = new GUID(uuid);
+	String base16 = Base16Codec.INSTANCE.encode(uuid);
+	String base62 = Base62Codec.INSTANCE.encode(uuid);
+	String ulid = Base32CrockfordCodec.INSTANCE.encode(uuid);
+	UlidFactory ulidFactory = new UlidFactory();
 	private byte[] bytes = "http:www.github.com".getBytes();
 
 	/*********** JDK UUID ***********/
@@ -66,6 +74,36 @@ public class Throughput {
 		return UuidCreator.fromString(string);
 	}
 
+	@Benchmark
+	public String uuidCreatorToBase16() {
+		return Base16Codec.INSTANCE.encode(uuid);
+	}
+
+	@Benchmark
+	public UUID uuidCreatorFromBase16() {
+		return Base16Codec.INSTANCE.decode(base16);
+	}
+
+	@Benchmark
+	public String uuidCreatorToBase62() {
+		return Base62Codec.INSTANCE.encode(uuid);
+	}
+
+	@Benchmark
+	public UUID uuidCreatorFromBase62() {
+		return Base62Codec.INSTANCE.decode(base62);
+	}
+
+	@Benchmark
+	public String uuidCreatorToBase32Crockford() {
+		return Base32CrockfordCodec.INSTANCE.encode(uuid);
+	}
+
+	@Benchmark
+	public UUID uuidCreatorFromBase32Crockford() {
+		return Base32CrockfordCodec.INSTANCE.decode(ulid);
+	}
+
 	@Benchmark
 	public UUID uuidCreatorV1() {
 		return UuidCreator.getTimeBased();
@@ -96,6 +134,11 @@ public class Throughput {
 		return UuidCreator.getTimeOrderedEpoch();
 	}
 
+	@Benchmark
+	public String uuidCreatorUlid() {
+		return ulidFactory.createString();
+	}
+
 	/*********** GUID ***********/
 
 	@Benchmark
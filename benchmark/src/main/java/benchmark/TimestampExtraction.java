@@ -0,0 +1,79 @@
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.util.UuidUtil;
+
+/**
+ * Compares the extraction of Unix milliseconds from UUIDv7 through an
+ * {@link java.time.Instant} with the primitive accessors of {@link UuidUtil}.
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@OperationsPerInvocation(TimestampExtraction.SIZE)
+public class TimestampExtraction {
+
+	static final int SIZE = 1024;
+
+	UUID[] uuids = new UUID[SIZE];
+	long[] msbs = new long[SIZE];
+	long[] lsbs = new long[SIZE];
+	long[] millis = new long[SIZE];
+
+	public TimestampExtraction() {
+		for (int i = 0; i < SIZE; i++) {
+			uuids[i] = UuidCreator.getTimeOrderedEpoch();
+			msbs[i] = uuids[i].getMostSignificantBits();
+			lsbs[i] = uuids[i].getLeastSignificantBits();
+		}
+	}
+
+	@Benchmark
+	public long[] getInstant() {
+		for (int i = 0; i < SIZE; i++) {
+			millis[i] = UuidUtil.getInstant(uuids[i]).toEpochMilli();
+		}
+		return millis;
+	}
+
+	@Benchmark
+	public long[] getUnixMillis() {
+		for (int i = 0; i < SIZE; i++) {
+			millis[i] = UuidUtil.getUnixMillis(uuids[i]);
+		}
+		return millis;
+	}
+
+	@Benchmark
+	public long[] getUnixMillisColumns() {
+		UuidUtil.getUnixMillis(msbs, lsbs, millis);
+		return millis;
+	}
+
+	@Benchmark
+	public long[] getTimeOrderedEpochUnixMillis() {
+		for (int i = 0; i < SIZE; i++) {
+			millis[i] = UuidUtil.getTimeOrderedEpochUnixMillis(msbs[i]);
+		}
+		return millis;
+	}
+}
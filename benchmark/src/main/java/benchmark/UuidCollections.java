@@ -0,0 +1,134 @@
+package benchmark;
+
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.collection.UuidDirectSet;
+import com.github.f4b6a3.uuid.collection.UuidSet;
+
+/**
+ * Compares {@link UuidSet} and {@link UuidDirectSet} with {@link HashSet} of
+ * UUIDv7.
+ * <p>
+ * Run it with the GC profiler to compare the memory:
+ *
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar UuidCollections -prof gc
+ * </pre>
+ *
+ * The "fill" benchmarks build a set from scratch, so the bytes allocated per
+ * operation approximate the footprint of a set, including the discarded tables
+ * of each resize. The direct set allocates outside the heap, so only its
+ * time is comparable. The "contains" benchmarks look up all the UUIDs of a set.
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UuidCollections {
+
+	@Param({ "10000", "1000000" })
+	int size;
+
+	UUID[] uuids;
+	long[] msbs;
+	long[] lsbs;
+
+	HashSet<UUID> hashSet;
+	UuidSet uuidSet;
+	UuidDirectSet directSet;
+
+	@Setup
+	public void setup() {
+		uuids = new UUID[size];
+		msbs = new long[size];
+		lsbs = new long[size];
+		for (int i = 0; i < size; i++) {
+			uuids[i] = UuidCreator.getTimeOrderedEpoch();
+			msbs[i] = uuids[i].getMostSignificantBits();
+			lsbs[i] = uuids[i].getLeastSignificantBits();
+		}
+		hashSet = fillHashSet();
+		uuidSet = fillUuidSet();
+		directSet = fillDirectSet();
+	}
+
+	@Benchmark
+	public HashSet<UUID> fillHashSet() {
+		// the UUIDs are copied, as if they were read from a stream
+		final HashSet<UUID> set = new HashSet<>();
+		for (int i = 0; i < size; i++) {
+			set.add(new UUID(msbs[i], lsbs[i]));
+		}
+		return set;
+	}
+
+	@Benchmark
+	public UuidSet fillUuidSet() {
+		final UuidSet set = new UuidSet();
+		for (int i = 0; i < size; i++) {
+			set.add(msbs[i], lsbs[i]);
+		}
+		return set;
+	}
+
+	@Benchmark
+	public int containsHashSet() {
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (hashSet.contains(uuids[i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int containsUuidSet() {
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (uuidSet.contains(msbs[i], lsbs[i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public UuidDirectSet fillDirectSet() {
+		final UuidDirectSet set = new UuidDirectSet();
+		for (int i = 0; i < size; i++) {
+			set.add(msbs[i], lsbs[i]);
+		}
+		return set;
+	}
+
+	@Benchmark
+	public int containsDirectSet() {
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (directSet.contains(msbs[i], lsbs[i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -186,6 +186,19 @@ public final class UuidCreator {
 		return StandardStringCodec.INSTANCE.decode(uuid);
 	}
 
+	/**
+	 * Returns a UUID from a string, or null if the string is invalid.
+	 * <p>
+	 * It accepts the same formats as {@link #fromString(String)}, but it doesn't
+	 * throw exceptions.
+	 * 
+	 * @param uuid a UUID string
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	public static UUID tryFromString(String uuid) {
+		return StandardStringCodec.INSTANCE.tryDecode(uuid);
+	}
+
 	/**
 	 * Returns a random-based unique identifier (UUIDv4).
 	 * 
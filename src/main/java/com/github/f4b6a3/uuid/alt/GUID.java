@@ -32,7 +32,6 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Random;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -502,6 +501,19 @@ public final class GUID implements Serializable, Comparable<GUID> {
 		return Parser.valid(string);
 	}
 
+	/**
+	 * Parses a GUID string, or returns null if it is invalid.
+	 * <p>
+	 * It doesn't throw exceptions. The string is validated and parsed in a single
+	 * pass.
+	 * 
+	 * @param string a GUID string
+	 * @return a GUID, or null if the argument is invalid
+	 */
+	public static GUID tryParse(String string) {
+		return Parser.tryParse(string);
+	}
+
 	/**
 	 * Converts the GUID into a byte array.
 	 * 
@@ -691,34 +703,8 @@ public final class GUID implements Serializable, Comparable<GUID> {
 
 	static final class Parser {
 
-		private static final byte[] MAP;
-		static {
-			byte[] mapping = new byte[256];
-			Arrays.fill(mapping, (byte) -1);
-			mapping['0'] = 0;
-			mapping['1'] = 1;
-			mapping['2'] = 2;
-			mapping['3'] = 3;
-			mapping['4'] = 4;
-			mapping['5'] = 5;
-			mapping['6'] = 6;
-			mapping['7'] = 7;
-			mapping['8'] = 8;
-			mapping['9'] = 9;
-			mapping['a'] = 10;
-			mapping['b'] = 11;
-			mapping['c'] = 12;
-			mapping['d'] = 13;
-			mapping['e'] = 14;
-			mapping['f'] = 15;
-			mapping['A'] = 10;
-			mapping['B'] = 11;
-			mapping['C'] = 12;
-			mapping['D'] = 13;
-			mapping['E'] = 14;
-			mapping['F'] = 15;
-			MAP = mapping;
-		}
+		private static final long ONES = 0x0101010101010101L;
+		private static final long HIGH = 0x8080808080808080L;
 
 		private static final int DASH_POSITION_1 = 8;
 		private static final int DASH_POSITION_2 = 13;
@@ -726,70 +712,92 @@ public final class GUID implements Serializable, Comparable<GUID> {
 		private static final int DASH_POSITION_4 = 23;
 
 		public static GUID parse(final String string) {
-
-			validate(string);
-
-			long msb = 0;
-			long lsb = 0;
-
-			for (int i = 0; i < 8; i++) {
-				msb = (msb << 4) | get(string, i);
+			final GUID guid = tryParse(string);
+			if (guid == null) {
+				throw exception(string);
 			}
+			return guid;
+		}
 
-			for (int i = 9; i < 13; i++) {
-				msb = (msb << 4) | get(string, i);
-			}
+		public static GUID tryParse(final String string) {
 
-			for (int i = 14; i < 18; i++) {
-				msb = (msb << 4) | get(string, i);
+			if (!hasDashes(string)) {
+				return null;
 			}
 
-			for (int i = 19; i < 23; i++) {
-				lsb = (lsb << 4) | get(string, i);
-			}
+			// 8 hexadecimal digits at a time
+			final long a = decode(string, 0, 4);
+			final long b = decode(string, 9, 14);
+			final long c = decode(string, 19, 24);
+			final long d = decode(string, 28, 32);
 
-			for (int i = 24; i < 36; i++) {
-				lsb = (lsb << 4) | get(string, i);
+			if ((a | b | c | d) < 0) {
+				return null;
 			}
 
+			final long msb = (a << 32) | b;
+			final long lsb = (c << 32) | d;
+
 			return new GUID(msb, lsb);
 		}
 
 		public static boolean valid(final String guid) {
-			try {
-				parse(guid);
-				return true;
-			} catch (IllegalArgumentException e) {
-				return false;
-			}
+			return tryParse(guid) != null;
 		}
 
-		private static long get(final String string, int i) {
-
-			final int chr = string.charAt(i);
-			if (chr > 255) {
-				throw exception(string);
+		// Decodes two groups of 4 hexadecimal digits using SWAR (SIMD within a
+		// register): the 8 chars are packed in a long and converted at once.
+		// Returns -1 if a char is invalid.
+		private static long decode(final String string, final int offset1, final int offset2) {
+
+			final int c0 = string.charAt(offset1);
+			final int c1 = string.charAt(offset1 + 1);
+			final int c2 = string.charAt(offset1 + 2);
+			final int c3 = string.charAt(offset1 + 3);
+			final int c4 = string.charAt(offset2);
+			final int c5 = string.charAt(offset2 + 1);
+			final int c6 = string.charAt(offset2 + 2);
+			final int c7 = string.charAt(offset2 + 3);
+
+			if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) > 0x7f) {
+				return -1L;
 			}
 
-			final byte value = MAP[chr];
-			if (value < 0) {
-				throw exception(string);
+			final long packed = ((long) c0 << 56) | ((long) c1 << 48) | ((long) c2 << 40) | ((long) c3 << 32)
+					| ((long) c4 << 24) | ((long) c5 << 16) | ((long) c6 << 8) | c7;
+
+			// high bit of each byte set if it is a digit or a letter
+			final long lower = packed | (ONES * 0x20);
+			final long digit = atLeast(packed, '0') & ~atLeast(packed, '9' + 1);
+			final long letter = atLeast(lower, 'a') & ~atLeast(lower, 'f' + 1) & HIGH;
+
+			if ((digit | letter) != HIGH) {
+				return -1L;
 			}
-			return value & 0xffL;
+
+			// gather 8 nibbles into 32 bits
+			long value = (packed & 0x0f0f0f0f0f0f0f0fL) + (letter >>> 7) * 9;
+			value = (value | (value >>> 4)) & 0x00ff00ff00ff00ffL;
+			value = (value | (value >>> 8)) & 0x0000ffff0000ffffL;
+			value = (value | (value >>> 16)) & 0x00000000ffffffffL;
+
+			return value;
+		}
+
+		private static long atLeast(final long packed, final int bound) {
+			return (packed + ONES * (0x80 - bound)) & HIGH;
 		}
 
 		private static RuntimeException exception(final String str) {
 			return new IllegalArgumentException("Invalid UUID: " + str);
 		}
 
-		private static void validate(final String string) {
+		private static boolean hasDashes(final String string) {
 			if (string == null || string.length() != GUID_CHARS) {
-				throw exception(string);
-			}
-			if (string.charAt(DASH_POSITION_1) != '-' || string.charAt(DASH_POSITION_2) != '-'
-					|| string.charAt(DASH_POSITION_3) != '-' || string.charAt(DASH_POSITION_4) != '-') {
-				throw exception(string);
+				return false;
 			}
+			return string.charAt(DASH_POSITION_1) == '-' && string.charAt(DASH_POSITION_2) == '-'
+					&& string.charAt(DASH_POSITION_3) == '-' && string.charAt(DASH_POSITION_4) == '-';
 		}
 	}
 
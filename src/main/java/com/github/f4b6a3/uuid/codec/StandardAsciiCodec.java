@@ -0,0 +1,592 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * Codec for UUID canonical string as US-ASCII bytes.
+ * <p>
+ * It is the byte counterpart of {@link StandardStringCodec}. It reads and writes
+ * the UUID text directly from and to byte arrays and byte buffers, for example,
+ * HTTP headers, message keys and CSV fields, without creating strings.
+ * <p>
+ * This codec decodes (parses) bytes in these formats:
+ * <ul>
+ * <li>000000000000V0000000000000000000 (hexadecimal string)
+ * <li>00000000-0000-0000-0000-000000000000 (THE canonical string)
+ * <li>{00000000-0000-0000-0000-000000000000} (Microsoft string)
+ * <li>urn:uuid:00000000-0000-0000-0000-000000000000 (URN string)
+ * </ul>
+ * <p>
+ * It encodes UUIDs in the canonical format, in lower case. Decoding and encoding
+ * allocate nothing but the resulting UUID or byte array.
+ * 
+ * @see StandardStringCodec
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9562.html">RFC 9562</a>
+ */
+public class StandardAsciiCodec implements UuidCodec<byte[]> {
+
+	/**
+	 * A shared immutable instance.
+	 */
+	public static final StandardAsciiCodec INSTANCE = new StandardAsciiCodec();
+
+	private static final int LENGTH_WITH_DASH = 36;
+	private static final int LENGTH_WITHOUT_DASH = 32;
+	private static final int LENGTH_WITH_URN_PREFIX = 45;
+	private static final int LENGTH_WITH_CURLY_BRACES = 38;
+
+	private static final byte[] MAP = Base16Codec.INSTANCE.getBase().getMap().array();
+	private static final byte[] ALPHABET = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] URN_PREFIX = "urn:uuid:".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Get the canonical string of a UUID as an array of US-ASCII bytes.
+	 * 
+	 * @param uuid a UUID
+	 * @return an array of 36 bytes
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public byte[] encode(final UUID uuid) {
+		UuidValidator.validate(uuid);
+		final byte[] bytes = new byte[LENGTH_WITH_DASH];
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Writes the canonical string of a UUID into a byte array as US-ASCII bytes.
+	 * 
+	 * @param uuid   a UUID
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encode(final UUID uuid, final byte[] bytes, final int offset) {
+		UuidValidator.validate(uuid);
+		RangeUtil.checkFromIndexSize(offset, LENGTH_WITH_DASH, bytes.length);
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), bytes, offset);
+		return offset + LENGTH_WITH_DASH;
+	}
+
+	/**
+	 * Writes the canonical string of a UUID into a byte buffer as US-ASCII bytes.
+	 * <p>
+	 * The bytes are written at the current position, which is then incremented
+	 * by 36.
+	 * 
+	 * @param uuid   a UUID
+	 * @param buffer a destination byte buffer
+	 * @return the byte buffer
+	 * @throws InvalidUuidException    if the argument is invalid
+	 * @throws BufferOverflowException if there are fewer than 36 bytes remaining
+	 */
+	public ByteBuffer encode(final UUID uuid, final ByteBuffer buffer) {
+
+		UuidValidator.validate(uuid);
+
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+
+		if (buffer.remaining() < LENGTH_WITH_DASH) {
+			throw new BufferOverflowException();
+		}
+
+		if (buffer.hasArray()) {
+			final int position = buffer.position();
+			write(msb, lsb, buffer.array(), buffer.arrayOffset() + position);
+			buffer.position(position + LENGTH_WITH_DASH);
+			return buffer;
+		}
+
+		for (int i = 60; i >= 32; i -= 4) {
+			buffer.put(ALPHABET[(int) (msb >>> i & 0xf)]);
+		}
+		buffer.put((byte) '-');
+		for (int i = 28; i >= 16; i -= 4) {
+			buffer.put(ALPHABET[(int) (msb >>> i & 0xf)]);
+		}
+		buffer.put((byte) '-');
+		for (int i = 12; i >= 0; i -= 4) {
+			buffer.put(ALPHABET[(int) (msb >>> i & 0xf)]);
+		}
+		buffer.put((byte) '-');
+		for (int i = 60; i >= 48; i -= 4) {
+			buffer.put(ALPHABET[(int) (lsb >>> i & 0xf)]);
+		}
+		buffer.put((byte) '-');
+		for (int i = 44; i >= 0; i -= 4) {
+			buffer.put(ALPHABET[(int) (lsb >>> i & 0xf)]);
+		}
+
+		return buffer;
+	}
+
+	/**
+	 * Writes the canonical strings of many UUIDs into a byte array as US-ASCII
+	 * bytes.
+	 * <p>
+	 * The strings are written one after another, 36 bytes each, starting at the
+	 * offset, without separators.
+	 * 
+	 * @param uuids  an array of UUIDs
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if a UUID is null
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encodeAll(final UUID[] uuids, final byte[] bytes, final int offset) {
+		RangeUtil.checkFromIndexCount(offset, uuids.length, LENGTH_WITH_DASH, bytes.length);
+		int position = offset;
+		for (int i = 0; i < uuids.length; i++) {
+			UuidValidator.validate(uuids[i]);
+			write(uuids[i].getMostSignificantBits(), uuids[i].getLeastSignificantBits(), bytes, position);
+			position += LENGTH_WITH_DASH;
+		}
+		return position;
+	}
+
+	/**
+	 * Writes the canonical strings of many UUIDs into a byte array as US-ASCII
+	 * bytes.
+	 * <p>
+	 * The UUIDs are given as pairs of longs: the most significant bits followed by
+	 * the least significant bits. The strings are written one after another, 36
+	 * bytes each, starting at the offset, without separators.
+	 * 
+	 * @param longs  an array of longs with an even length
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws IllegalArgumentException  if the length of the longs is odd
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encodeAll(final long[] longs, final byte[] bytes, final int offset) {
+		checkPairs(longs);
+		RangeUtil.checkFromIndexCount(offset, longs.length / 2, LENGTH_WITH_DASH, bytes.length);
+		int position = offset;
+		for (int i = 0; i < longs.length; i += 2) {
+			write(longs[i], longs[i + 1], bytes, position);
+			position += LENGTH_WITH_DASH;
+		}
+		return position;
+	}
+
+	/**
+	 * Get many UUIDs from a byte array of US-ASCII bytes.
+	 * <p>
+	 * It reads one canonical string after another, 36 bytes each, starting at the
+	 * offset, without separators, until the destination array is filled.
+	 * 
+	 * @param bytes  a byte array
+	 * @param offset the index of the first byte to read
+	 * @param uuids  a destination array of UUIDs
+	 * @return the index after the last byte read
+	 * @throws InvalidUuidException      if a string is invalid
+	 * @throws IndexOutOfBoundsException if the bytes are out of bounds
+	 */
+	public int decodeAll(final byte[] bytes, final int offset, final UUID[] uuids) {
+		RangeUtil.checkFromIndexCount(offset, uuids.length, LENGTH_WITH_DASH, bytes.length);
+		int position = offset;
+		for (int i = 0; i < uuids.length; i++) {
+			final long msb = parseMsb(bytes, position);
+			final long lsb = parseLsb(bytes, position);
+			uuids[i] = new UUID(msb, lsb);
+			position += LENGTH_WITH_DASH;
+		}
+		return position;
+	}
+
+	/**
+	 * Get many UUIDs from a byte array of US-ASCII bytes as pairs of longs.
+	 * <p>
+	 * It reads one canonical string after another, 36 bytes each, starting at the
+	 * offset, without separators, until the destination array is filled. Each UUID
+	 * is stored as its most significant bits followed by its least significant
+	 * bits. No UUID object is created.
+	 * 
+	 * @param bytes  a byte array
+	 * @param offset the index of the first byte to read
+	 * @param longs  a destination array of longs with an even length
+	 * @return the index after the last byte read
+	 * @throws InvalidUuidException      if a string is invalid
+	 * @throws IllegalArgumentException  if the length of the longs is odd
+	 * @throws IndexOutOfBoundsException if the bytes are out of bounds
+	 */
+	public int decodeAll(final byte[] bytes, final int offset, final long[] longs) {
+		checkPairs(longs);
+		RangeUtil.checkFromIndexCount(offset, longs.length / 2, LENGTH_WITH_DASH, bytes.length);
+		int position = offset;
+		for (int i = 0; i < longs.length; i += 2) {
+			longs[i] = parseMsb(bytes, position);
+			longs[i + 1] = parseLsb(bytes, position);
+			position += LENGTH_WITH_DASH;
+		}
+		return position;
+	}
+
+	/**
+	 * Get a UUID from an array of US-ASCII bytes.
+	 * 
+	 * @param bytes an array of bytes
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public UUID decode(final byte[] bytes) {
+		if (bytes == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		return decode(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Get a UUID from a region of an array of US-ASCII bytes.
+	 * 
+	 * @param bytes  an array of bytes
+	 * @param offset the index of the first byte of the region
+	 * @param length the length of the region
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID decode(final byte[] bytes, final int offset, final int length) {
+
+		if (bytes == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+
+		final UUID uuid = tryDecode(bytes, offset, length);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(new String(bytes, offset, length, StandardCharsets.US_ASCII));
+		}
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from an array of US-ASCII bytes, or null if the bytes are
+	 * invalid.
+	 * <p>
+	 * It accepts the same formats as {@link #decode(byte[])}, but it doesn't throw
+	 * exceptions.
+	 * 
+	 * @param bytes an array of bytes
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(final byte[] bytes) {
+		if (bytes == null) {
+			return null;
+		}
+		return tryDecode(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Get a UUID from a region of an array of US-ASCII bytes, or null if the
+	 * region is invalid.
+	 * <p>
+	 * It accepts the same formats as {@link #decode(byte[])}, but it doesn't throw
+	 * exceptions for invalid regions.
+	 * 
+	 * @param bytes  an array of bytes
+	 * @param offset the index of the first byte of the region
+	 * @param length the length of the region
+	 * @return a UUID, or null if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID tryDecode(final byte[] bytes, final int offset, final int length) {
+
+		if (bytes == null) {
+			return null;
+		}
+
+		RangeUtil.checkFromIndexSize(offset, length, bytes.length);
+
+		int start = offset;
+		int size = length;
+
+		if (size == LENGTH_WITH_URN_PREFIX && isUrnPrefix(bytes, start)) {
+			start += URN_PREFIX.length;
+			size -= URN_PREFIX.length;
+		} else if (size == LENGTH_WITH_CURLY_BRACES && bytes[start] == '{' && bytes[start + size - 1] == '}') {
+			start += 1;
+			size -= 2;
+		}
+
+		final long a;
+		final long b;
+		final long c;
+		final long d;
+
+		if (size == LENGTH_WITH_DASH && bytes[start + 8] == '-' && bytes[start + 13] == '-'
+				&& bytes[start + 18] == '-' && bytes[start + 23] == '-') {
+			a = HexUtil.decode(bytes, start);
+			b = HexUtil.decode(bytes, start + 9, start + 14);
+			c = HexUtil.decode(bytes, start + 19, start + 24);
+			d = HexUtil.decode(bytes, start + 28);
+		} else if (size == LENGTH_WITHOUT_DASH) {
+			a = HexUtil.decode(bytes, start);
+			b = HexUtil.decode(bytes, start + 8);
+			c = HexUtil.decode(bytes, start + 16);
+			d = HexUtil.decode(bytes, start + 24);
+		} else {
+			return null;
+		}
+
+		if ((a | b | c | d) < 0) {
+			return null;
+		}
+
+		return new UUID((a << 32) | b, (c << 32) | d);
+	}
+
+	/**
+	 * Get a UUID from the remaining US-ASCII bytes of a byte buffer.
+	 * <p>
+	 * The bytes between the position and the limit are decoded. The position is
+	 * then set to the limit. If the bytes are invalid, the position is not
+	 * changed.
+	 * 
+	 * @param buffer a byte buffer
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	public UUID decode(final ByteBuffer buffer) {
+		if (buffer == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		final UUID uuid = decode(buffer, buffer.position(), buffer.remaining());
+		buffer.position(buffer.limit());
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from the remaining US-ASCII bytes of a byte buffer, or null if
+	 * the bytes are invalid.
+	 * <p>
+	 * The bytes between the position and the limit are decoded. The position is
+	 * then set to the limit. If the bytes are invalid, the position is not
+	 * changed.
+	 * 
+	 * @param buffer a byte buffer
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	public UUID tryDecode(final ByteBuffer buffer) {
+		if (buffer == null) {
+			return null;
+		}
+		final UUID uuid = tryDecode(buffer, buffer.position(), buffer.remaining());
+		if (uuid != null) {
+			buffer.position(buffer.limit());
+		}
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a region of a byte buffer that contains US-ASCII bytes.
+	 * <p>
+	 * The offset is an absolute index. The position of the buffer is not changed.
+	 * 
+	 * @param buffer a byte buffer
+	 * @param offset the index of the first byte of the region
+	 * @param length the length of the region
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID decode(final ByteBuffer buffer, final int offset, final int length) {
+
+		if (buffer == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+
+		final UUID uuid = tryDecode(buffer, offset, length);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(toString(buffer, offset, length));
+		}
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a region of a byte buffer that contains US-ASCII bytes, or
+	 * null if the region is invalid.
+	 * <p>
+	 * The offset is an absolute index. The position of the buffer is not changed.
+	 * 
+	 * @param buffer a byte buffer
+	 * @param offset the index of the first byte of the region
+	 * @param length the length of the region
+	 * @return a UUID, or null if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID tryDecode(final ByteBuffer buffer, final int offset, final int length) {
+
+		if (buffer == null) {
+			return null;
+		}
+
+		RangeUtil.checkFromIndexSize(offset, length, buffer.limit());
+
+		if (buffer.hasArray()) {
+			return tryDecode(buffer.array(), buffer.arrayOffset() + offset, length);
+		}
+
+		int start = offset;
+		int size = length;
+
+		if (size == LENGTH_WITH_URN_PREFIX && isUrnPrefix(buffer, start)) {
+			start += URN_PREFIX.length;
+			size -= URN_PREFIX.length;
+		} else if (size == LENGTH_WITH_CURLY_BRACES && buffer.get(start) == '{'
+				&& buffer.get(start + size - 1) == '}') {
+			start += 1;
+			size -= 2;
+		}
+
+		final long a;
+		final long b;
+		final long c;
+		final long d;
+		final long e;
+
+		if (size == LENGTH_WITH_DASH && buffer.get(start + 8) == '-' && buffer.get(start + 13) == '-'
+				&& buffer.get(start + 18) == '-' && buffer.get(start + 23) == '-') {
+			a = hex(buffer, start, 8);
+			b = hex(buffer, start + 9, 4);
+			c = hex(buffer, start + 14, 4);
+			d = hex(buffer, start + 19, 4);
+			e = hex(buffer, start + 24, 12);
+		} else if (size == LENGTH_WITHOUT_DASH) {
+			a = hex(buffer, start, 8);
+			b = hex(buffer, start + 8, 4);
+			c = hex(buffer, start + 12, 4);
+			d = hex(buffer, start + 16, 4);
+			e = hex(buffer, start + 20, 12);
+		} else {
+			return null;
+		}
+
+		if ((a | b | c | d | e) < 0) {
+			return null;
+		}
+
+		return new UUID((a << 32) | (b << 16) | c, (d << 48) | e);
+	}
+
+	private static long parseMsb(final byte[] bytes, final int offset) {
+		if (bytes[offset + 8] == '-' && bytes[offset + 13] == '-') {
+			final long a = HexUtil.decode(bytes, offset);
+			final long b = HexUtil.decode(bytes, offset + 9, offset + 14);
+			if ((a | b) >= 0) {
+				return (a << 32) | b;
+			}
+		}
+		throw InvalidUuidException.newInstance(new String(bytes, offset, LENGTH_WITH_DASH, StandardCharsets.US_ASCII));
+	}
+
+	private static long parseLsb(final byte[] bytes, final int offset) {
+		if (bytes[offset + 18] == '-' && bytes[offset + 23] == '-') {
+			final long c = HexUtil.decode(bytes, offset + 19, offset + 24);
+			final long d = HexUtil.decode(bytes, offset + 28);
+			if ((c | d) >= 0) {
+				return (c << 32) | d;
+			}
+		}
+		throw InvalidUuidException.newInstance(new String(bytes, offset, LENGTH_WITH_DASH, StandardCharsets.US_ASCII));
+	}
+
+	private static void checkPairs(final long[] longs) {
+		if ((longs.length & 1) != 0) {
+			throw new IllegalArgumentException("Odd number of longs: " + longs.length);
+		}
+	}
+
+	private static void write(final long msb, final long lsb, final byte[] bytes, final int offset) {
+		HexUtil.encode(msb >>> 32, bytes, offset);
+		bytes[offset + 8] = '-';
+		HexUtil.encode(msb, bytes, offset + 9, offset + 14);
+		bytes[offset + 13] = '-';
+		bytes[offset + 18] = '-';
+		HexUtil.encode(lsb >>> 32, bytes, offset + 19, offset + 24);
+		bytes[offset + 23] = '-';
+		HexUtil.encode(lsb, bytes, offset + 28);
+	}
+
+	/**
+	 * Parses a group of hexadecimal digits.
+	 * 
+	 * @return the value of the group, or -1 if a byte is not a hexadecimal digit
+	 */
+	private static long hex(final ByteBuffer buffer, final int offset, final int length) {
+		long value = 0;
+		long bad = 0; // negative if a byte is invalid
+		for (int i = offset; i < offset + length; i++) {
+			final long v = MAP[buffer.get(i) & 0xff];
+			value = (value << 4) | v;
+			bad |= v;
+		}
+		return bad < 0 ? -1 : value;
+	}
+
+	private static boolean isUrnPrefix(final byte[] bytes, final int offset) {
+		for (int i = 0; i < URN_PREFIX.length; i++) {
+			if (bytes[offset + i] != URN_PREFIX[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isUrnPrefix(final ByteBuffer buffer, final int offset) {
+		for (int i = 0; i < URN_PREFIX.length; i++) {
+			if (buffer.get(offset + i) != URN_PREFIX[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String toString(final ByteBuffer buffer, final int offset, final int length) {
+		final byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = buffer.get(offset + i);
+		}
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+}
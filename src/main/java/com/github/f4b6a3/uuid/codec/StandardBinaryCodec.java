@@ -22,17 +22,34 @@
  * SOFTWARE.
  */
 
+
 package com.github.f4b6a3.uuid.codec;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
 
 /**
  * Codec for UUID binary encoding as defined in RFC 9562.
  * <p>
  * The UUID is encoded as 16 octets (bytes).
+ * <p>
+ * Besides the whole array methods, it reads and writes UUIDs at offsets of byte
+ * arrays and byte buffers, one by one or in bulk. The UUIDs are packed one
+ * after another, 16 bytes each, so that millions of UUIDs can be stored in a
+ * single buffer. The bytes are always in network byte order (big-endian),
+ * regardless of the byte order of the buffers.
+ * <p>
+ * Each UUID is read and written as two longs, one word at a time, through
+ * {@link ByteBuffer#getLong(int)} and {@link ByteBuffer#putLong(int, long)}.
  * 
  * @see <a href="https://www.rfc-editor.org/rfc/rfc9562.html">RFC 9562</a>
  */
@@ -43,6 +60,8 @@ public class StandardBinaryCodec implements UuidCodec<byte[]> {
 	 */
 	public static final StandardBinaryCodec INSTANCE = new StandardBinaryCodec();
 
+	private static final int UUID_BYTES = 16;
+
 	/**
 	 * Get an array of bytes from a UUID.
 	 * 
@@ -52,32 +71,151 @@ public class StandardBinaryCodec implements UuidCodec<byte[]> {
 	 */
 	@Override
 	public byte[] encode(final UUID uuid) {
+		final byte[] bytes = new byte[UUID_BYTES];
+		encode(uuid, bytes, 0);
+		return bytes;
+	}
 
+	/**
+	 * Writes the bytes of a UUID into a byte array.
+	 * <p>
+	 * It writes 16 bytes starting at the offset.
+	 * 
+	 * @param uuid   a UUID
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encode(final UUID uuid, final byte[] bytes, final int offset) {
+		UuidValidator.validate(uuid);
+		RangeUtil.checkFromIndexSize(offset, UUID_BYTES, bytes.length);
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), ByteBuffer.wrap(bytes), offset);
+		return offset + UUID_BYTES;
+	}
+
+	/**
+	 * Writes the bytes of a UUID into a byte buffer.
+	 * <p>
+	 * The bytes are written at the current position, which is then incremented
+	 * by 16.
+	 * 
+	 * @param uuid   a UUID
+	 * @param buffer a destination byte buffer
+	 * @return the byte buffer
+	 * @throws InvalidUuidException    if the argument is invalid
+	 * @throws BufferOverflowException if there are fewer than 16 bytes remaining
+	 */
+	public ByteBuffer encode(final UUID uuid, final ByteBuffer buffer) {
 		UuidValidator.validate(uuid);
+		if (buffer.remaining() < UUID_BYTES) {
+			throw new BufferOverflowException();
+		}
+		final int position = buffer.position();
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), buffer, position);
+		buffer.position(position + UUID_BYTES);
+		return buffer;
+	}
 
-		final byte[] bytes = new byte[16];
-		final long msb = uuid.getMostSignificantBits();
-		final long lsb = uuid.getLeastSignificantBits();
-
-		bytes[0x0] = (byte) (msb >>> 56);
-		bytes[0x1] = (byte) (msb >>> 48);
-		bytes[0x2] = (byte) (msb >>> 40);
-		bytes[0x3] = (byte) (msb >>> 32);
-		bytes[0x4] = (byte) (msb >>> 24);
-		bytes[0x5] = (byte) (msb >>> 16);
-		bytes[0x6] = (byte) (msb >>> 8);
-		bytes[0x7] = (byte) (msb);
-
-		bytes[0x8] = (byte) (lsb >>> 56);
-		bytes[0x9] = (byte) (lsb >>> 48);
-		bytes[0xa] = (byte) (lsb >>> 40);
-		bytes[0xb] = (byte) (lsb >>> 32);
-		bytes[0xc] = (byte) (lsb >>> 24);
-		bytes[0xd] = (byte) (lsb >>> 16);
-		bytes[0xe] = (byte) (lsb >>> 8);
-		bytes[0xf] = (byte) (lsb);
+	/**
+	 * Writes the bytes of a UUID into a byte buffer at an absolute index.
+	 * <p>
+	 * The position of the buffer is not changed.
+	 * 
+	 * @param uuid   a UUID
+	 * @param buffer a destination byte buffer
+	 * @param index  the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the bytes don't fit before the limit
+	 */
+	public int encode(final UUID uuid, final ByteBuffer buffer, final int index) {
+		UuidValidator.validate(uuid);
+		RangeUtil.checkFromIndexSize(index, UUID_BYTES, buffer.limit());
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), buffer, index);
+		return index + UUID_BYTES;
+	}
 
-		return bytes;
+	/**
+	 * Writes the bytes of many UUIDs into a byte array.
+	 * <p>
+	 * The UUIDs are written one after another, 16 bytes each, starting at the
+	 * offset.
+	 * 
+	 * @param uuids  an array of UUIDs
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if a UUID is null
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encodeAll(final UUID[] uuids, final byte[] bytes, final int offset) {
+		RangeUtil.checkFromIndexCount(offset, uuids.length, UUID_BYTES, bytes.length);
+		return writeAll(uuids, ByteBuffer.wrap(bytes), offset);
+	}
+
+	/**
+	 * Writes the bytes of many UUIDs into a byte array.
+	 * <p>
+	 * The UUIDs are given as pairs of longs: the most significant bits followed by
+	 * the least significant bits. They are written one after another, 16 bytes
+	 * each, starting at the offset.
+	 * 
+	 * @param longs  an array of longs with an even length
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws IllegalArgumentException  if the length of the longs is odd
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encodeAll(final long[] longs, final byte[] bytes, final int offset) {
+		checkPairs(longs);
+		RangeUtil.checkFromIndexCount(offset, longs.length / 2, UUID_BYTES, bytes.length);
+		return writeAll(longs, ByteBuffer.wrap(bytes), offset);
+	}
+
+	/**
+	 * Writes the bytes of many UUIDs into a byte buffer.
+	 * <p>
+	 * The UUIDs are written one after another, 16 bytes each, at the current
+	 * position, which is then incremented by 16 times the number of UUIDs.
+	 * 
+	 * @param uuids  an array of UUIDs
+	 * @param buffer a destination byte buffer
+	 * @return the byte buffer
+	 * @throws InvalidUuidException    if a UUID is null
+	 * @throws BufferOverflowException if the bytes don't fit in the buffer
+	 */
+	public ByteBuffer encodeAll(final UUID[] uuids, final ByteBuffer buffer) {
+		if (buffer.remaining() / UUID_BYTES < uuids.length) {
+			throw new BufferOverflowException();
+		}
+		buffer.position(writeAll(uuids, buffer, buffer.position()));
+		return buffer;
+	}
+
+	/**
+	 * Writes the bytes of many UUIDs into a byte buffer.
+	 * <p>
+	 * The UUIDs are given as pairs of longs: the most significant bits followed by
+	 * the least significant bits. They are written one after another, 16 bytes
+	 * each, at the current position, which is then incremented by 8 times the
+	 * number of longs.
+	 * 
+	 * @param longs  an array of longs with an even length
+	 * @param buffer a destination byte buffer
+	 * @return the byte buffer
+	 * @throws IllegalArgumentException if the length of the longs is odd
+	 * @throws BufferOverflowException  if the bytes don't fit in the buffer
+	 */
+	public ByteBuffer encodeAll(final long[] longs, final ByteBuffer buffer) {
+		checkPairs(longs);
+		if (buffer.remaining() / UUID_BYTES < longs.length / 2) {
+			throw new BufferOverflowException();
+		}
+		buffer.position(writeAll(longs, buffer, buffer.position()));
+		return buffer;
 	}
 
 	/**
@@ -89,30 +227,232 @@ public class StandardBinaryCodec implements UuidCodec<byte[]> {
 	 */
 	@Override
 	public UUID decode(final byte[] bytes) {
-
 		UuidValidator.validate(bytes);
+		return read(ByteBuffer.wrap(bytes), 0);
+	}
+
+	/**
+	 * Get a UUID from a byte array at an offset.
+	 * <p>
+	 * It reads 16 bytes starting at the offset.
+	 * 
+	 * @param bytes  a byte array
+	 * @param offset the index of the first byte to read
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the argument is null
+	 * @throws IndexOutOfBoundsException if the bytes are out of bounds
+	 */
+	public UUID decode(final byte[] bytes, final int offset) {
+		if (bytes == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		RangeUtil.checkFromIndexSize(offset, UUID_BYTES, bytes.length);
+		return read(ByteBuffer.wrap(bytes), offset);
+	}
+
+	/**
+	 * Get a UUID from a byte buffer.
+	 * <p>
+	 * The bytes are read at the current position, which is then incremented by
+	 * 16.
+	 * 
+	 * @param buffer a byte buffer
+	 * @return a UUID
+	 * @throws InvalidUuidException     if the argument is null
+	 * @throws BufferUnderflowException if there are fewer than 16 bytes remaining
+	 */
+	public UUID decode(final ByteBuffer buffer) {
+		if (buffer == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		if (buffer.remaining() < UUID_BYTES) {
+			throw new BufferUnderflowException();
+		}
+		final int position = buffer.position();
+		final UUID uuid = read(buffer, position);
+		buffer.position(position + UUID_BYTES);
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a byte buffer at an absolute index.
+	 * <p>
+	 * The position of the buffer is not changed.
+	 * 
+	 * @param buffer a byte buffer
+	 * @param index  the index of the first byte to read
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the argument is null
+	 * @throws IndexOutOfBoundsException if the bytes are out of bounds
+	 */
+	public UUID decode(final ByteBuffer buffer, final int index) {
+		if (buffer == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		RangeUtil.checkFromIndexSize(index, UUID_BYTES, buffer.limit());
+		return read(buffer, index);
+	}
+
+	/**
+	 * Get many UUIDs from a byte array.
+	 * <p>
+	 * It reads one UUID after another, 16 bytes each, starting at the offset,
+	 * until the destination array is filled.
+	 * 
+	 * @param bytes  a byte array
+	 * @param offset the index of the first byte to read
+	 * @param uuids  a destination array of UUIDs
+	 * @return the index after the last byte read
+	 * @throws IndexOutOfBoundsException if the bytes are out of bounds
+	 */
+	public int decodeAll(final byte[] bytes, final int offset, final UUID[] uuids) {
+		RangeUtil.checkFromIndexCount(offset, uuids.length, UUID_BYTES, bytes.length);
+		return readAll(ByteBuffer.wrap(bytes), offset, uuids);
+	}
+
+	/**
+	 * Get many UUIDs from a byte array as pairs of longs.
+	 * <p>
+	 * It reads one UUID after another, 16 bytes each, starting at the offset,
+	 * until the destination array is filled. Each UUID is stored as its most
+	 * significant bits followed by its least significant bits. No UUID object is
+	 * created.
+	 * 
+	 * @param bytes  a byte array
+	 * @param offset the index of the first byte to read
+	 * @param longs  a destination array of longs with an even length
+	 * @return the index after the last byte read
+	 * @throws IllegalArgumentException  if the length of the longs is odd
+	 * @throws IndexOutOfBoundsException if the bytes are out of bounds
+	 */
+	public int decodeAll(final byte[] bytes, final int offset, final long[] longs) {
+		checkPairs(longs);
+		RangeUtil.checkFromIndexCount(offset, longs.length / 2, UUID_BYTES, bytes.length);
+		return readAll(ByteBuffer.wrap(bytes), offset, longs);
+	}
+
+	/**
+	 * Get many UUIDs from a byte buffer.
+	 * <p>
+	 * It reads one UUID after another, 16 bytes each, at the current position,
+	 * until the destination array is filled. The position is then incremented by
+	 * 16 times the number of UUIDs.
+	 * 
+	 * @param buffer a byte buffer
+	 * @param uuids  a destination array of UUIDs
+	 * @return the byte buffer
+	 * @throws BufferUnderflowException if there are not enough bytes remaining
+	 */
+	public ByteBuffer decodeAll(final ByteBuffer buffer, final UUID[] uuids) {
+		if (buffer.remaining() / UUID_BYTES < uuids.length) {
+			throw new BufferUnderflowException();
+		}
+		buffer.position(readAll(buffer, buffer.position(), uuids));
+		return buffer;
+	}
+
+	/**
+	 * Get many UUIDs from a byte buffer as pairs of longs.
+	 * <p>
+	 * It reads one UUID after another, 16 bytes each, at the current position,
+	 * until the destination array is filled. The position is then incremented by
+	 * 8 times the number of longs.
+	 * 
+	 * @param buffer a byte buffer
+	 * @param longs  a destination array of longs with an even length
+	 * @return the byte buffer
+	 * @throws IllegalArgumentException if the length of the longs is odd
+	 * @throws BufferUnderflowException if there are not enough bytes remaining
+	 */
+	public ByteBuffer decodeAll(final ByteBuffer buffer, final long[] longs) {
+		checkPairs(longs);
+		if (buffer.remaining() / UUID_BYTES < longs.length / 2) {
+			throw new BufferUnderflowException();
+		}
+		buffer.position(readAll(buffer, buffer.position(), longs));
+		return buffer;
+	}
+
+	/**
+	 * Returns a stream of the UUIDs packed in a byte buffer.
+	 * <p>
+	 * The bytes between the position and the limit are read lazily, 16 bytes per
+	 * UUID. The position of the buffer is not changed. The stream is sized and
+	 * can be split for parallel processing.
+	 * 
+	 * @param buffer a byte buffer
+	 * @return a stream of UUIDs
+	 * @throws IllegalArgumentException if the remaining bytes are not a multiple
+	 *                                  of 16
+	 */
+	public Stream<UUID> stream(final ByteBuffer buffer) {
+		if (buffer.remaining() % UUID_BYTES != 0) {
+			throw new IllegalArgumentException("Remaining bytes not a multiple of 16: " + buffer.remaining());
+		}
+		final ByteBuffer view = buffer.duplicate().order(buffer.order());
+		final int position = view.position();
+		return IntStream.range(0, view.remaining() / UUID_BYTES).mapToObj(i -> read(view, position + i * UUID_BYTES));
+	}
+
+	private static int writeAll(final UUID[] uuids, final ByteBuffer buffer, final int index) {
+		int position = index;
+		for (int i = 0; i < uuids.length; i++) {
+			UuidValidator.validate(uuids[i]);
+			write(uuids[i].getMostSignificantBits(), uuids[i].getLeastSignificantBits(), buffer, position);
+			position += UUID_BYTES;
+		}
+		return position;
+	}
+
+	private static int writeAll(final long[] longs, final ByteBuffer buffer, final int index) {
+		int position = index;
+		for (int i = 0; i < longs.length; i += 2) {
+			write(longs[i], longs[i + 1], buffer, position);
+			position += UUID_BYTES;
+		}
+		return position;
+	}
+
+	private static int readAll(final ByteBuffer buffer, final int index, final UUID[] uuids) {
+		int position = index;
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = read(buffer, position);
+			position += UUID_BYTES;
+		}
+		return position;
+	}
+
+	private static int readAll(final ByteBuffer buffer, final int index, final long[] longs) {
+		int position = index;
+		for (int i = 0; i < longs.length; i += 2) {
+			longs[i] = getLong(buffer, position);
+			longs[i + 1] = getLong(buffer, position + 8);
+			position += UUID_BYTES;
+		}
+		return position;
+	}
+
+	private static void write(final long msb, final long lsb, final ByteBuffer buffer, final int index) {
+		putLong(buffer, index, msb);
+		putLong(buffer, index + 8, lsb);
+	}
+
+	private static UUID read(final ByteBuffer buffer, final int index) {
+		return new UUID(getLong(buffer, index), getLong(buffer, index + 8));
+	}
+
+	private static long getLong(final ByteBuffer buffer, final int index) {
+		final long value = buffer.getLong(index);
+		return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+	}
+
+	private static void putLong(final ByteBuffer buffer, final int index, final long value) {
+		buffer.putLong(index, buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value));
+	}
 
-		long msb = 0;
-		long lsb = 0;
-
-		msb |= (bytes[0x0] & 0xffL) << 56;
-		msb |= (bytes[0x1] & 0xffL) << 48;
-		msb |= (bytes[0x2] & 0xffL) << 40;
-		msb |= (bytes[0x3] & 0xffL) << 32;
-		msb |= (bytes[0x4] & 0xffL) << 24;
-		msb |= (bytes[0x5] & 0xffL) << 16;
-		msb |= (bytes[0x6] & 0xffL) << 8;
-		msb |= (bytes[0x7] & 0xffL);
-
-		lsb |= (bytes[0x8] & 0xffL) << 56;
-		lsb |= (bytes[0x9] & 0xffL) << 48;
-		lsb |= (bytes[0xa] & 0xffL) << 40;
-		lsb |= (bytes[0xb] & 0xffL) << 32;
-		lsb |= (bytes[0xc] & 0xffL) << 24;
-		lsb |= (bytes[0xd] & 0xffL) << 16;
-		lsb |= (bytes[0xe] & 0xffL) << 8;
-		lsb |= (bytes[0xf] & 0xffL);
-
-		return new UUID(msb, lsb);
+	private static void checkPairs(final long[] longs) {
+		if ((longs.length & 1) != 0) {
+			throw new IllegalArgumentException("Odd number of longs: " + longs.length);
+		}
 	}
 }
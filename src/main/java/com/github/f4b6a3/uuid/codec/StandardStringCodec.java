@@ -24,13 +24,17 @@
 
 package com.github.f4b6a3.uuid.codec;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.Base16Codec;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
-import com.github.f4b6a3.uuid.util.immutable.CharArray;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
 import com.github.f4b6a3.uuid.util.internal.JavaVersionUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
 
 /**
  * Codec for UUID canonical string as defined in RFC 9562.
@@ -76,9 +80,6 @@ public class StandardStringCodec implements UuidCodec<String> {
 	private static final int LENGTH_WITH_URN_PREFIX = 45;
 	private static final int LENGTH_WITH_CURLY_BRACES = 38;
 
-	private static final byte[] MAP = Base16Codec.INSTANCE.getBase().getMap().array();
-	private static final CharArray ALPHABET = Base16Codec.INSTANCE.getBase().getAlphabet();
-
 	private static final String URN_PREFIX = "urn:uuid:";
 	private static final boolean JAVA_VERSION_GREATER_THAN_8 = JavaVersionUtil.getJavaVersion() > 8;
 
@@ -100,50 +101,124 @@ public class StandardStringCodec implements UuidCodec<String> {
 			return uuid.toString();
 		}
 
-		final char[] chars = new char[36];
-		final long msb = uuid.getMostSignificantBits();
-		final long lsb = uuid.getLeastSignificantBits();
-
-		chars[0x00] = ALPHABET.get((int) (msb >>> 0x3c & 0xf));
-		chars[0x01] = ALPHABET.get((int) (msb >>> 0x38 & 0xf));
-		chars[0x02] = ALPHABET.get((int) (msb >>> 0x34 & 0xf));
-		chars[0x03] = ALPHABET.get((int) (msb >>> 0x30 & 0xf));
-		chars[0x04] = ALPHABET.get((int) (msb >>> 0x2c & 0xf));
-		chars[0x05] = ALPHABET.get((int) (msb >>> 0x28 & 0xf));
-		chars[0x06] = ALPHABET.get((int) (msb >>> 0x24 & 0xf));
-		chars[0x07] = ALPHABET.get((int) (msb >>> 0x20 & 0xf));
-		chars[0x08] = '-'; // 8
-		chars[0x09] = ALPHABET.get((int) (msb >>> 0x1c & 0xf));
-		chars[0x0a] = ALPHABET.get((int) (msb >>> 0x18 & 0xf));
-		chars[0x0b] = ALPHABET.get((int) (msb >>> 0x14 & 0xf));
-		chars[0x0c] = ALPHABET.get((int) (msb >>> 0x10 & 0xf));
-		chars[0x0d] = '-'; // 13
-		chars[0x0e] = ALPHABET.get((int) (msb >>> 0x0c & 0xf));
-		chars[0x0f] = ALPHABET.get((int) (msb >>> 0x08 & 0xf));
-		chars[0x10] = ALPHABET.get((int) (msb >>> 0x04 & 0xf));
-		chars[0x11] = ALPHABET.get((int) (msb & 0xf));
-		chars[0x12] = '-'; // 18
-		chars[0x13] = ALPHABET.get((int) (lsb >>> 0x3c & 0xf));
-		chars[0x14] = ALPHABET.get((int) (lsb >>> 0x38 & 0xf));
-		chars[0x15] = ALPHABET.get((int) (lsb >>> 0x34 & 0xf));
-		chars[0x16] = ALPHABET.get((int) (lsb >>> 0x30 & 0xf));
-		chars[0x17] = '-'; // 23
-		chars[0x18] = ALPHABET.get((int) (lsb >>> 0x2c & 0xf));
-		chars[0x19] = ALPHABET.get((int) (lsb >>> 0x28 & 0xf));
-		chars[0x1a] = ALPHABET.get((int) (lsb >>> 0x24 & 0xf));
-		chars[0x1b] = ALPHABET.get((int) (lsb >>> 0x20 & 0xf));
-		chars[0x1c] = ALPHABET.get((int) (lsb >>> 0x1c & 0xf));
-		chars[0x1d] = ALPHABET.get((int) (lsb >>> 0x18 & 0xf));
-		chars[0x1e] = ALPHABET.get((int) (lsb >>> 0x14 & 0xf));
-		chars[0x1f] = ALPHABET.get((int) (lsb >>> 0x10 & 0xf));
-		chars[0x20] = ALPHABET.get((int) (lsb >>> 0x0c & 0xf));
-		chars[0x21] = ALPHABET.get((int) (lsb >>> 0x08 & 0xf));
-		chars[0x22] = ALPHABET.get((int) (lsb >>> 0x04 & 0xf));
-		chars[0x23] = ALPHABET.get((int) (lsb & 0xf));
-
+		final char[] chars = new char[LENGTH_WITH_DASH];
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, 0);
 		return new String(chars);
 	}
 
+	/**
+	 * Writes the string of a UUID into a char array.
+	 * <p>
+	 * It writes 36 chars starting at the offset and doesn't create a string.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  a destination char array
+	 * @param offset the index of the first char to write
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the chars don't fit in the array
+	 */
+	public int encode(UUID uuid, char[] chars, int offset) {
+		UuidValidator.validate(uuid);
+		RangeUtil.checkFromIndexSize(offset, LENGTH_WITH_DASH, chars.length);
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, offset);
+		return offset + LENGTH_WITH_DASH;
+	}
+
+	/**
+	 * Appends the string of a UUID to a string builder.
+	 * 
+	 * @param uuid    a UUID
+	 * @param builder a string builder
+	 * @return the string builder
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	public StringBuilder encode(UUID uuid, StringBuilder builder) {
+		UuidValidator.validate(uuid);
+		final char[] chars = new char[LENGTH_WITH_DASH];
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, 0);
+		return builder.append(chars);
+	}
+
+	/**
+	 * Appends the string of a UUID to an appendable.
+	 * 
+	 * @param <A>        the appendable type
+	 * @param uuid       a UUID
+	 * @param appendable an appendable, for example, a {@link java.io.Writer}
+	 * @return the appendable
+	 * @throws InvalidUuidException if the argument is invalid
+	 * @throws IOException          if an I/O error occurs
+	 */
+	public <A extends Appendable> A encode(UUID uuid, A appendable) throws IOException {
+		UuidValidator.validate(uuid);
+		final char[] chars = new char[LENGTH_WITH_DASH];
+		write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, 0);
+		StringUtil.append(appendable, chars, 0, LENGTH_WITH_DASH);
+		return appendable;
+	}
+
+	/**
+	 * Writes the strings of many UUIDs into a char array.
+	 * <p>
+	 * The strings are written one after another, 36 chars each, starting at the
+	 * offset, without separators. It is meant for bulk conversions, such as
+	 * exporting large numbers of UUIDs.
+	 * 
+	 * @param uuids  an array of UUIDs
+	 * @param chars  a destination char array
+	 * @param offset the index of the first char to write
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if a UUID is null
+	 * @throws IndexOutOfBoundsException if the chars don't fit in the array
+	 */
+	public int encodeAll(final UUID[] uuids, final char[] chars, final int offset) {
+		RangeUtil.checkFromIndexCount(offset, uuids.length, LENGTH_WITH_DASH, chars.length);
+		int position = offset;
+		for (int i = 0; i < uuids.length; i++) {
+			UuidValidator.validate(uuids[i]);
+			write(uuids[i].getMostSignificantBits(), uuids[i].getLeastSignificantBits(), chars, position);
+			position += LENGTH_WITH_DASH;
+		}
+		return position;
+	}
+
+	/**
+	 * Writes the strings of many UUIDs into a char array.
+	 * <p>
+	 * The UUIDs are given as pairs of longs: the most significant bits followed by
+	 * the least significant bits. The strings are written one after another, 36
+	 * chars each, starting at the offset, without separators.
+	 * 
+	 * @param longs  an array of longs with an even length
+	 * @param chars  a destination char array
+	 * @param offset the index of the first char to write
+	 * @return the index after the last char written
+	 * @throws IllegalArgumentException  if the length of the longs is odd
+	 * @throws IndexOutOfBoundsException if the chars don't fit in the array
+	 */
+	public int encodeAll(final long[] longs, final char[] chars, final int offset) {
+		checkPairs(longs);
+		RangeUtil.checkFromIndexCount(offset, longs.length / 2, LENGTH_WITH_DASH, chars.length);
+		int position = offset;
+		for (int i = 0; i < longs.length; i += 2) {
+			write(longs[i], longs[i + 1], chars, position);
+			position += LENGTH_WITH_DASH;
+		}
+		return position;
+	}
+
+	private static void write(final long msb, final long lsb, final char[] chars, final int offset) {
+		HexUtil.encode(msb >>> 32, chars, offset);
+		chars[offset + DASH_POSITION_1] = '-';
+		HexUtil.encode(msb, chars, offset + 9, offset + 14);
+		chars[offset + DASH_POSITION_2] = '-';
+		chars[offset + DASH_POSITION_3] = '-';
+		HexUtil.encode(lsb >>> 32, chars, offset + 19, offset + 24);
+		chars[offset + DASH_POSITION_4] = '-';
+		HexUtil.encode(lsb, chars, offset + 28);
+	}
+
 	/**
 	 * Get a UUID from a string.
 	 * <p>
@@ -170,82 +245,247 @@ public class StandardStringCodec implements UuidCodec<String> {
 			throw InvalidUuidException.newInstance(null);
 		}
 
-		final String modified = modify(string);
+		return decode(string, 0, string.length());
+	}
+
+	/**
+	 * Get a UUID from a region of a char sequence.
+	 * <p>
+	 * It accepts the same formats as {@link #decode(String)}. The region is parsed
+	 * in place, without creating intermediate strings.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @param length the length of the region
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID decode(final CharSequence chars, final int offset, final int length) {
 
-		if (modified.length() == LENGTH_WITH_DASH) {
-			validate(modified);
-			return parse(modified);
+		if (chars == null) {
+			throw InvalidUuidException.newInstance(null);
 		}
 
-		if (modified.length() == LENGTH_WITHOUT_DASH) {
-			return Base16Codec.INSTANCE.decode(modified);
+		final UUID uuid = tryDecode(chars, offset, length);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(chars.subSequence(offset, offset + length));
 		}
 
-		throw InvalidUuidException.newInstance(modified);
+		return uuid;
 	}
 
-	private UUID parse(final String string) {
+	/**
+	 * Get a UUID from a string, or null if the string is invalid.
+	 * <p>
+	 * It accepts the same formats as {@link #decode(String)}, but it doesn't throw
+	 * exceptions. The string is validated and parsed in a single pass.
+	 * 
+	 * @param string a UUID string
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(final String string) {
 
-		long msb = 0L;
-		long lsb = 0L;
+		if (string == null) {
+			return null;
+		}
 
-		for (int i = 0; i < 8; i++) {
-			msb = (msb << 4) | get(string, i);
+		return tryDecode(string, 0, string.length());
+	}
+
+	/**
+	 * Get a UUID from a region of a char sequence, or null if the region is
+	 * invalid.
+	 * <p>
+	 * It accepts the same formats as {@link #decode(String)}, but it doesn't throw
+	 * exceptions for invalid regions.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @param length the length of the region
+	 * @return a UUID, or null if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID tryDecode(final CharSequence chars, final int offset, final int length) {
+
+		if (chars == null) {
+			return null;
 		}
 
-		for (int i = 9; i < 13; i++) {
-			msb = (msb << 4) | get(string, i);
+		RangeUtil.checkFromIndexSize(offset, length, chars.length());
+
+		int start = offset;
+		int size = length;
+
+		if (size == LENGTH_WITH_URN_PREFIX && isUrnPrefix(chars, start)) {
+			// UUID URN format: "urn:uuid:00000000-0000-0000-0000-000000000000"
+			start += URN_PREFIX.length();
+			size -= URN_PREFIX.length();
+		} else if (size == LENGTH_WITH_CURLY_BRACES && chars.charAt(start) == '{'
+				&& chars.charAt(start + size - 1) == '}') {
+			// Curly braces format: "{00000000-0000-0000-0000-000000000000}"
+			start += 1;
+			size -= 2;
 		}
 
-		for (int i = 14; i < 18; i++) {
-			msb = (msb << 4) | get(string, i);
+		if (size == LENGTH_WITH_DASH) {
+			if (chars.charAt(start + DASH_POSITION_1) == '-' && chars.charAt(start + DASH_POSITION_2) == '-'
+					&& chars.charAt(start + DASH_POSITION_3) == '-' && chars.charAt(start + DASH_POSITION_4) == '-') {
+				return parse(chars, start, start + 9, start + 14, start + 19, start + 24, start + 28);
+			}
+		} else if (size == LENGTH_WITHOUT_DASH) {
+			return parse(chars, start, start + 8, start + 12, start + 16, start + 20, start + 24);
 		}
 
-		for (int i = 19; i < 23; i++) {
-			lsb = (lsb << 4) | get(string, i);
+		return null;
+	}
+
+	/**
+	 * Get a UUID from a region of a char array.
+	 * <p>
+	 * It accepts the same formats as {@link #decode(String)}. The region is parsed
+	 * in place, without creating intermediate strings.
+	 * 
+	 * @param chars  a char array
+	 * @param offset the index of the first char of the region
+	 * @param length the length of the region
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID decode(final char[] chars, final int offset, final int length) {
+		if (chars == null) {
+			throw InvalidUuidException.newInstance(null);
 		}
+		return decode(CharBuffer.wrap(chars), offset, length);
+	}
 
-		for (int i = 24; i < 36; i++) {
-			lsb = (lsb << 4) | get(string, i);
+	/**
+	 * Get many UUIDs from a char array.
+	 * <p>
+	 * It reads one canonical string after another, 36 chars each, starting at the
+	 * offset, without separators, until the destination array is filled. It is
+	 * meant for bulk conversions, such as importing large numbers of UUIDs.
+	 * 
+	 * @param chars  a char array
+	 * @param offset the index of the first char to read
+	 * @param uuids  a destination array of UUIDs
+	 * @return the index after the last char read
+	 * @throws InvalidUuidException      if a string is invalid
+	 * @throws IndexOutOfBoundsException if the chars are out of bounds
+	 */
+	public int decodeAll(final char[] chars, final int offset, final UUID[] uuids) {
+		RangeUtil.checkFromIndexCount(offset, uuids.length, LENGTH_WITH_DASH, chars.length);
+		int position = offset;
+		for (int i = 0; i < uuids.length; i++) {
+			final long msb = parseMsb(chars, position);
+			final long lsb = parseLsb(chars, position);
+			uuids[i] = new UUID(msb, lsb);
+			position += LENGTH_WITH_DASH;
 		}
+		return position;
+	}
 
-		return new UUID(msb, lsb);
+	/**
+	 * Get many UUIDs from a char array as pairs of longs.
+	 * <p>
+	 * It reads one canonical string after another, 36 chars each, starting at the
+	 * offset, without separators, until the destination array is filled. Each UUID
+	 * is stored as its most significant bits followed by its least significant
+	 * bits. No UUID object is created.
+	 * 
+	 * @param chars  a char array
+	 * @param offset the index of the first char to read
+	 * @param longs  a destination array of longs with an even length
+	 * @return the index after the last char read
+	 * @throws InvalidUuidException      if a string is invalid
+	 * @throws IllegalArgumentException  if the length of the longs is odd
+	 * @throws IndexOutOfBoundsException if the chars are out of bounds
+	 */
+	public int decodeAll(final char[] chars, final int offset, final long[] longs) {
+		checkPairs(longs);
+		RangeUtil.checkFromIndexCount(offset, longs.length / 2, LENGTH_WITH_DASH, chars.length);
+		int position = offset;
+		for (int i = 0; i < longs.length; i += 2) {
+			longs[i] = parseMsb(chars, position);
+			longs[i + 1] = parseLsb(chars, position);
+			position += LENGTH_WITH_DASH;
+		}
+		return position;
 	}
 
-	protected static String modify(final String string) {
+	private static long parseMsb(final char[] chars, final int offset) {
+		if (chars[offset + DASH_POSITION_1] == '-' && chars[offset + DASH_POSITION_2] == '-') {
+			final long a = HexUtil.decode(chars, offset);
+			final long b = HexUtil.decode(chars, offset + 9, offset + 14);
+			if ((a | b) >= 0) {
+				return (a << 32) | b;
+			}
+		}
+		throw InvalidUuidException.newInstance(new String(chars, offset, LENGTH_WITH_DASH));
+	}
 
-		// UUID URN format: "urn:uuid:00000000-0000-0000-0000-000000000000"
-		if (string.length() == LENGTH_WITH_URN_PREFIX && string.startsWith(URN_PREFIX)) {
-			return string.substring(URN_PREFIX.length()); // Remove the URN prefix: "urn:uuid:"
+	private static long parseLsb(final char[] chars, final int offset) {
+		if (chars[offset + DASH_POSITION_3] == '-' && chars[offset + DASH_POSITION_4] == '-') {
+			final long c = HexUtil.decode(chars, offset + 19, offset + 24);
+			final long d = HexUtil.decode(chars, offset + 28);
+			if ((c | d) >= 0) {
+				return (c << 32) | d;
+			}
 		}
+		throw InvalidUuidException.newInstance(new String(chars, offset, LENGTH_WITH_DASH));
+	}
 
-		// Curly braces format: "{00000000-0000-0000-0000-000000000000}"
-		if (string.length() == LENGTH_WITH_CURLY_BRACES && string.startsWith("{") && string.endsWith("}")) {
-			return string.substring(1, string.length() - 1); // Remove curly braces: '{' and '}'
+	private static void checkPairs(final long[] longs) {
+		if ((longs.length & 1) != 0) {
+			throw new IllegalArgumentException("Odd number of longs: " + longs.length);
 		}
+	}
 
-		return string;
+	/**
+	 * Parses 4 blocks of 8 hexadecimal digits, using SWAR.
+	 * <p>
+	 * The 2nd and 3rd blocks are split in two groups of 4 digits each.
+	 * 
+	 * @return a UUID, or null if a char is not a hexadecimal digit
+	 */
+	private static UUID parse(final CharSequence chars, final int block1, final int block2a, final int block2b,
+			final int block3a, final int block3b, final int block4) {
+
+		final long a = HexUtil.decode(chars, block1);
+		final long b = HexUtil.decode(chars, block2a, block2b);
+		final long c = HexUtil.decode(chars, block3a, block3b);
+		final long d = HexUtil.decode(chars, block4);
+
+		if ((a | b | c | d) < 0) {
+			return null;
+		}
+
+		return new UUID((a << 32) | b, (c << 32) | d);
 	}
 
-	private static void validate(final String string) {
-		if (string.charAt(DASH_POSITION_1) != '-' || string.charAt(DASH_POSITION_2) != '-'
-				|| string.charAt(DASH_POSITION_3) != '-' || string.charAt(DASH_POSITION_4) != '-') {
-			throw InvalidUuidException.newInstance(string);
+	private static boolean isUrnPrefix(final CharSequence chars, final int offset) {
+		for (int i = 0; i < URN_PREFIX.length(); i++) {
+			if (chars.charAt(offset + i) != URN_PREFIX.charAt(i)) {
+				return false;
+			}
 		}
+		return true;
 	}
 
-	private long get(final String string, final int i) {
+	protected static String modify(final String string) {
 
-		final int chr = string.charAt(i);
-		if (chr > 255) {
-			throw InvalidUuidException.newInstance(string);
+		// UUID URN format: "urn:uuid:00000000-0000-0000-0000-000000000000"
+		if (string.length() == LENGTH_WITH_URN_PREFIX && string.startsWith(URN_PREFIX)) {
+			return string.substring(URN_PREFIX.length()); // Remove the URN prefix: "urn:uuid:"
 		}
 
-		final byte value = MAP[chr];
-		if (value < 0) {
-			throw InvalidUuidException.newInstance(string);
+		// Curly braces format: "{00000000-0000-0000-0000-000000000000}"
+		if (string.length() == LENGTH_WITH_CURLY_BRACES && string.startsWith("{") && string.endsWith("}")) {
+			return string.substring(1, string.length() - 1); // Remove curly braces: '{' and '}'
 		}
 
-		return value & 0xffL;
+		return string;
 	}
 }
@@ -78,10 +78,28 @@ public class UriCodec implements UuidCodec<URI> {
 	 */
 	@Override
 	public UUID decode(URI uri) {
-		if (!isUuidUri(uri)) {
+		final UUID uuid = tryDecode(uri);
+		if (uuid == null) {
 			throw InvalidUuidException.newInstance(uri);
 		}
-		return StandardStringCodec.INSTANCE.decode(uri.toString());
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a URI, or null if the URI is invalid.
+	 * <p>
+	 * It doesn't throw exceptions. The URI is validated and parsed in a single
+	 * pass.
+	 * 
+	 * @param uri a URI
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(URI uri) {
+		if (uri == null || !uri.isOpaque()) {
+			return null;
+		}
+		return UrnCodec.INSTANCE.tryDecode(uri.toString());
 	}
 
 	/**
@@ -91,6 +109,6 @@ public class UriCodec implements UuidCodec<URI> {
 	 * @return true if the it's a URN
 	 */
 	public static boolean isUuidUri(URI uri) {
-		return uri != null && UrnCodec.isUuidUrn(uri.toString());
+		return INSTANCE.tryDecode(uri) != null;
 	}
 }
@@ -24,10 +24,13 @@
 
 package com.github.f4b6a3.uuid.codec;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
 
 /**
  * Codec for UUID URNs.
@@ -55,6 +58,7 @@ public class UrnCodec implements UuidCodec<String> {
 	public static final UrnCodec INSTANCE = new UrnCodec();
 
 	private static final String URN_PREFIX = "urn:uuid:";
+	private static final int URN_LENGTH = 45;
 
 	/**
 	 * Get a URN string from a UUID.
@@ -69,6 +73,54 @@ public class UrnCodec implements UuidCodec<String> {
 		return URN_PREFIX + StandardStringCodec.INSTANCE.encode(uuid);
 	}
 
+	/**
+	 * Writes the URN of a UUID into a char array.
+	 * <p>
+	 * It writes 45 chars starting at the offset and doesn't create a string.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  a destination char array
+	 * @param offset the index of the first char to write
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the chars don't fit in the array
+	 */
+	public int encode(UUID uuid, char[] chars, int offset) {
+		UuidValidator.validate(uuid);
+		RangeUtil.checkFromIndexSize(offset, URN_LENGTH, chars.length);
+		URN_PREFIX.getChars(0, URN_PREFIX.length(), chars, offset);
+		return StandardStringCodec.INSTANCE.encode(uuid, chars, offset + URN_PREFIX.length());
+	}
+
+	/**
+	 * Appends the URN of a UUID to a string builder.
+	 * 
+	 * @param uuid    a UUID
+	 * @param builder a string builder
+	 * @return the string builder
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	public StringBuilder encode(UUID uuid, StringBuilder builder) {
+		UuidValidator.validate(uuid);
+		return StandardStringCodec.INSTANCE.encode(uuid, builder.append(URN_PREFIX));
+	}
+
+	/**
+	 * Appends the URN of a UUID to an appendable.
+	 * 
+	 * @param <A>        the appendable type
+	 * @param uuid       a UUID
+	 * @param appendable an appendable, for example, a {@link java.io.Writer}
+	 * @return the appendable
+	 * @throws InvalidUuidException if the argument is invalid
+	 * @throws IOException          if an I/O error occurs
+	 */
+	public <A extends Appendable> A encode(UUID uuid, A appendable) throws IOException {
+		UuidValidator.validate(uuid);
+		appendable.append(URN_PREFIX);
+		return StandardStringCodec.INSTANCE.encode(uuid, appendable);
+	}
+
 	/**
 	 * Get a UUID from a URN string.
 	 * 
@@ -78,10 +130,108 @@ public class UrnCodec implements UuidCodec<String> {
 	 */
 	@Override
 	public UUID decode(String urn) {
-		if (!isUuidUrn(urn)) {
+		final UUID uuid = tryDecode(urn);
+		if (uuid == null) {
 			throw InvalidUuidException.newInstance(urn);
 		}
-		return StandardStringCodec.INSTANCE.decode(urn);
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a region of a char sequence that contains a URN.
+	 * <p>
+	 * The region is parsed in place, without creating intermediate strings.
+	 * 
+	 * @param urn    a char sequence
+	 * @param offset the index of the first char of the URN
+	 * @param length the length of the URN
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID decode(CharSequence urn, int offset, int length) {
+
+		if (urn == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+
+		final UUID uuid = tryDecode(urn, offset, length);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(urn.subSequence(offset, offset + length));
+		}
+
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a URN string, or null if the string is invalid.
+	 * <p>
+	 * It doesn't throw exceptions. The string is validated and parsed in a single
+	 * pass.
+	 * 
+	 * @param urn a URN string
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(String urn) {
+		if (urn == null) {
+			return null;
+		}
+		return tryDecode(urn, 0, urn.length());
+	}
+
+	/**
+	 * Get a UUID from a region of a char sequence that contains a URN, or null if
+	 * the region is invalid.
+	 * 
+	 * @param urn    a char sequence
+	 * @param offset the index of the first char of the URN
+	 * @param length the length of the URN
+	 * @return a UUID, or null if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID tryDecode(CharSequence urn, int offset, int length) {
+
+		if (urn == null) {
+			return null;
+		}
+
+		RangeUtil.checkFromIndexSize(offset, length, urn.length());
+
+		if (length != URN_LENGTH || !isUrnPrefix(urn, offset)) {
+			return null;
+		}
+
+		return StandardStringCodec.INSTANCE.tryDecode(urn, offset + URN_PREFIX.length(),
+				length - URN_PREFIX.length());
+	}
+
+	/**
+	 * Get a UUID from a region of a char array that contains a URN.
+	 * <p>
+	 * The region is parsed in place, without creating intermediate strings.
+	 * 
+	 * @param urn    a char array
+	 * @param offset the index of the first char of the URN
+	 * @param length the length of the URN
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID decode(char[] urn, int offset, int length) {
+		if (urn == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		return decode(CharBuffer.wrap(urn), offset, length);
+	}
+
+	private static boolean isUrnPrefix(CharSequence urn, int offset) {
+		for (int i = 0; i < URN_PREFIX.length(); i++) {
+			if (urn.charAt(offset + i) != URN_PREFIX.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -91,12 +241,18 @@ public class UrnCodec implements UuidCodec<String> {
 	 * @return true if the it's a URN
 	 */
 	public static boolean isUuidUrn(String urn) {
-		final int stringLength = 45; // URN string length
-		final int prefixLength = 9; // URN prefix length
-		if (urn != null && urn.length() == stringLength) {
-			String uuid = urn.substring(prefixLength);
-			return UuidValidator.isValid(uuid);
-		}
-		return false;
+		return isUuidUrn((CharSequence) urn);
+	}
+
+	/**
+	 * Check if a URN char sequence is a UUID URN.
+	 * <p>
+	 * It checks each char only once and doesn't create intermediate strings.
+	 * 
+	 * @param urn a char sequence
+	 * @return true if the it's a URN
+	 */
+	public static boolean isUuidUrn(CharSequence urn) {
+		return urn != null && INSTANCE.tryDecode(urn, 0, urn.length()) != null;
 	}
 }
@@ -59,4 +59,22 @@ public interface UuidCodec<T> {
 	 * @throws InvalidUuidException if the argument is invalid
 	 */
 	UUID decode(T type);
+
+	/**
+	 * Get a UUID from a generic type, or null if the argument is invalid.
+	 * <p>
+	 * This implementation catches the exception thrown by
+	 * {@link #decode(Object)}. Implementations may override it to validate and
+	 * decode in a single pass, without creating exceptions.
+	 * 
+	 * @param type a generic type
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	default UUID tryDecode(T type) {
+		try {
+			return decode(type);
+		} catch (InvalidUuidException e) {
+			return null;
+		}
+	}
 }
\ No newline at end of file
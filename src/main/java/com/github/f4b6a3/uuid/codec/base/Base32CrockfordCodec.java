@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.base;
+
+import com.github.f4b6a3.uuid.codec.base.function.Base32CrockfordDecoder;
+import com.github.f4b6a3.uuid.codec.base.function.Base32CrockfordEncoder;
+
+/**
+ * Codec for Crockford's base-32, compatible with ULID.
+ * <p>
+ * It encodes a UUID as a 128-bit integer in 26 chars, the same way a ULID is
+ * encoded. The strings of UUIDv7 and other time-ordered UUIDs are sorted in
+ * the same order as the UUIDs.
+ * <p>
+ * It is case insensitive, so it decodes from lower and upper case, but encodes
+ * to upper case only, like ULID. It also decodes 'I' and 'L' as '1', and 'O'
+ * as '0'.
+ * <p>
+ * Unlike {@link Base32Codec}, it doesn't encode the UUID bytes sequentially as
+ * RFC-4648 does.
+ * 
+ * @see <a href="https://www.crockford.com/base32.html">Crockford's Base32</a>
+ * @see <a href="https://github.com/ulid/spec">ULID Specification</a>
+ */
+public final class Base32CrockfordCodec extends BaseNCodec {
+
+	private static final BaseN BASE_N = new BaseN("0123456789ABCDEFGHJKMNPQRSTVWXYZ");
+
+	/**
+	 * A shared immutable instance.
+	 */
+	public static final Base32CrockfordCodec INSTANCE = new Base32CrockfordCodec();
+
+	/**
+	 * Default constructor.
+	 */
+	public Base32CrockfordCodec() {
+		super(BASE_N, new Base32CrockfordEncoder(BASE_N), new Base32CrockfordDecoder(BASE_N));
+	}
+}
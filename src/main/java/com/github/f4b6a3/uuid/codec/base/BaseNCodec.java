@@ -24,16 +24,21 @@
 
 package com.github.f4b6a3.uuid.codec.base;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.UUID;
 import java.util.function.Function;
 
 import com.github.f4b6a3.uuid.codec.UuidCodec;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNDecoder;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNEncoder;
-import com.github.f4b6a3.uuid.codec.base.function.BaseNRemainderDecoder;
+import com.github.f4b6a3.uuid.codec.base.function.BaseNPowerDecoder;
+import com.github.f4b6a3.uuid.codec.base.function.BaseNPowerEncoder;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNRemainderEncoder;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
 
 /**
  * Abstract class that contains the basic functionality for base-n codecs of
@@ -91,11 +96,15 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	}
 
 	/**
+	 * If the divider is null, the encoder divides by powers of the radix instead
+	 * of the radix itself. See {@link BaseNPowerEncoder}. The decoder always
+	 * multiplies by powers of the radix. See {@link BaseNPowerDecoder}.
+	 * 
 	 * @param base    an object that represents the base-n encoding
 	 * @param divider a division function that returns quotient and remainder
 	 */
 	protected BaseNCodec(BaseN base, CustomDivider divider) {
-		this(base, new BaseNRemainderEncoder(base, divider), new BaseNRemainderDecoder(base));
+		this(base, encoder(base, divider), new BaseNPowerDecoder(base));
 	}
 
 	/**
@@ -109,6 +118,13 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 		this.decoder = decoder;
 	}
 
+	private static BaseNEncoder encoder(BaseN base, CustomDivider divider) {
+		if (divider == null) {
+			return new BaseNPowerEncoder(base);
+		}
+		return new BaseNRemainderEncoder(base, divider);
+	}
+
 	/**
 	 * Static factory that returns a new instance of {@link BaseNCodec} using the
 	 * specified {@link BaseN}.
@@ -117,7 +133,9 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	 * package class is desired.
 	 * <p>
 	 * The {@link BaseNCodec} objects provided by this method encode UUIDs using
-	 * remainder operation (modulus), a common approach to encode integers.
+	 * remainder operation (modulus), a common approach to encode integers. Unless
+	 * a {@link CustomDivider} is given, they divide by the largest power of the
+	 * radix that fits in a word, extracting several digits per division.
 	 * <p>
 	 * If you need a {@link BaseN} that is not available in this package, use the
 	 * static factories {@link BaseNCodec#newInstance(String)} or
@@ -138,7 +156,9 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	 * package class is desired.
 	 * <p>
 	 * The {@link BaseNCodec} objects provided by this method encode UUIDs using
-	 * remainder operator (modulus), a common approach to encode integers.
+	 * remainder operator (modulus), a common approach to encode integers. Unless
+	 * a {@link CustomDivider} is given, they divide by the largest power of the
+	 * radix that fits in a word, extracting several digits per division.
 	 * <p>
 	 * The example below shows how to create a {@link BaseNCodec} for an
 	 * hypothetical base-40 encoding that contains only letters. You only need to
@@ -171,7 +191,9 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	 * package class is desired.
 	 * <p>
 	 * The {@link BaseNCodec} objects provided by this method encode UUIDs using
-	 * remainder operator (modulus), a common approach to encode integers.
+	 * remainder operator (modulus), a common approach to encode integers. Unless
+	 * a {@link CustomDivider} is given, they divide by the largest power of the
+	 * radix that fits in a word, extracting several digits per division.
 	 * <p>
 	 * The example below shows how to create a {@link BaseNCodec} for an
 	 * hypothetical base-26 encoding that contains only letters. You only need to
@@ -264,6 +286,97 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 		}
 	}
 
+	/**
+	 * Writes the encoded string of a UUID into a char array.
+	 * <p>
+	 * It writes as many chars as the base-n length, starting at the offset, and
+	 * doesn't create a string.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  a destination char array
+	 * @param offset the index of the first char to write
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the chars don't fit in the array
+	 */
+	public int encode(UUID uuid, char[] chars, int offset) {
+
+		RangeUtil.checkFromIndexSize(offset, this.base.getLength(), chars.length);
+
+		try {
+			UuidValidator.validate(uuid);
+			if (encoder instanceof BaseNEncoder) {
+				return ((BaseNEncoder) encoder).apply(uuid, chars, offset);
+			}
+			final String string = encoder.apply(uuid);
+			string.getChars(0, string.length(), chars, offset);
+			return offset + string.length();
+		} catch (RuntimeException e) {
+			throw new InvalidUuidException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Writes the encoded string of a UUID into a byte array as Latin-1 bytes.
+	 * <p>
+	 * It writes as many bytes as the base-n length, starting at the offset, and
+	 * doesn't create a string.
+	 *
+	 * @param uuid   a UUID
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encode(UUID uuid, byte[] bytes, int offset) {
+
+		RangeUtil.checkFromIndexSize(offset, this.base.getLength(), bytes.length);
+
+		try {
+			UuidValidator.validate(uuid);
+			if (encoder instanceof BaseNEncoder) {
+				return ((BaseNEncoder) encoder).apply(uuid, bytes, offset);
+			}
+			final String string = encoder.apply(uuid);
+			for (int i = 0; i < string.length(); i++) {
+				bytes[offset + i] = (byte) string.charAt(i);
+			}
+			return offset + string.length();
+		} catch (RuntimeException e) {
+			throw new InvalidUuidException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Appends the encoded string of a UUID to a string builder.
+	 * 
+	 * @param uuid    a UUID
+	 * @param builder a string builder
+	 * @return the string builder
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	public StringBuilder encode(UUID uuid, StringBuilder builder) {
+		final char[] chars = new char[this.base.getLength()];
+		return builder.append(chars, 0, encode(uuid, chars, 0));
+	}
+
+	/**
+	 * Appends the encoded string of a UUID to an appendable.
+	 * 
+	 * @param <A>        the appendable type
+	 * @param uuid       a UUID
+	 * @param appendable an appendable, for example, a {@link java.io.Writer}
+	 * @return the appendable
+	 * @throws InvalidUuidException if the argument is invalid
+	 * @throws IOException          if an I/O error occurs
+	 */
+	public <A extends Appendable> A encode(UUID uuid, A appendable) throws IOException {
+		final char[] chars = new char[this.base.getLength()];
+		StringUtil.append(appendable, chars, 0, encode(uuid, chars, 0));
+		return appendable;
+	}
+
 	/**
 	 * Get a UUID from an encoded string.
 	 * 
@@ -273,14 +386,134 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	 */
 	@Override
 	public UUID decode(String string) {
+
+		if (!(decoder instanceof BaseNDecoder)) {
+			// custom decoders may throw anything
+			try {
+				validate(string);
+				return decoder.apply(string);
+			} catch (RuntimeException e) {
+				throw new InvalidUuidException(e.getMessage(), e);
+			}
+		}
+
+		// validate and decode in a single pass; throw a single exception
+		final UUID uuid = tryDecode(string);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(string);
+		}
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a region of a char sequence.
+	 * <p>
+	 * The region is decoded in place, without creating intermediate strings.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @param length the length of the region
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID decode(CharSequence chars, int offset, int length) {
+
+		if (chars == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+
+		RangeUtil.checkFromIndexSize(offset, length, chars.length());
+
+		if (length != this.base.getLength()) {
+			throw InvalidUuidException.newInstance(chars.subSequence(offset, offset + length));
+		}
+
+		if (decoder instanceof BaseNDecoder) {
+			final UUID uuid = ((BaseNDecoder) decoder).tryApply(chars, offset);
+			if (uuid == null) {
+				throw InvalidUuidException.newInstance(chars.subSequence(offset, offset + length));
+			}
+			return uuid;
+		}
+
+		// custom decoders may throw anything
 		try {
-			validate(string);
-			return decoder.apply(string);
+			return decoder.apply(chars.subSequence(offset, offset + length).toString());
 		} catch (RuntimeException e) {
 			throw new InvalidUuidException(e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * Get a UUID from a region of a char array.
+	 * <p>
+	 * The region is decoded in place, without creating intermediate strings.
+	 * 
+	 * @param chars  a char array
+	 * @param offset the index of the first char of the region
+	 * @param length the length of the region
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID decode(char[] chars, int offset, int length) {
+		if (chars == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		return decode(CharBuffer.wrap(chars), offset, length);
+	}
+
+	/**
+	 * Get a UUID from an encoded string, or null if the string is invalid.
+	 * <p>
+	 * It doesn't throw exceptions. The string is validated and decoded in a single
+	 * pass.
+	 * 
+	 * @param string the encoded string
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(String string) {
+		if (string == null) {
+			return null;
+		}
+		return tryDecode(string, 0, string.length());
+	}
+
+	/**
+	 * Get a UUID from a region of a char sequence, or null if the region is
+	 * invalid.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @param length the length of the region
+	 * @return a UUID, or null if the region is invalid
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public UUID tryDecode(CharSequence chars, int offset, int length) {
+
+		if (chars == null) {
+			return null;
+		}
+
+		RangeUtil.checkFromIndexSize(offset, length, chars.length());
+
+		if (length != this.base.getLength()) {
+			return null;
+		}
+
+		if (decoder instanceof BaseNDecoder) {
+			return ((BaseNDecoder) decoder).tryApply(chars, offset);
+		}
+
+		try {
+			return decoder.apply(chars.subSequence(offset, offset + length).toString());
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
 	protected void validate(String string) {
 		if (string == null || string.length() != this.base.getLength()) {
 			throw InvalidUuidException.newInstance(string);
@@ -27,6 +27,7 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
 
 /**
  * Function that decodes a base-16 string to a UUID.
@@ -37,6 +38,10 @@ import com.github.f4b6a3.uuid.codec.base.BaseN;
  */
 public final class Base16Decoder extends BaseNDecoder {
 
+	private final boolean swar; // true if the alphabet is "0-9a-f"
+
+	private static final String HEX = "0123456789abcdef";
+
 	/**
 	 * Constructor with a base-n.
 	 * 
@@ -44,20 +49,56 @@ public final class Base16Decoder extends BaseNDecoder {
 	 */
 	public Base16Decoder(BaseN base) {
 		super(base);
+		this.swar = !base.isSensitive() && HEX.equals(new String(base.getAlphabet().array()));
 	}
 
 	@Override
 	public UUID apply(String string) {
+		return apply(string, 0);
+	}
+
+	@Override
+	public UUID apply(CharSequence chars, int offset) {
+		final UUID uuid = tryApply(chars, offset);
+		if (uuid == null) {
+			throw invalid(chars, offset);
+		}
+		return uuid;
+	}
+
+	@Override
+	public UUID tryApply(CharSequence chars, int offset) {
+
+		if (swar) {
+			// 8 digits at a time
+			final long a = HexUtil.decode(chars, offset);
+			final long b = HexUtil.decode(chars, offset + 8);
+			final long c = HexUtil.decode(chars, offset + 16);
+			final long d = HexUtil.decode(chars, offset + 24);
+			if ((a | b | c | d) < 0) {
+				return null;
+			}
+			return new UUID((a << 32) | b, (c << 32) | d);
+		}
 
 		long msb = 0;
 		long lsb = 0;
+		long invalid = 0; // negative if a char is invalid
 
 		for (int i = 0; i < 16; i++) {
-			msb = (msb << 4) | get(string, i);
+			final long value = value(chars, offset, i);
+			msb = (msb << 4) | value;
+			invalid |= value;
 		}
 
 		for (int i = 16; i < 32; i++) {
-			lsb = (lsb << 4) | get(string, i);
+			final long value = value(chars, offset, i);
+			lsb = (lsb << 4) | value;
+			invalid |= value;
+		}
+
+		if (invalid < 0) {
+			return null;
 		}
 
 		return new UUID(msb, lsb);
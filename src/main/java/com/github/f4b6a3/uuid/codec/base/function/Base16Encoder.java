@@ -27,6 +27,8 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
 
 /**
  * Function that encodes a UUID to a base-16 string.
@@ -37,7 +39,10 @@ import com.github.f4b6a3.uuid.codec.base.BaseN;
  */
 public final class Base16Encoder extends BaseNEncoder {
 
+	private final boolean swar; // true if the alphabet is "0-9a-f"
+
 	private static final int CHAR_LENGTH = 32;
+	private static final String HEX = "0123456789abcdef";
 
 	/**
 	 * Constructor with a base-n.
@@ -46,49 +51,122 @@ public final class Base16Encoder extends BaseNEncoder {
 	 */
 	public Base16Encoder(BaseN base) {
 		super(base);
+		this.swar = HEX.equals(new String(base.getAlphabet().array()));
 	}
 
 	@Override
 	public String apply(UUID uuid) {
-
+		if (latin1) {
+			final byte[] bytes = new byte[CHAR_LENGTH];
+			apply(uuid, bytes, 0);
+			return StringUtil.latin1(bytes);
+		}
 		final char[] chars = new char[CHAR_LENGTH];
+		apply(uuid, chars, 0);
+		return new String(chars);
+	}
+
+	@Override
+	public int apply(UUID uuid, char[] chars, int offset) {
+
 		final long msb = uuid.getMostSignificantBits();
 		final long lsb = uuid.getLeastSignificantBits();
 
-		chars[0x00] = get(msb >>> 0x3c & 0xf);
-		chars[0x01] = get(msb >>> 0x38 & 0xf);
-		chars[0x02] = get(msb >>> 0x34 & 0xf);
-		chars[0x03] = get(msb >>> 0x30 & 0xf);
-		chars[0x04] = get(msb >>> 0x2c & 0xf);
-		chars[0x05] = get(msb >>> 0x28 & 0xf);
-		chars[0x06] = get(msb >>> 0x24 & 0xf);
-		chars[0x07] = get(msb >>> 0x20 & 0xf);
-		chars[0x08] = get(msb >>> 0x1c & 0xf);
-		chars[0x09] = get(msb >>> 0x18 & 0xf);
-		chars[0x0a] = get(msb >>> 0x14 & 0xf);
-		chars[0x0b] = get(msb >>> 0x10 & 0xf);
-		chars[0x0c] = get(msb >>> 0x0c & 0xf);
-		chars[0x0d] = get(msb >>> 0x08 & 0xf);
-		chars[0x0e] = get(msb >>> 0x04 & 0xf);
-		chars[0x0f] = get(msb >>> 0x00 & 0xf);
-
-		chars[0x10] = get(lsb >>> 0x3c & 0xf);
-		chars[0x11] = get(lsb >>> 0x38 & 0xf);
-		chars[0x12] = get(lsb >>> 0x34 & 0xf);
-		chars[0x13] = get(lsb >>> 0x30 & 0xf);
-		chars[0x14] = get(lsb >>> 0x2c & 0xf);
-		chars[0x15] = get(lsb >>> 0x28 & 0xf);
-		chars[0x16] = get(lsb >>> 0x24 & 0xf);
-		chars[0x17] = get(lsb >>> 0x20 & 0xf);
-		chars[0x18] = get(lsb >>> 0x1c & 0xf);
-		chars[0x19] = get(lsb >>> 0x18 & 0xf);
-		chars[0x1a] = get(lsb >>> 0x14 & 0xf);
-		chars[0x1b] = get(lsb >>> 0x10 & 0xf);
-		chars[0x1c] = get(lsb >>> 0x0c & 0xf);
-		chars[0x1d] = get(lsb >>> 0x08 & 0xf);
-		chars[0x1e] = get(lsb >>> 0x04 & 0xf);
-		chars[0x1f] = get(lsb >>> 0x00 & 0xf);
+		if (swar) {
+			// 8 digits at a time
+			HexUtil.encode(msb >>> 32, chars, offset);
+			HexUtil.encode(msb, chars, offset + 8);
+			HexUtil.encode(lsb >>> 32, chars, offset + 16);
+			HexUtil.encode(lsb, chars, offset + 24);
+			return offset + CHAR_LENGTH;
+		}
 
-		return new String(chars);
+		chars[offset + 0x00] = get(msb >>> 0x3c & 0xf);
+		chars[offset + 0x01] = get(msb >>> 0x38 & 0xf);
+		chars[offset + 0x02] = get(msb >>> 0x34 & 0xf);
+		chars[offset + 0x03] = get(msb >>> 0x30 & 0xf);
+		chars[offset + 0x04] = get(msb >>> 0x2c & 0xf);
+		chars[offset + 0x05] = get(msb >>> 0x28 & 0xf);
+		chars[offset + 0x06] = get(msb >>> 0x24 & 0xf);
+		chars[offset + 0x07] = get(msb >>> 0x20 & 0xf);
+		chars[offset + 0x08] = get(msb >>> 0x1c & 0xf);
+		chars[offset + 0x09] = get(msb >>> 0x18 & 0xf);
+		chars[offset + 0x0a] = get(msb >>> 0x14 & 0xf);
+		chars[offset + 0x0b] = get(msb >>> 0x10 & 0xf);
+		chars[offset + 0x0c] = get(msb >>> 0x0c & 0xf);
+		chars[offset + 0x0d] = get(msb >>> 0x08 & 0xf);
+		chars[offset + 0x0e] = get(msb >>> 0x04 & 0xf);
+		chars[offset + 0x0f] = get(msb >>> 0x00 & 0xf);
+
+		chars[offset + 0x10] = get(lsb >>> 0x3c & 0xf);
+		chars[offset + 0x11] = get(lsb >>> 0x38 & 0xf);
+		chars[offset + 0x12] = get(lsb >>> 0x34 & 0xf);
+		chars[offset + 0x13] = get(lsb >>> 0x30 & 0xf);
+		chars[offset + 0x14] = get(lsb >>> 0x2c & 0xf);
+		chars[offset + 0x15] = get(lsb >>> 0x28 & 0xf);
+		chars[offset + 0x16] = get(lsb >>> 0x24 & 0xf);
+		chars[offset + 0x17] = get(lsb >>> 0x20 & 0xf);
+		chars[offset + 0x18] = get(lsb >>> 0x1c & 0xf);
+		chars[offset + 0x19] = get(lsb >>> 0x18 & 0xf);
+		chars[offset + 0x1a] = get(lsb >>> 0x14 & 0xf);
+		chars[offset + 0x1b] = get(lsb >>> 0x10 & 0xf);
+		chars[offset + 0x1c] = get(lsb >>> 0x0c & 0xf);
+		chars[offset + 0x1d] = get(lsb >>> 0x08 & 0xf);
+		chars[offset + 0x1e] = get(lsb >>> 0x04 & 0xf);
+		chars[offset + 0x1f] = get(lsb >>> 0x00 & 0xf);
+
+		return offset + CHAR_LENGTH;
+	}
+
+	@Override
+	public int apply(UUID uuid, byte[] bytes, int offset) {
+
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+
+		if (swar) {
+			// 8 digits at a time
+			HexUtil.encode(msb >>> 32, bytes, offset);
+			HexUtil.encode(msb, bytes, offset + 8);
+			HexUtil.encode(lsb >>> 32, bytes, offset + 16);
+			HexUtil.encode(lsb, bytes, offset + 24);
+			return offset + CHAR_LENGTH;
+		}
+
+		bytes[offset + 0x00] = getByte(msb >>> 0x3c & 0xf);
+		bytes[offset + 0x01] = getByte(msb >>> 0x38 & 0xf);
+		bytes[offset + 0x02] = getByte(msb >>> 0x34 & 0xf);
+		bytes[offset + 0x03] = getByte(msb >>> 0x30 & 0xf);
+		bytes[offset + 0x04] = getByte(msb >>> 0x2c & 0xf);
+		bytes[offset + 0x05] = getByte(msb >>> 0x28 & 0xf);
+		bytes[offset + 0x06] = getByte(msb >>> 0x24 & 0xf);
+		bytes[offset + 0x07] = getByte(msb >>> 0x20 & 0xf);
+		bytes[offset + 0x08] = getByte(msb >>> 0x1c & 0xf);
+		bytes[offset + 0x09] = getByte(msb >>> 0x18 & 0xf);
+		bytes[offset + 0x0a] = getByte(msb >>> 0x14 & 0xf);
+		bytes[offset + 0x0b] = getByte(msb >>> 0x10 & 0xf);
+		bytes[offset + 0x0c] = getByte(msb >>> 0x0c & 0xf);
+		bytes[offset + 0x0d] = getByte(msb >>> 0x08 & 0xf);
+		bytes[offset + 0x0e] = getByte(msb >>> 0x04 & 0xf);
+		bytes[offset + 0x0f] = getByte(msb >>> 0x00 & 0xf);
+
+		bytes[offset + 0x10] = getByte(lsb >>> 0x3c & 0xf);
+		bytes[offset + 0x11] = getByte(lsb >>> 0x38 & 0xf);
+		bytes[offset + 0x12] = getByte(lsb >>> 0x34 & 0xf);
+		bytes[offset + 0x13] = getByte(lsb >>> 0x30 & 0xf);
+		bytes[offset + 0x14] = getByte(lsb >>> 0x2c & 0xf);
+		bytes[offset + 0x15] = getByte(lsb >>> 0x28 & 0xf);
+		bytes[offset + 0x16] = getByte(lsb >>> 0x24 & 0xf);
+		bytes[offset + 0x17] = getByte(lsb >>> 0x20 & 0xf);
+		bytes[offset + 0x18] = getByte(lsb >>> 0x1c & 0xf);
+		bytes[offset + 0x19] = getByte(lsb >>> 0x18 & 0xf);
+		bytes[offset + 0x1a] = getByte(lsb >>> 0x14 & 0xf);
+		bytes[offset + 0x1b] = getByte(lsb >>> 0x10 & 0xf);
+		bytes[offset + 0x1c] = getByte(lsb >>> 0x0c & 0xf);
+		bytes[offset + 0x1d] = getByte(lsb >>> 0x08 & 0xf);
+		bytes[offset + 0x1e] = getByte(lsb >>> 0x04 & 0xf);
+		bytes[offset + 0x1f] = getByte(lsb >>> 0x00 & 0xf);
+
+		return offset + CHAR_LENGTH;
 	}
 }
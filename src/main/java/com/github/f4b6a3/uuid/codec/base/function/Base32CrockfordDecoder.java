@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+
+/**
+ * Function that decodes a Crockford's base-32 string to a UUID.
+ * <p>
+ * It is case insensitive, so it decodes in lower case and upper case. It also
+ * decodes the letters 'I' and 'L' as '1', and the letter 'O' as '0', as
+ * recommended by Crockford.
+ * <p>
+ * The first char must be between '0' and '7', since it holds only the 3 most
+ * significant bits of the UUID.
+ * 
+ * @see <a href="https://www.crockford.com/base32.html">Crockford's Base32</a>
+ * @see <a href="https://github.com/ulid/spec">ULID Specification</a>
+ */
+public final class Base32CrockfordDecoder extends BaseNDecoder {
+
+	private final byte[] values;
+
+	/**
+	 * Constructor with a base-n.
+	 * 
+	 * @param base a base-n
+	 */
+	public Base32CrockfordDecoder(BaseN base) {
+		super(base);
+		values = base.getMap().array();
+		values['I'] = values['i'] = values['L'] = values['l'] = 1;
+		values['O'] = values['o'] = 0;
+	}
+
+	@Override
+	public UUID apply(String string) {
+		return apply(string, 0);
+	}
+
+	@Override
+	public UUID apply(CharSequence chars, int offset) {
+		final UUID uuid = tryApply(chars, offset);
+		if (uuid == null) {
+			throw invalid(chars, offset);
+		}
+		return uuid;
+	}
+
+	@Override
+	public UUID tryApply(CharSequence chars, int offset) {
+
+		long msb = 0;
+		long lsb = 0;
+		long invalid = 0; // negative if a char is invalid
+
+		final long value0 = value(chars, offset, 0);
+		msb = value0;
+		invalid |= value0 | (7 - value0); // overflow if greater than 7
+
+		for (int i = 1; i < 13; i++) {
+			final long value = value(chars, offset, i);
+			msb = (msb << 5) | value;
+			invalid |= value;
+		}
+
+		final long value13 = value(chars, offset, 13);
+		msb = (msb << 1) | (value13 >>> 4);
+		lsb = value13 & 0b1111;
+		invalid |= value13;
+
+		for (int i = 14; i < 26; i++) {
+			final long value = value(chars, offset, i);
+			lsb = (lsb << 5) | value;
+			invalid |= value;
+		}
+
+		if (invalid < 0) {
+			return null;
+		}
+
+		return new UUID(msb, lsb);
+	}
+
+	@Override
+	protected long value(CharSequence chars, int offset, int i) {
+		final int chr = chars.charAt(offset + i);
+		if (chr > 255) {
+			return -1;
+		}
+		return values[chr];
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
+
+/**
+ * Function that encodes a UUID to a Crockford's base-32 string.
+ * <p>
+ * Unlike {@link Base32Encoder}, it encodes the UUID as a 128-bit integer, like
+ * ULID: the first char holds the 3 most significant bits, and each one of the
+ * next 25 chars holds 5 bits.
+ * 
+ * @see <a href="https://www.crockford.com/base32.html">Crockford's Base32</a>
+ * @see <a href="https://github.com/ulid/spec">ULID Specification</a>
+ */
+public final class Base32CrockfordEncoder extends BaseNEncoder {
+
+	private static final int CHAR_LENGTH = 26;
+
+	/**
+	 * Constructor with a base-n.
+	 * 
+	 * @param base a base-n
+	 */
+	public Base32CrockfordEncoder(BaseN base) {
+		super(base);
+	}
+
+	@Override
+	public String apply(UUID uuid) {
+		if (latin1) {
+			final byte[] bytes = new byte[CHAR_LENGTH];
+			apply(uuid, bytes, 0);
+			return StringUtil.latin1(bytes);
+		}
+		final char[] chars = new char[CHAR_LENGTH];
+		apply(uuid, chars, 0);
+		return new String(chars);
+	}
+
+	@Override
+	public int apply(UUID uuid, char[] chars, int offset) {
+
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+
+		chars[offset + 0x00] = get(msb >>> 61);
+		chars[offset + 0x01] = get((msb >>> 56) & 0b11111);
+		chars[offset + 0x02] = get((msb >>> 51) & 0b11111);
+		chars[offset + 0x03] = get((msb >>> 46) & 0b11111);
+		chars[offset + 0x04] = get((msb >>> 41) & 0b11111);
+		chars[offset + 0x05] = get((msb >>> 36) & 0b11111);
+		chars[offset + 0x06] = get((msb >>> 31) & 0b11111);
+		chars[offset + 0x07] = get((msb >>> 26) & 0b11111);
+		chars[offset + 0x08] = get((msb >>> 21) & 0b11111);
+		chars[offset + 0x09] = get((msb >>> 16) & 0b11111);
+		chars[offset + 0x0a] = get((msb >>> 11) & 0b11111);
+		chars[offset + 0x0b] = get((msb >>> 6) & 0b11111);
+		chars[offset + 0x0c] = get((msb >>> 1) & 0b11111);
+
+		chars[offset + 0x0d] = get(((msb << 4) & 0b11111) | (lsb >>> 60));
+
+		chars[offset + 0x0e] = get((lsb >>> 55) & 0b11111);
+		chars[offset + 0x0f] = get((lsb >>> 50) & 0b11111);
+		chars[offset + 0x10] = get((lsb >>> 45) & 0b11111);
+		chars[offset + 0x11] = get((lsb >>> 40) & 0b11111);
+		chars[offset + 0x12] = get((lsb >>> 35) & 0b11111);
+		chars[offset + 0x13] = get((lsb >>> 30) & 0b11111);
+		chars[offset + 0x14] = get((lsb >>> 25) & 0b11111);
+		chars[offset + 0x15] = get((lsb >>> 20) & 0b11111);
+		chars[offset + 0x16] = get((lsb >>> 15) & 0b11111);
+		chars[offset + 0x17] = get((lsb >>> 10) & 0b11111);
+		chars[offset + 0x18] = get((lsb >>> 5) & 0b11111);
+		chars[offset + 0x19] = get(lsb & 0b11111);
+
+		return offset + CHAR_LENGTH;
+	}
+
+	@Override
+	public int apply(UUID uuid, byte[] bytes, int offset) {
+
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+
+		bytes[offset + 0x00] = getByte(msb >>> 61);
+		bytes[offset + 0x01] = getByte((msb >>> 56) & 0b11111);
+		bytes[offset + 0x02] = getByte((msb >>> 51) & 0b11111);
+		bytes[offset + 0x03] = getByte((msb >>> 46) & 0b11111);
+		bytes[offset + 0x04] = getByte((msb >>> 41) & 0b11111);
+		bytes[offset + 0x05] = getByte((msb >>> 36) & 0b11111);
+		bytes[offset + 0x06] = getByte((msb >>> 31) & 0b11111);
+		bytes[offset + 0x07] = getByte((msb >>> 26) & 0b11111);
+		bytes[offset + 0x08] = getByte((msb >>> 21) & 0b11111);
+		bytes[offset + 0x09] = getByte((msb >>> 16) & 0b11111);
+		bytes[offset + 0x0a] = getByte((msb >>> 11) & 0b11111);
+		bytes[offset + 0x0b] = getByte((msb >>> 6) & 0b11111);
+		bytes[offset + 0x0c] = getByte((msb >>> 1) & 0b11111);
+
+		bytes[offset + 0x0d] = getByte(((msb << 4) & 0b11111) | (lsb >>> 60));
+
+		bytes[offset + 0x0e] = getByte((lsb >>> 55) & 0b11111);
+		bytes[offset + 0x0f] = getByte((lsb >>> 50) & 0b11111);
+		bytes[offset + 0x10] = getByte((lsb >>> 45) & 0b11111);
+		bytes[offset + 0x11] = getByte((lsb >>> 40) & 0b11111);
+		bytes[offset + 0x12] = getByte((lsb >>> 35) & 0b11111);
+		bytes[offset + 0x13] = getByte((lsb >>> 30) & 0b11111);
+		bytes[offset + 0x14] = getByte((lsb >>> 25) & 0b11111);
+		bytes[offset + 0x15] = getByte((lsb >>> 20) & 0b11111);
+		bytes[offset + 0x16] = getByte((lsb >>> 15) & 0b11111);
+		bytes[offset + 0x17] = getByte((lsb >>> 10) & 0b11111);
+		bytes[offset + 0x18] = getByte((lsb >>> 5) & 0b11111);
+		bytes[offset + 0x19] = getByte(lsb & 0b11111);
+
+		return offset + CHAR_LENGTH;
+	}
+}
@@ -48,22 +48,49 @@ public final class Base32Decoder extends BaseNDecoder {
 
 	@Override
 	public UUID apply(String string) {
+		return apply(string, 0);
+	}
+
+	@Override
+	public UUID apply(CharSequence chars, int offset) {
+		final UUID uuid = tryApply(chars, offset);
+		if (uuid == null) {
+			throw invalid(chars, offset);
+		}
+		return uuid;
+	}
+
+	@Override
+	public UUID tryApply(CharSequence chars, int offset) {
 
 		long msb = 0;
 		long lsb = 0;
+		long invalid = 0; // negative if a char is invalid
 
 		for (int i = 0; i < 12; i++) {
-			msb = (msb << 5) | get(string, i);
+			final long value = value(chars, offset, i);
+			msb = (msb << 5) | value;
+			invalid |= value;
 		}
 
-		msb = (msb << 4) | (get(string, 12) >>> 1);
-		lsb = (lsb << 5) | get(string, 12);
+		final long value12 = value(chars, offset, 12);
+		msb = (msb << 4) | (value12 >>> 1);
+		lsb = (lsb << 5) | value12;
+		invalid |= value12;
 
 		for (int i = 13; i < 25; i++) {
-			lsb = (lsb << 5) | get(string, i);
+			final long value = value(chars, offset, i);
+			lsb = (lsb << 5) | value;
+			invalid |= value;
 		}
 
-		lsb = (lsb << 3) | (get(string, 25) >>> 2);
+		final long value25 = value(chars, offset, 25);
+		lsb = (lsb << 3) | (value25 >>> 2);
+		invalid |= value25;
+
+		if (invalid < 0) {
+			return null;
+		}
 
 		return new UUID(msb, lsb);
 	}
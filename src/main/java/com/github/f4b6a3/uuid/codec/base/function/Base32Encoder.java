@@ -27,6 +27,7 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
 
 /**
  * Function that encodes a UUID to a base-32 string.
@@ -50,40 +51,89 @@ public final class Base32Encoder extends BaseNEncoder {
 
 	@Override
 	public String apply(UUID uuid) {
-
+		if (latin1) {
+			final byte[] bytes = new byte[CHAR_LENGTH];
+			apply(uuid, bytes, 0);
+			return StringUtil.latin1(bytes);
+		}
 		final char[] chars = new char[CHAR_LENGTH];
+		apply(uuid, chars, 0);
+		return new String(chars);
+	}
+
+	@Override
+	public int apply(UUID uuid, char[] chars, int offset) {
+
 		long msb = uuid.getMostSignificantBits();
 		long lsb = uuid.getLeastSignificantBits();
 
-		chars[0x00] = get((msb >>> 59) & 0b11111);
-		chars[0x01] = get((msb >>> 54) & 0b11111);
-		chars[0x02] = get((msb >>> 49) & 0b11111);
-		chars[0x03] = get((msb >>> 44) & 0b11111);
-		chars[0x04] = get((msb >>> 39) & 0b11111);
-		chars[0x05] = get((msb >>> 34) & 0b11111);
-		chars[0x06] = get((msb >>> 29) & 0b11111);
-		chars[0x07] = get((msb >>> 24) & 0b11111);
-		chars[0x08] = get((msb >>> 19) & 0b11111);
-		chars[0x09] = get((msb >>> 14) & 0b11111);
-		chars[0x0a] = get((msb >>> 9) & 0b11111);
-		chars[0x0b] = get((msb >>> 4) & 0b11111);
-
-		chars[0x0c] = get(((msb << 1) & 0b11111) | ((lsb >>> 63) & 0b11111));
-
-		chars[0x0d] = get((lsb >>> 58) & 0b11111);
-		chars[0x0e] = get((lsb >>> 53) & 0b11111);
-		chars[0x0f] = get((lsb >>> 48) & 0b11111);
-		chars[0x10] = get((lsb >>> 43) & 0b11111);
-		chars[0x11] = get((lsb >>> 38) & 0b11111);
-		chars[0x12] = get((lsb >>> 33) & 0b11111);
-		chars[0x13] = get((lsb >>> 28) & 0b11111);
-		chars[0x14] = get((lsb >>> 23) & 0b11111);
-		chars[0x15] = get((lsb >>> 18) & 0b11111);
-		chars[0x16] = get((lsb >>> 13) & 0b11111);
-		chars[0x17] = get((lsb >>> 8) & 0b11111);
-		chars[0x18] = get((lsb >>> 3) & 0b11111);
-		chars[0x19] = get((lsb << 2) & 0b11111);
+		chars[offset + 0x00] = get((msb >>> 59) & 0b11111);
+		chars[offset + 0x01] = get((msb >>> 54) & 0b11111);
+		chars[offset + 0x02] = get((msb >>> 49) & 0b11111);
+		chars[offset + 0x03] = get((msb >>> 44) & 0b11111);
+		chars[offset + 0x04] = get((msb >>> 39) & 0b11111);
+		chars[offset + 0x05] = get((msb >>> 34) & 0b11111);
+		chars[offset + 0x06] = get((msb >>> 29) & 0b11111);
+		chars[offset + 0x07] = get((msb >>> 24) & 0b11111);
+		chars[offset + 0x08] = get((msb >>> 19) & 0b11111);
+		chars[offset + 0x09] = get((msb >>> 14) & 0b11111);
+		chars[offset + 0x0a] = get((msb >>> 9) & 0b11111);
+		chars[offset + 0x0b] = get((msb >>> 4) & 0b11111);
 
-		return new String(chars);
+		chars[offset + 0x0c] = get(((msb << 1) & 0b11111) | ((lsb >>> 63) & 0b11111));
+
+		chars[offset + 0x0d] = get((lsb >>> 58) & 0b11111);
+		chars[offset + 0x0e] = get((lsb >>> 53) & 0b11111);
+		chars[offset + 0x0f] = get((lsb >>> 48) & 0b11111);
+		chars[offset + 0x10] = get((lsb >>> 43) & 0b11111);
+		chars[offset + 0x11] = get((lsb >>> 38) & 0b11111);
+		chars[offset + 0x12] = get((lsb >>> 33) & 0b11111);
+		chars[offset + 0x13] = get((lsb >>> 28) & 0b11111);
+		chars[offset + 0x14] = get((lsb >>> 23) & 0b11111);
+		chars[offset + 0x15] = get((lsb >>> 18) & 0b11111);
+		chars[offset + 0x16] = get((lsb >>> 13) & 0b11111);
+		chars[offset + 0x17] = get((lsb >>> 8) & 0b11111);
+		chars[offset + 0x18] = get((lsb >>> 3) & 0b11111);
+		chars[offset + 0x19] = get((lsb << 2) & 0b11111);
+
+		return offset + CHAR_LENGTH;
+	}
+
+	@Override
+	public int apply(UUID uuid, byte[] bytes, int offset) {
+
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+
+		bytes[offset + 0x00] = getByte((msb >>> 59) & 0b11111);
+		bytes[offset + 0x01] = getByte((msb >>> 54) & 0b11111);
+		bytes[offset + 0x02] = getByte((msb >>> 49) & 0b11111);
+		bytes[offset + 0x03] = getByte((msb >>> 44) & 0b11111);
+		bytes[offset + 0x04] = getByte((msb >>> 39) & 0b11111);
+		bytes[offset + 0x05] = getByte((msb >>> 34) & 0b11111);
+		bytes[offset + 0x06] = getByte((msb >>> 29) & 0b11111);
+		bytes[offset + 0x07] = getByte((msb >>> 24) & 0b11111);
+		bytes[offset + 0x08] = getByte((msb >>> 19) & 0b11111);
+		bytes[offset + 0x09] = getByte((msb >>> 14) & 0b11111);
+		bytes[offset + 0x0a] = getByte((msb >>> 9) & 0b11111);
+		bytes[offset + 0x0b] = getByte((msb >>> 4) & 0b11111);
+
+		bytes[offset + 0x0c] = getByte(((msb << 1) & 0b11111) | ((lsb >>> 63) & 0b11111));
+
+		bytes[offset + 0x0d] = getByte((lsb >>> 58) & 0b11111);
+		bytes[offset + 0x0e] = getByte((lsb >>> 53) & 0b11111);
+		bytes[offset + 0x0f] = getByte((lsb >>> 48) & 0b11111);
+		bytes[offset + 0x10] = getByte((lsb >>> 43) & 0b11111);
+		bytes[offset + 0x11] = getByte((lsb >>> 38) & 0b11111);
+		bytes[offset + 0x12] = getByte((lsb >>> 33) & 0b11111);
+		bytes[offset + 0x13] = getByte((lsb >>> 28) & 0b11111);
+		bytes[offset + 0x14] = getByte((lsb >>> 23) & 0b11111);
+		bytes[offset + 0x15] = getByte((lsb >>> 18) & 0b11111);
+		bytes[offset + 0x16] = getByte((lsb >>> 13) & 0b11111);
+		bytes[offset + 0x17] = getByte((lsb >>> 8) & 0b11111);
+		bytes[offset + 0x18] = getByte((lsb >>> 3) & 0b11111);
+		bytes[offset + 0x19] = getByte((lsb << 2) & 0b11111);
+
+		return offset + CHAR_LENGTH;
 	}
 }
@@ -48,22 +48,49 @@ public final class Base64Decoder extends BaseNDecoder {
 
 	@Override
 	public UUID apply(String string) {
+		return apply(string, 0);
+	}
+
+	@Override
+	public UUID apply(CharSequence chars, int offset) {
+		final UUID uuid = tryApply(chars, offset);
+		if (uuid == null) {
+			throw invalid(chars, offset);
+		}
+		return uuid;
+	}
+
+	@Override
+	public UUID tryApply(CharSequence chars, int offset) {
 
 		long msb = 0;
 		long lsb = 0;
+		long invalid = 0; // negative if a char is invalid
 
 		for (int i = 0; i < 10; i++) {
-			msb = (msb << 6) | get(string, i);
+			final long value = value(chars, offset, i);
+			msb = (msb << 6) | value;
+			invalid |= value;
 		}
 
-		msb = (msb << 4) | (get(string, 10) >>> 2);
-		lsb = (lsb << 6) | get(string, 10);
+		final long value10 = value(chars, offset, 10);
+		msb = (msb << 4) | (value10 >>> 2);
+		lsb = (lsb << 6) | value10;
+		invalid |= value10;
 
 		for (int i = 11; i < 21; i++) {
-			lsb = (lsb << 6) | get(string, i);
+			final long value = value(chars, offset, i);
+			lsb = (lsb << 6) | value;
+			invalid |= value;
 		}
 
-		lsb = (lsb << 2) | (get(string, 21) >>> 4);
+		final long value21 = value(chars, offset, 21);
+		lsb = (lsb << 2) | (value21 >>> 4);
+		invalid |= value21;
+
+		if (invalid < 0) {
+			return null;
+		}
 
 		return new UUID(msb, lsb);
 	}
@@ -27,6 +27,7 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
 
 /**
  * Function that encodes a UUID to a base-64 string.
@@ -48,36 +49,81 @@ public final class Base64Encoder extends BaseNEncoder {
 
 	@Override
 	public String apply(UUID uuid) {
-
+		if (latin1) {
+			final byte[] bytes = new byte[CHAR_LENGTH];
+			apply(uuid, bytes, 0);
+			return StringUtil.latin1(bytes);
+		}
 		final char[] chars = new char[CHAR_LENGTH];
+		apply(uuid, chars, 0);
+		return new String(chars);
+	}
+
+	@Override
+	public int apply(UUID uuid, char[] chars, int offset) {
+
 		long msb = uuid.getMostSignificantBits();
 		long lsb = uuid.getLeastSignificantBits();
 
-		chars[0x00] = get((msb >>> 58) & 0b111111);
-		chars[0x01] = get((msb >>> 52) & 0b111111);
-		chars[0x02] = get((msb >>> 46) & 0b111111);
-		chars[0x03] = get((msb >>> 40) & 0b111111);
-		chars[0x04] = get((msb >>> 34) & 0b111111);
-		chars[0x05] = get((msb >>> 28) & 0b111111);
-		chars[0x06] = get((msb >>> 22) & 0b111111);
-		chars[0x07] = get((msb >>> 16) & 0b111111);
-		chars[0x08] = get((msb >>> 10) & 0b111111);
-		chars[0x09] = get((msb >>> 4) & 0b111111);
-
-		chars[0x0a] = get(((msb << 2) & 0b111111) | ((lsb >>> 62) & 0b111111));
-
-		chars[0x0b] = get((lsb >>> 56) & 0b111111);
-		chars[0x0c] = get((lsb >>> 50) & 0b111111);
-		chars[0x0d] = get((lsb >>> 44) & 0b111111);
-		chars[0x0e] = get((lsb >>> 38) & 0b111111);
-		chars[0x0f] = get((lsb >>> 32) & 0b111111);
-		chars[0x10] = get((lsb >>> 26) & 0b111111);
-		chars[0x11] = get((lsb >>> 20) & 0b111111);
-		chars[0x12] = get((lsb >>> 14) & 0b111111);
-		chars[0x13] = get((lsb >>> 8) & 0b111111);
-		chars[0x14] = get((lsb >>> 2) & 0b111111);
-		chars[0x15] = get((lsb << 4) & 0b111111);
+		chars[offset + 0x00] = get((msb >>> 58) & 0b111111);
+		chars[offset + 0x01] = get((msb >>> 52) & 0b111111);
+		chars[offset + 0x02] = get((msb >>> 46) & 0b111111);
+		chars[offset + 0x03] = get((msb >>> 40) & 0b111111);
+		chars[offset + 0x04] = get((msb >>> 34) & 0b111111);
+		chars[offset + 0x05] = get((msb >>> 28) & 0b111111);
+		chars[offset + 0x06] = get((msb >>> 22) & 0b111111);
+		chars[offset + 0x07] = get((msb >>> 16) & 0b111111);
+		chars[offset + 0x08] = get((msb >>> 10) & 0b111111);
+		chars[offset + 0x09] = get((msb >>> 4) & 0b111111);
 
-		return new String(chars);
+		chars[offset + 0x0a] = get(((msb << 2) & 0b111111) | ((lsb >>> 62) & 0b111111));
+
+		chars[offset + 0x0b] = get((lsb >>> 56) & 0b111111);
+		chars[offset + 0x0c] = get((lsb >>> 50) & 0b111111);
+		chars[offset + 0x0d] = get((lsb >>> 44) & 0b111111);
+		chars[offset + 0x0e] = get((lsb >>> 38) & 0b111111);
+		chars[offset + 0x0f] = get((lsb >>> 32) & 0b111111);
+		chars[offset + 0x10] = get((lsb >>> 26) & 0b111111);
+		chars[offset + 0x11] = get((lsb >>> 20) & 0b111111);
+		chars[offset + 0x12] = get((lsb >>> 14) & 0b111111);
+		chars[offset + 0x13] = get((lsb >>> 8) & 0b111111);
+		chars[offset + 0x14] = get((lsb >>> 2) & 0b111111);
+		chars[offset + 0x15] = get((lsb << 4) & 0b111111);
+
+		return offset + CHAR_LENGTH;
+	}
+
+	@Override
+	public int apply(UUID uuid, byte[] bytes, int offset) {
+
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+
+		bytes[offset + 0x00] = getByte((msb >>> 58) & 0b111111);
+		bytes[offset + 0x01] = getByte((msb >>> 52) & 0b111111);
+		bytes[offset + 0x02] = getByte((msb >>> 46) & 0b111111);
+		bytes[offset + 0x03] = getByte((msb >>> 40) & 0b111111);
+		bytes[offset + 0x04] = getByte((msb >>> 34) & 0b111111);
+		bytes[offset + 0x05] = getByte((msb >>> 28) & 0b111111);
+		bytes[offset + 0x06] = getByte((msb >>> 22) & 0b111111);
+		bytes[offset + 0x07] = getByte((msb >>> 16) & 0b111111);
+		bytes[offset + 0x08] = getByte((msb >>> 10) & 0b111111);
+		bytes[offset + 0x09] = getByte((msb >>> 4) & 0b111111);
+
+		bytes[offset + 0x0a] = getByte(((msb << 2) & 0b111111) | ((lsb >>> 62) & 0b111111));
+
+		bytes[offset + 0x0b] = getByte((lsb >>> 56) & 0b111111);
+		bytes[offset + 0x0c] = getByte((lsb >>> 50) & 0b111111);
+		bytes[offset + 0x0d] = getByte((lsb >>> 44) & 0b111111);
+		bytes[offset + 0x0e] = getByte((lsb >>> 38) & 0b111111);
+		bytes[offset + 0x0f] = getByte((lsb >>> 32) & 0b111111);
+		bytes[offset + 0x10] = getByte((lsb >>> 26) & 0b111111);
+		bytes[offset + 0x11] = getByte((lsb >>> 20) & 0b111111);
+		bytes[offset + 0x12] = getByte((lsb >>> 14) & 0b111111);
+		bytes[offset + 0x13] = getByte((lsb >>> 8) & 0b111111);
+		bytes[offset + 0x14] = getByte((lsb >>> 2) & 0b111111);
+		bytes[offset + 0x15] = getByte((lsb << 4) & 0b111111);
+
+		return offset + CHAR_LENGTH;
 	}
 }
@@ -56,6 +56,42 @@ public abstract class BaseNDecoder implements Function<String, UUID> {
 		this.map = base.getMap();
 	}
 
+	/**
+	 * Get a UUID from a region of a char sequence.
+	 * <p>
+	 * The region starts at the offset and its length is the base-n length. This
+	 * implementation copies the region to a string; subclasses may override it to
+	 * decode the region in place.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @return a UUID
+	 * @throws InvalidUuidException if the region is invalid
+	 */
+	public UUID apply(CharSequence chars, int offset) {
+		return apply(chars.subSequence(offset, offset + base.getLength()).toString());
+	}
+
+	/**
+	 * Get a UUID from a region of a char sequence, or null if the region is
+	 * invalid.
+	 * <p>
+	 * This implementation catches the exception thrown by
+	 * {@link #apply(CharSequence, int)}; subclasses may override it to validate
+	 * and decode in a single pass, without creating exceptions.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @return a UUID, or null if the region is invalid
+	 */
+	public UUID tryApply(CharSequence chars, int offset) {
+		try {
+			return apply(chars, offset);
+		} catch (InvalidUuidException e) {
+			return null;
+		}
+	}
+
 	protected long get(String string, int i) {
 
 		final int chr = string.charAt(i);
@@ -69,4 +105,55 @@ public abstract class BaseNDecoder implements Function<String, UUID> {
 		}
 		return value & 0xffL;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Get the value of a char in a region of a char sequence.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @param i      the index of the char within the region
+	 * @return the value of the char
+	 * @throws InvalidUuidException if the char is invalid
+	 */
+	protected long get(CharSequence chars, int offset, int i) {
+
+		final int chr = chars.charAt(offset + i);
+		if (chr > 255) {
+			throw invalid(chars, offset);
+		}
+
+		final byte value = map.get(chr);
+		if (value < 0) {
+			throw invalid(chars, offset);
+		}
+		return value & 0xffL;
+	}
+
+	/**
+	 * Get the value of a char in a region of a char sequence, or -1 if the char is
+	 * invalid.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @param i      the index of the char within the region
+	 * @return the value of the char, or -1 if the char is invalid
+	 */
+	protected long value(CharSequence chars, int offset, int i) {
+		final int chr = chars.charAt(offset + i);
+		if (chr > 255) {
+			return -1;
+		}
+		return map.get(chr);
+	}
+
+	/**
+	 * Returns an exception for an invalid region of a char sequence.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char of the region
+	 * @return an exception
+	 */
+	protected InvalidUuidException invalid(CharSequence chars, int offset) {
+		return InvalidUuidException.newInstance(chars.subSequence(offset, offset + base.getLength()));
+	}
+}
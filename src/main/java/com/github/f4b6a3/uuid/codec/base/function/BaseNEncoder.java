@@ -29,6 +29,7 @@ import java.util.function.Function;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
 import com.github.f4b6a3.uuid.util.immutable.CharArray;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
 
 /**
  * Abstract function to be extended by all encoder functions of this package.
@@ -47,15 +48,65 @@ public abstract class BaseNEncoder implements Function<UUID, String> {
 	 */
 	protected final CharArray alphabet;
 
+	/**
+	 * True if the strings are built from Latin-1 bytes instead of chars.
+	 * <p>
+	 * It is true in JDK 9+. The alphabets of base-n are always Latin-1.
+	 */
+	protected final boolean latin1;
+
 	/**
 	 * @param base an object that represents the base-n encoding
 	 */
 	public BaseNEncoder(BaseN base) {
 		this.base = base;
 		this.alphabet = base.getAlphabet();
+		this.latin1 = StringUtil.LATIN1;
+	}
+
+	/**
+	 * Writes the encoded string of a UUID into a char array.
+	 * <p>
+	 * It writes as many chars as the base-n length, starting at the offset. This
+	 * implementation copies the chars of a string; subclasses may override it to
+	 * write the chars directly.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  a destination char array
+	 * @param offset the index of the first char to write
+	 * @return the index after the last char written
+	 */
+	public int apply(UUID uuid, char[] chars, int offset) {
+		final String string = apply(uuid);
+		string.getChars(0, string.length(), chars, offset);
+		return offset + string.length();
+	}
+
+	/**
+	 * Writes the encoded string of a UUID into a byte array as Latin-1 bytes.
+	 * <p>
+	 * It writes as many bytes as the base-n length, starting at the offset. This
+	 * implementation copies the chars of a string; subclasses may override it to
+	 * write the bytes directly.
+	 * 
+	 * @param uuid   a UUID
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 */
+	public int apply(UUID uuid, byte[] bytes, int offset) {
+		final String string = apply(uuid);
+		for (int i = 0; i < string.length(); i++) {
+			bytes[offset + i] = (byte) string.charAt(i);
+		}
+		return offset + string.length();
 	}
 
 	protected char get(final long index) {
 		return alphabet.get((int) index);
 	}
+
+	protected byte getByte(final long index) {
+		return (byte) alphabet.get((int) index);
+	}
 }
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+/**
+ * Function that decodes a base-n string to a UUID.
+ * <p>
+ * It decodes strings created by encoders that use remainder operator (modulus),
+ * a common approach to encode integers.
+ * <p>
+ * It accumulates the values of several chars in a single word, as many as the
+ * largest power of the radix that fits in 31 bits, and then performs a single
+ * multiply-add on the 128-bit number per word.
+ * <p>
+ * The result is the same as {@link BaseNRemainderDecoder}'s, but no array is
+ * allocated during the decoding process.
+ */
+public final class BaseNPowerDecoder extends BaseNDecoder {
+
+	private final int radix;
+	private final int length;
+	private final byte[] values;
+
+	private final long power; // the largest power of the radix up to 2^31
+	private final int digits; // the number of digits per power
+
+	private static final long MASK = 0x00000000ffffffffL;
+	private static final long LIMIT = 1L << 31;
+
+	/**
+	 * Constructor with a base-n.
+	 * 
+	 * @param base a base-n
+	 */
+	public BaseNPowerDecoder(BaseN base) {
+		super(base);
+
+		radix = base.getRadix();
+		length = base.getLength();
+		values = map.array();
+
+		long p = radix;
+		int d = 1;
+		while (p * radix <= LIMIT) {
+			p *= radix;
+			d++;
+		}
+		power = p;
+		digits = d;
+	}
+
+	@Override
+	public UUID apply(String string) {
+		return apply(string, 0);
+	}
+
+	@Override
+	public UUID apply(CharSequence chars, int offset) {
+
+		final UUID uuid = tryApply(chars, offset);
+		if (uuid != null) {
+			return uuid;
+		}
+
+		// find out why it failed: an invalid char or an overflow
+		for (int i = 0; i < length; i++) {
+			if (value(chars, offset, i) < 0) {
+				throw invalid(chars, offset);
+			}
+		}
+
+		throw new InvalidUuidException(
+				"Invalid encoded string (overflow): \"" + chars.subSequence(offset, offset + length) + "\"");
+	}
+
+	@Override
+	public UUID tryApply(CharSequence chars, int offset) {
+
+		// four 32-bit words
+		long w3 = 0;
+		long w2 = 0;
+		long w1 = 0;
+		long w0 = 0;
+
+		long overflow = 0;
+
+		final int end = offset + length;
+
+		// the first chunk takes the digits left over by the others
+		int i = offset;
+		int n = length % digits == 0 ? digits : length % digits;
+
+		while (i < end) {
+
+			// accumulate the values of the chunk in a word
+			int word = 0;
+			int invalid = 0;
+			for (final int limit = i + n; i < limit; i++) {
+				final int chr = chars.charAt(i);
+				final int value = values[chr & 0xff];
+				invalid |= (0xff - chr) | value; // negative if invalid
+				word = word * radix + value;
+			}
+
+			if (invalid < 0) {
+				return null;
+			}
+
+			// multiply the number by the power and add the word:
+			// each partial product is less than 2^63
+			long x = (w0 * power) + word;
+			w0 = x & MASK;
+			x = (w1 * power) + (x >>> 32);
+			w1 = x & MASK;
+			x = (w2 * power) + (x >>> 32);
+			w2 = x & MASK;
+			x = (w3 * power) + (x >>> 32);
+			w3 = x & MASK;
+			overflow |= x >>> 32;
+
+			n = digits;
+		}
+
+		if (overflow != 0) {
+			return null;
+		}
+
+		return new UUID((w3 << 32) | w2, (w1 << 32) | w0);
+	}
+}
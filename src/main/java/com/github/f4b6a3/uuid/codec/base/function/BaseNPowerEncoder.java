@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
+
+/**
+ * Function that encodes a UUID to a base-n string.
+ * <p>
+ * It encodes using the largest power of the radix that fits in 31 bits as
+ * divisor, so that a single division of the 128-bit number yields a chunk of
+ * several digits at once. The digits of each chunk are then extracted with
+ * plain int arithmetic.
+ * <p>
+ * The output is the same as {@link BaseNRemainderEncoder}'s, but no array is
+ * allocated during the encoding process, except for the resulting string.
+ */
+public final class BaseNPowerEncoder extends BaseNEncoder {
+
+	private final int radix;
+	private final int length;
+
+	private final long power; // the largest power of the radix up to 2^31
+	private final int digits; // the number of digits per power
+
+	private static final long MASK = 0x00000000ffffffffL;
+	private static final long LIMIT = 1L << 31;
+
+	/**
+	 * Constructor with a base-n.
+	 * 
+	 * @param base a base-n
+	 */
+	public BaseNPowerEncoder(BaseN base) {
+		super(base);
+
+		radix = base.getRadix();
+		length = base.getLength();
+
+		long p = radix;
+		int d = 1;
+		while (p * radix <= LIMIT) {
+			p *= radix;
+			d++;
+		}
+		power = p;
+		digits = d;
+	}
+
+	@Override
+	public String apply(UUID uuid) {
+		if (latin1) {
+			final byte[] bytes = new byte[length];
+			apply(uuid, bytes, 0);
+			return StringUtil.latin1(bytes);
+		}
+		final char[] buffer = new char[length];
+		apply(uuid, buffer, 0);
+		return new String(buffer);
+	}
+
+	@Override
+	public int apply(UUID uuid, char[] buffer, int offset) {
+
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+
+		// split the number in four 32-bit words
+		long w3 = msb >>> 32;
+		long w2 = msb & MASK;
+		long w1 = lsb >>> 32;
+		long w0 = lsb & MASK;
+
+		int b = offset + length; // buffer index
+
+		// fill in the buffer backwards
+		while (b > offset) {
+
+			// divide the number by the power:
+			// each partial dividend is less than 2^63
+			long x = w3;
+			w3 = x / power;
+			x = ((x % power) << 32) | w2;
+			w2 = x / power;
+			x = ((x % power) << 32) | w1;
+			w1 = x / power;
+			x = ((x % power) << 32) | w0;
+			w0 = x / power;
+
+			// split the remainder in digits
+			int rem = (int) (x % power);
+			for (int i = 0; i < digits && b > offset; i++) {
+				buffer[--b] = alphabet.get(rem % radix);
+				rem /= radix;
+			}
+		}
+
+		return offset + length;
+	}
+
+	@Override
+	public int apply(UUID uuid, byte[] buffer, int offset) {
+
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+
+		// split the number in four 32-bit words
+		long w3 = msb >>> 32;
+		long w2 = msb & MASK;
+		long w1 = lsb >>> 32;
+		long w0 = lsb & MASK;
+
+		int b = offset + length; // buffer index
+
+		// fill in the buffer backwards
+		while (b > offset) {
+
+			// divide the number by the power:
+			// each partial dividend is less than 2^63
+			long x = w3;
+			w3 = x / power;
+			x = ((x % power) << 32) | w2;
+			w2 = x / power;
+			x = ((x % power) << 32) | w1;
+			w1 = x / power;
+			x = ((x % power) << 32) | w0;
+			w0 = x / power;
+
+			// split the remainder in digits
+			int rem = (int) (x % power);
+			for (int i = 0; i < digits && b > offset; i++) {
+				buffer[--b] = getByte(rem % radix);
+				rem /= radix;
+			}
+		}
+
+		return offset + length;
+	}
+}
@@ -53,7 +53,13 @@ public final class BaseNRemainderDecoder extends BaseNDecoder {
 		multiplier = base.getRadix();
 	}
 
+	@Override
 	public UUID apply(String string) {
+		return apply(string, 0);
+	}
+
+	@Override
+	public UUID apply(CharSequence chars, int offset) {
 
 		long msb = 0;
 		long lsb = 0;
@@ -62,7 +68,7 @@ public final class BaseNRemainderDecoder extends BaseNDecoder {
 		long[] ans; // [product, overflow]
 
 		for (int i = 0; i < base.getLength(); i++) {
-			rem = get(string, i);
+			rem = get(chars, offset, i);
 			ans = multiply(lsb, multiplier, rem);
 			lsb = ans[0];
 			rem = ans[1];
@@ -72,7 +78,8 @@ public final class BaseNRemainderDecoder extends BaseNDecoder {
 		}
 
 		if (rem != 0) {
-			throw new InvalidUuidException("Invalid encoded string (overflow): \"" + string + "\"");
+			throw new InvalidUuidException("Invalid encoded string (overflow): \""
+					+ chars.subSequence(offset, offset + base.getLength()) + "\"");
 		}
 
 		return new UUID(msb, lsb);
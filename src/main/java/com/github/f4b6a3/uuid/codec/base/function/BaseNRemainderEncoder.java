@@ -27,6 +27,7 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 import com.github.f4b6a3.uuid.codec.base.BaseN;
 import com.github.f4b6a3.uuid.codec.base.BaseNCodec.CustomDivider;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
 
 /**
  * Function that encodes a UUID to a base-n string.
@@ -79,12 +80,23 @@ public final class BaseNRemainderEncoder extends BaseNEncoder {
 
 	@Override
 	public String apply(UUID uuid) {
+		if (latin1) {
+			final byte[] bytes = new byte[length];
+			apply(uuid, bytes, 0);
+			return StringUtil.latin1(bytes);
+		}
+		final char[] buffer = new char[length];
+		apply(uuid, buffer, 0);
+		return new String(buffer);
+	}
+
+	@Override
+	public int apply(UUID uuid, char[] buffer, int offset) {
 
 		long msb = uuid.getMostSignificantBits();
 		long lsb = uuid.getLeastSignificantBits();
 
-		int b = length; // buffer index
-		char[] buffer = new char[length];
+		int b = offset + length; // buffer index
 
 		long rem = 0; // remainder
 		long[] ans; // [quotient, remainder]
@@ -102,11 +114,42 @@ public final class BaseNRemainderEncoder extends BaseNEncoder {
 		}
 
 		// complete padding
-		while (b > 0) {
+		while (b > offset) {
 			buffer[--b] = padding;
 		}
 
-		return new String(buffer);
+		return offset + length;
+	}
+
+	@Override
+	public int apply(UUID uuid, byte[] buffer, int offset) {
+
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+
+		int b = offset + length; // buffer index
+
+		long rem = 0; // remainder
+		long[] ans; // [quotient, remainder]
+
+		// fill in the buffer backwards
+		while (msb != 0 || lsb != 0) {
+			rem = 0;
+			ans = divide(msb, divider, rem);
+			msb = ans[0]; // quotient
+			rem = ans[1]; // remainder
+			ans = divide(lsb, divider, rem);
+			lsb = ans[0]; // quotient
+			rem = ans[1]; // remainder
+			buffer[--b] = getByte(rem);
+		}
+
+		// complete padding
+		while (b > offset) {
+			buffer[--b] = (byte) padding;
+		}
+
+		return offset + length;
 	}
 
 	/**
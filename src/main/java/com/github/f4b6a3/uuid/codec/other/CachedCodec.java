@@ -0,0 +1,316 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.other;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+/**
+ * Codec that caches the strings encoded and decoded by another codec.
+ * <p>
+ * It is meant for applications that encode and decode the same UUIDs over and
+ * over again, for example, the IDs of users and tenants. The recent results are
+ * kept in two direct-mapped tables: one is indexed by the bits of the UUIDs, the
+ * other by the hash codes of the strings. Each slot keeps one entry, and a new
+ * entry simply replaces the old one in the same slot. So the memory is bounded
+ * by the size of the tables, and there are no locks, no lists and no eviction
+ * policies.
+ * <p>
+ * The entries are immutable, so the tables can be shared by many threads. Two
+ * threads may replace the same slot at the same time; one of the entries is
+ * lost, but the results are always correct.
+ * <p>
+ * A string is decoded from the cache only if it is equal to the cached string,
+ * so strings that differ only in case are cached as different entries. A
+ * string encoded by this codec is also cached for decoding. Invalid strings are
+ * never cached.
+ * <p>
+ * Usage:
+ * 
+ * <pre>{@code
+ * CachedCodec codec = new CachedCodec(StandardStringCodec.INSTANCE, 65536);
+ * UUID uuid = codec.decode("01234567-89ab-cdef-0123-456789abcdef");
+ * double rate = codec.getDecodeHitRate();
+ * }</pre>
+ */
+public final class CachedCodec implements UuidCodec<String> {
+
+	private final UuidCodec<String> codec;
+
+	private final Entry[] encodeTable; // indexed by UUID
+	private final Entry[] decodeTable; // indexed by string
+	private final int mask;
+
+	private final LongAdder encodeHits = new LongAdder();
+	private final LongAdder encodeMisses = new LongAdder();
+	private final LongAdder decodeHits = new LongAdder();
+	private final LongAdder decodeMisses = new LongAdder();
+
+	/**
+	 * The default number of slots in each table.
+	 */
+	public static final int DEFAULT_SIZE = 4096;
+
+	private static final int MAX_SIZE = 1 << 30;
+
+	/**
+	 * Creates a cache around a codec with the default size.
+	 * 
+	 * @param codec a string codec
+	 */
+	public CachedCodec(UuidCodec<String> codec) {
+		this(codec, DEFAULT_SIZE);
+	}
+
+	/**
+	 * Creates a cache around a codec.
+	 * <p>
+	 * The size is rounded up to a power of two.
+	 * 
+	 * @param codec a string codec
+	 * @param size  the number of slots in each table
+	 * @throws IllegalArgumentException if the size is not positive or too large
+	 */
+	public CachedCodec(UuidCodec<String> codec, int size) {
+		if (codec == null) {
+			throw new IllegalArgumentException("Null codec");
+		}
+		if (size <= 0 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("Invalid cache size: " + size);
+		}
+		final int length = Integer.highestOneBit(size - 1) << 1;
+		this.codec = codec;
+		this.mask = Math.max(length, 1) - 1;
+		this.encodeTable = new Entry[this.mask + 1];
+		this.decodeTable = new Entry[this.mask + 1];
+	}
+
+	/**
+	 * Get a string from a UUID, from the cache if possible.
+	 * 
+	 * @param uuid a UUID
+	 * @return a string
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public String encode(final UUID uuid) {
+
+		if (uuid == null) {
+			return codec.encode(uuid);
+		}
+
+		final int index = index(uuid) & mask;
+		final Entry entry = encodeTable[index];
+		if (entry != null && entry.uuid.equals(uuid)) {
+			encodeHits.increment();
+			return entry.string;
+		}
+
+		encodeMisses.increment();
+		final String string = codec.encode(uuid);
+		final Entry fresh = new Entry(uuid, string);
+		encodeTable[index] = fresh;
+		decodeTable[index(string) & mask] = fresh;
+		return string;
+	}
+
+	/**
+	 * Get a UUID from a string, from the cache if possible.
+	 * 
+	 * @param string a string
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public UUID decode(final String string) {
+
+		if (string == null) {
+			return codec.decode(string);
+		}
+
+		final int index = index(string) & mask;
+		final Entry entry = decodeTable[index];
+		if (entry != null && entry.string.equals(string)) {
+			decodeHits.increment();
+			return entry.uuid;
+		}
+
+		decodeMisses.increment();
+		final UUID uuid = codec.decode(string);
+		decodeTable[index] = new Entry(uuid, string);
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a string, from the cache if possible, or null if the string
+	 * is invalid.
+	 * 
+	 * @param string a string
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(final String string) {
+
+		if (string == null) {
+			return codec.tryDecode(string);
+		}
+
+		final int index = index(string) & mask;
+		final Entry entry = decodeTable[index];
+		if (entry != null && entry.string.equals(string)) {
+			decodeHits.increment();
+			return entry.uuid;
+		}
+
+		decodeMisses.increment();
+		final UUID uuid = codec.tryDecode(string);
+		if (uuid != null) {
+			decodeTable[index] = new Entry(uuid, string);
+		}
+		return uuid;
+	}
+
+	/**
+	 * Returns the codec whose results are cached.
+	 * 
+	 * @return a string codec
+	 */
+	public UuidCodec<String> getCodec() {
+		return codec;
+	}
+
+	/**
+	 * Returns the number of slots in each table.
+	 * 
+	 * @return a power of two
+	 */
+	public int getSize() {
+		return mask + 1;
+	}
+
+	/**
+	 * Returns the number of UUIDs encoded from the cache.
+	 * 
+	 * @return a number
+	 */
+	public long getEncodeHits() {
+		return encodeHits.sum();
+	}
+
+	/**
+	 * Returns the number of UUIDs encoded by the underlying codec.
+	 * 
+	 * @return a number
+	 */
+	public long getEncodeMisses() {
+		return encodeMisses.sum();
+	}
+
+	/**
+	 * Returns the number of strings decoded from the cache.
+	 * 
+	 * @return a number
+	 */
+	public long getDecodeHits() {
+		return decodeHits.sum();
+	}
+
+	/**
+	 * Returns the number of strings decoded by the underlying codec, including the
+	 * invalid strings.
+	 * 
+	 * @return a number
+	 */
+	public long getDecodeMisses() {
+		return decodeMisses.sum();
+	}
+
+	/**
+	 * Returns the ratio of encodes served from the cache.
+	 * 
+	 * @return a number between 0 and 1, or 0 if nothing was encoded
+	 */
+	public double getEncodeHitRate() {
+		return rate(getEncodeHits(), getEncodeMisses());
+	}
+
+	/**
+	 * Returns the ratio of decodes served from the cache.
+	 * 
+	 * @return a number between 0 and 1, or 0 if nothing was decoded
+	 */
+	public double getDecodeHitRate() {
+		return rate(getDecodeHits(), getDecodeMisses());
+	}
+
+	/**
+	 * Removes all entries from the cache and resets the counters.
+	 * <p>
+	 * It is not atomic: the entries cached by other threads during the call may
+	 * be kept.
+	 */
+	public void clear() {
+		for (int i = 0; i < encodeTable.length; i++) {
+			encodeTable[i] = null;
+			decodeTable[i] = null;
+		}
+		encodeHits.reset();
+		encodeMisses.reset();
+		decodeHits.reset();
+		decodeMisses.reset();
+	}
+
+	private static double rate(final long hits, final long misses) {
+		final long total = hits + misses;
+		return total == 0 ? 0.0 : (double) hits / total;
+	}
+
+	private static int index(final UUID uuid) {
+		// the bits of the UUID itself; the random bits are in the lower half
+		final long bits = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+		final int hash = (int) (bits ^ (bits >>> 32));
+		return hash ^ (hash >>> 16);
+	}
+
+	private static int index(final String string) {
+		final int hash = string.hashCode(); // cached by the string
+		return hash ^ (hash >>> 16);
+	}
+
+	private static final class Entry {
+
+		private final UUID uuid;
+		private final String string;
+
+		private Entry(UUID uuid, String string) {
+			this.uuid = uuid;
+			this.string = string;
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.other;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * Codec for the binary layout of MySQL's {@code UUID_TO_BIN(uuid, 1)}.
+ * <p>
+ * With the swap flag set, MySQL swaps the time-low and the time-high fields of
+ * a UUID, so that the bytes of time-based UUIDs (v1) are stored in time order
+ * and the index of a {@code BINARY(16)} column grows sequentially.
+ * <p>
+ * It encodes to and decodes from 16 bytes in the swapped layout, the same as
+ * {@code UUID_TO_BIN(uuid, 1)} and {@code BIN_TO_UUID(bin, 1)}. The fields are
+ * swapped with shifts on the two halves of the UUID; no array is allocated
+ * other than the result of {@link #encode(UUID)}.
+ * <p>
+ * The {@link #getComparator() comparator} sorts UUIDs in the same order as
+ * MySQL sorts the swapped bytes, so that batches can be sorted in index order
+ * before a bulk load.
+ * 
+ * @see <a href=
+ *      "https://dev.mysql.com/doc/refman/8.0/en/miscellaneous-functions.html#function_uuid-to-bin">MySQL
+ *      UUID_TO_BIN()</a>
+ */
+public class MySqlSwapCodec implements UuidCodec<byte[]> {
+
+	/**
+	 * A shared immutable instance.
+	 */
+	public static final MySqlSwapCodec INSTANCE = new MySqlSwapCodec();
+
+	private static final Comparator<UUID> COMPARATOR = MySqlSwapCodec::compare;
+
+	private static final int UUID_BYTES = 16;
+
+	/**
+	 * Get the swapped bytes of a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return an array of 16 bytes
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public byte[] encode(final UUID uuid) {
+		final byte[] bytes = new byte[UUID_BYTES];
+		encode(uuid, bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Writes the swapped bytes of a UUID into a byte array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encode(final UUID uuid, final byte[] bytes, final int offset) {
+		UuidValidator.validate(uuid);
+		RangeUtil.checkFromIndexSize(offset, UUID_BYTES, bytes.length);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		buffer.putLong(offset, swap(uuid.getMostSignificantBits()));
+		buffer.putLong(offset + 8, uuid.getLeastSignificantBits());
+		return offset + UUID_BYTES;
+	}
+
+	/**
+	 * Get a UUID from swapped bytes.
+	 * 
+	 * @param bytes an array of 16 bytes
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public UUID decode(final byte[] bytes) {
+		UuidValidator.validate(bytes);
+		return decode(bytes, 0);
+	}
+
+	/**
+	 * Get a UUID from swapped bytes at an offset of a byte array.
+	 * 
+	 * @param bytes  a byte array
+	 * @param offset the index of the first byte to read
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the argument is null
+	 * @throws IndexOutOfBoundsException if the bytes are out of bounds
+	 */
+	public UUID decode(final byte[] bytes, final int offset) {
+		if (bytes == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		RangeUtil.checkFromIndexSize(offset, UUID_BYTES, bytes.length);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		return new UUID(unswap(buffer.getLong(offset)), buffer.getLong(offset + 8));
+	}
+
+	/**
+	 * Returns a comparator that sorts UUIDs in the same order as MySQL sorts
+	 * their swapped bytes.
+	 * 
+	 * @return a comparator
+	 * @see #compare(UUID, UUID)
+	 */
+	public static Comparator<UUID> getComparator() {
+		return COMPARATOR;
+	}
+
+	/**
+	 * Compares two UUIDs as MySQL compares their swapped bytes.
+	 * <p>
+	 * The swapped bytes are compared as unsigned 128-bit integers, without
+	 * creating arrays. A null UUID is taken as the nil UUID.
+	 * 
+	 * @param uuid1 a UUID
+	 * @param uuid2 another UUID
+	 * @return -1, 0 or 1 as {@code uuid1} is less than, equal to, or greater than
+	 *         {@code uuid2}
+	 */
+	public static int compare(final UUID uuid1, final UUID uuid2) {
+
+		final long msb1 = uuid1 != null ? swap(uuid1.getMostSignificantBits()) : 0L;
+		final long msb2 = uuid2 != null ? swap(uuid2.getMostSignificantBits()) : 0L;
+
+		final int msb = Long.compare(msb1 + Long.MIN_VALUE, msb2 + Long.MIN_VALUE);
+		if (msb != 0) {
+			return msb;
+		}
+
+		final long lsb1 = uuid1 != null ? uuid1.getLeastSignificantBits() : 0L;
+		final long lsb2 = uuid2 != null ? uuid2.getLeastSignificantBits() : 0L;
+
+		return Long.compare(lsb1 + Long.MIN_VALUE, lsb2 + Long.MIN_VALUE);
+	}
+
+	/**
+	 * Swaps the time fields: time-low, time-mid, time-high to time-high,
+	 * time-mid, time-low.
+	 */
+	private static long swap(final long msb) {
+		return (msb << 48) | ((msb & 0x00000000_ffff_0000L) << 16) | (msb >>> 32);
+	}
+
+	/**
+	 * Swaps the time fields back: time-high, time-mid, time-low to time-low,
+	 * time-mid, time-high.
+	 */
+	private static long unswap(final long msb) {
+		return (msb << 32) | ((msb >>> 16) & 0x00000000_ffff_0000L) | (msb >>> 48);
+	}
+}
@@ -24,6 +24,7 @@
 
 package com.github.f4b6a3.uuid.codec.other;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.UUID;
 
@@ -37,6 +38,8 @@ import com.github.f4b6a3.uuid.util.UuidValidator;
 import com.github.f4b6a3.uuid.util.immutable.ByteArray;
 import com.github.f4b6a3.uuid.util.immutable.CharArray;
 import com.github.f4b6a3.uuid.util.internal.ByteUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+import com.github.f4b6a3.uuid.util.internal.StringUtil;
 
 /**
  * Codec for UUID NCNames.
@@ -171,29 +174,60 @@ public final class NcnameCodec implements UuidCodec<String> {
 	 */
 	@Override
 	public String encode(UUID uuid) {
-
 		UuidValidator.validate(uuid);
+		final char[] chars = new char[this.length];
+		write(uuid, chars, 0);
+		return new String(chars);
+	}
 
-		int version = uuid.version();
-		byte[] bytes = StandardBinaryCodec.INSTANCE.encode(uuid);
-		int[] ints = ByteUtil.toInts(bytes);
-
-		int variant = (ints[2] & 0xf0000000) >>> 24;
-
-		ints[1] = (ints[1] & 0xffff0000) | ((ints[1] & 0x00000fff) << 4) | ((ints[2] & 0x0fffffff) >>> 24);
-		ints[2] = (ints[2] & 0x00ffffff) << 8 | (ints[3] >>> 24);
-		ints[3] = (ints[3] << 8) | variant;
-
-		bytes = ByteUtil.fromInts(ints);
-		bytes[15] = (byte) ((bytes[15] & 0xff) >>> this.shift);
-
-		UUID uuuu = StandardBinaryCodec.INSTANCE.decode(bytes);
-		String encoded = this.codec.encode(uuuu).substring(0, this.length - 1);
+	/**
+	 * Writes the NCName of a UUID into a char array.
+	 * <p>
+	 * It writes as many chars as the base-n length, starting at the offset, and
+	 * doesn't create a string.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  a destination char array
+	 * @param offset the index of the first char to write
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the chars don't fit in the array
+	 */
+	public int encode(UUID uuid, char[] chars, int offset) {
+		UuidValidator.validate(uuid);
+		RangeUtil.checkFromIndexSize(offset, this.length, chars.length);
+		return write(uuid, chars, offset);
+	}
 
-		// if base is 64, use upper case version, else use lower case
-		char v = this.radix == 64 ? VERSION_UPPERCASE.get(version) : VERSION_LOWERCASE.get(version);
+	/**
+	 * Appends the NCName of a UUID to a string builder.
+	 * 
+	 * @param uuid    a UUID
+	 * @param builder a string builder
+	 * @return the string builder
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	public StringBuilder encode(UUID uuid, StringBuilder builder) {
+		UuidValidator.validate(uuid);
+		final char[] chars = new char[this.length];
+		return builder.append(chars, 0, write(uuid, chars, 0));
+	}
 
-		return v + encoded;
+	/**
+	 * Appends the NCName of a UUID to an appendable.
+	 * 
+	 * @param <A>        the appendable type
+	 * @param uuid       a UUID
+	 * @param appendable an appendable, for example, a {@link java.io.Writer}
+	 * @return the appendable
+	 * @throws InvalidUuidException if the argument is invalid
+	 * @throws IOException          if an I/O error occurs
+	 */
+	public <A extends Appendable> A encode(UUID uuid, A appendable) throws IOException {
+		UuidValidator.validate(uuid);
+		final char[] chars = new char[this.length];
+		StringUtil.append(appendable, chars, 0, write(uuid, chars, 0));
+		return appendable;
 	}
 
 	/**
@@ -211,8 +245,8 @@ public final class NcnameCodec implements UuidCodec<String> {
 		}
 
 		// check if the bookends are valid chars: [A-Pa-p]
-		int bookend1 = (int) VERSION_MAP.get(ncname.charAt(0));
-		int bookend2 = (int) VERSION_MAP.get(ncname.charAt(ncname.length() - 1));
+		int bookend1 = bookend(ncname.charAt(0));
+		int bookend2 = bookend(ncname.charAt(ncname.length() - 1));
 		if (bookend1 == -1 || bookend2 == -1) {
 			throw new InvalidUuidException("Invalid UUID NCName: \"" + ncname + "\"");
 		}
@@ -222,6 +256,46 @@ public final class NcnameCodec implements UuidCodec<String> {
 		String substring = ncname.substring(1, ncname.length());
 		UUID uuid = this.codec.decode(substring + padding);
 
+		return fromNcnameOrder(uuid, version);
+	}
+
+	/**
+	 * Get a UUID from a NCName, or null if the NCName is invalid.
+	 * <p>
+	 * It doesn't throw exceptions.
+	 * 
+	 * @param ncname a NCName
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(String ncname) {
+
+		if (ncname == null || ncname.length() != this.length) {
+			return null;
+		}
+
+		// check if the bookends are valid chars: [A-Pa-p]
+		int bookend1 = bookend(ncname.charAt(0));
+		int bookend2 = bookend(ncname.charAt(ncname.length() - 1));
+		if (bookend1 == -1 || bookend2 == -1) {
+			return null;
+		}
+
+		String substring = ncname.substring(1, ncname.length());
+		UUID uuid = this.codec.tryDecode(substring + padding);
+		if (uuid == null) {
+			return null;
+		}
+
+		return fromNcnameOrder(uuid, bookend1 & 0xf);
+	}
+
+	private static int bookend(char chr) {
+		return chr > 0xff ? -1 : VERSION_MAP.get(chr);
+	}
+
+	private UUID fromNcnameOrder(UUID uuid, int version) {
+
 		byte[] bytes = StandardBinaryCodec.INSTANCE.encode(uuid);
 		bytes[15] = (byte) ((bytes[15] & 0xff) << this.shift);
 
@@ -239,4 +313,33 @@ public final class NcnameCodec implements UuidCodec<String> {
 
 		return StandardBinaryCodec.INSTANCE.decode(bytes);
 	}
+
+	private int write(UUID uuid, char[] chars, int offset) {
+
+		int version = uuid.version();
+		byte[] bytes = StandardBinaryCodec.INSTANCE.encode(uuid);
+		int[] ints = ByteUtil.toInts(bytes);
+
+		int variant = (ints[2] & 0xf0000000) >>> 24;
+
+		ints[1] = (ints[1] & 0xffff0000) | ((ints[1] & 0x00000fff) << 4) | ((ints[2] & 0x0fffffff) >>> 24);
+		ints[2] = (ints[2] & 0x00ffffff) << 8 | (ints[3] >>> 24);
+		ints[3] = (ints[3] << 8) | variant;
+
+		bytes = ByteUtil.fromInts(ints);
+		bytes[15] = (byte) ((bytes[15] & 0xff) >>> this.shift);
+
+		UUID uuuu = StandardBinaryCodec.INSTANCE.decode(bytes);
+
+		// write the encoded string and shift it to the right, dropping the last char
+		final int end = this.codec.encode(uuuu, chars, offset);
+		System.arraycopy(chars, offset, chars, offset + 1, this.length - 1);
+
+		// if base is 64, use upper case version, else use lower case
+		char v = this.radix == 64 ? VERSION_UPPERCASE.get(version) : VERSION_LOWERCASE.get(version);
+
+		chars[offset] = v;
+
+		return end;
+	}
 }
@@ -24,6 +24,7 @@
 
 package com.github.f4b6a3.uuid.codec.other;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.UuidCodec;
@@ -137,24 +138,54 @@ public final class SlugCodec implements UuidCodec<String> {
 	 */
 	@Override
 	public String encode(UUID uuid) {
-
 		UuidValidator.validate(uuid);
+		return this.codec.encode(toSlugOrder(uuid));
+	}
 
-		long long1 = uuid.getMostSignificantBits();
-		long long2 = uuid.getLeastSignificantBits();
-
-		long msb = 0;
-		long lsb = 0;
-
-		msb |= (long1 & 0x000000000000f000L) << 48; // move version nibble to bit positions 0, 1, 2, and 3
-		msb |= (long2 & 0xf000000000000000L) >>> 4; // move variant nibble to bit positions 4, 5, 6, and 7
-		msb |= (long1 & 0xffffffffffff0000L) >>> 8;
-		msb |= (long1 & 0x0000000000000fffL) >>> 4;
+	/**
+	 * Writes the Slug of a UUID into a char array.
+	 * <p>
+	 * It writes as many chars as the base-n length, starting at the offset, and
+	 * doesn't create a string.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  a destination char array
+	 * @param offset the index of the first char to write
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the chars don't fit in the array
+	 */
+	public int encode(UUID uuid, char[] chars, int offset) {
+		UuidValidator.validate(uuid);
+		return this.codec.encode(toSlugOrder(uuid), chars, offset);
+	}
 
-		lsb |= (long1 & 0x000000000000000fL) << 60;
-		lsb |= (long2 & 0x0fffffffffffffffL);
+	/**
+	 * Appends the Slug of a UUID to a string builder.
+	 * 
+	 * @param uuid    a UUID
+	 * @param builder a string builder
+	 * @return the string builder
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	public StringBuilder encode(UUID uuid, StringBuilder builder) {
+		UuidValidator.validate(uuid);
+		return this.codec.encode(toSlugOrder(uuid), builder);
+	}
 
-		return this.codec.encode(new UUID(msb, lsb));
+	/**
+	 * Appends the Slug of a UUID to an appendable.
+	 * 
+	 * @param <A>        the appendable type
+	 * @param uuid       a UUID
+	 * @param appendable an appendable, for example, a {@link java.io.Writer}
+	 * @return the appendable
+	 * @throws InvalidUuidException if the argument is invalid
+	 * @throws IOException          if an I/O error occurs
+	 */
+	public <A extends Appendable> A encode(UUID uuid, A appendable) throws IOException {
+		UuidValidator.validate(uuid);
+		return this.codec.encode(toSlugOrder(uuid), appendable);
 	}
 
 	/**
@@ -171,7 +202,33 @@ public final class SlugCodec implements UuidCodec<String> {
 			throw new InvalidUuidException("Invalid UUID Slug: \"" + slug + "\"");
 		}
 
-		UUID uuid = this.codec.decode(slug);
+		return fromSlugOrder(this.codec.decode(slug));
+	}
+
+	/**
+	 * Get a UUID from a Slug, or null if the Slug is invalid.
+	 * <p>
+	 * It doesn't throw exceptions.
+	 * 
+	 * @param slug a Slug
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(String slug) {
+
+		if (slug == null || slug.length() != this.length) {
+			return null;
+		}
+
+		final UUID uuid = this.codec.tryDecode(slug);
+		if (uuid == null) {
+			return null;
+		}
+
+		return fromSlugOrder(uuid);
+	}
+
+	private static UUID fromSlugOrder(UUID uuid) {
 
 		long long1 = uuid.getMostSignificantBits();
 		long long2 = uuid.getLeastSignificantBits();
@@ -189,4 +246,23 @@ public final class SlugCodec implements UuidCodec<String> {
 
 		return new UUID(msb, lsb);
 	}
+
+	private static UUID toSlugOrder(UUID uuid) {
+
+		long long1 = uuid.getMostSignificantBits();
+		long long2 = uuid.getLeastSignificantBits();
+
+		long msb = 0;
+		long lsb = 0;
+
+		msb |= (long1 & 0x000000000000f000L) << 48; // move version nibble to bit positions 0, 1, 2, and 3
+		msb |= (long2 & 0xf000000000000000L) >>> 4; // move variant nibble to bit positions 4, 5, 6, and 7
+		msb |= (long1 & 0xffffffffffff0000L) >>> 8;
+		msb |= (long1 & 0x0000000000000fffL) >>> 4;
+
+		lsb |= (long1 & 0x000000000000000fL) << 60;
+		lsb |= (long2 & 0x0fffffffffffffffL);
+
+		return new UUID(msb, lsb);
+	}
 }
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.other;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * Codec for the binary layout of SQL Server's {@code uniqueidentifier}.
+ * <p>
+ * SQL Server stores a {@code uniqueidentifier} as a .Net Guid: the first three
+ * fields are stored as little-endian, while the last 8 bytes are stored as
+ * big-endian (network order). It encodes to and decodes from 16 bytes in that
+ * layout, which is the layout returned by {@code CAST(id AS BINARY(16))}. No
+ * array is allocated other than the result of {@link #encode(UUID)}.
+ * <p>
+ * SQL Server doesn't compare {@code uniqueidentifier} values byte by byte. It
+ * compares the stored bytes in this order of significance: 10 to 15, 8 and 9,
+ * 6 and 7, 4 and 5, 0 to 3. As the first three fields are stored as
+ * little-endian, the bytes of the canonical string are compared in this order:
+ * 10 to 15, 8 and 9, then 7 down to 0. The
+ * {@link #getComparator() comparator} sorts UUIDs in the same order, so that
+ * batches can be sorted in index order before a bulk load. For example, the
+ * UUIDs created by {@code NEWSEQUENTIALID()} are sorted in creation order.
+ * 
+ * @see DotNetGuid1Codec
+ * @see DotNetGuid4Codec
+ * @see <a href=
+ *      "https://learn.microsoft.com/en-us/sql/connect/ado-net/sql/compare-guid-uniqueidentifier-values">Comparing
+ *      GUID and uniqueidentifier values</a>
+ */
+public class SqlServerGuidCodec implements UuidCodec<byte[]> {
+
+	/**
+	 * A shared immutable instance.
+	 */
+	public static final SqlServerGuidCodec INSTANCE = new SqlServerGuidCodec();
+
+	private static final Comparator<UUID> COMPARATOR = SqlServerGuidCodec::compare;
+
+	private static final int UUID_BYTES = 16;
+
+	/**
+	 * Get the bytes of a UUID as stored by SQL Server.
+	 * 
+	 * @param uuid a UUID
+	 * @return an array of 16 bytes
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public byte[] encode(final UUID uuid) {
+		final byte[] bytes = new byte[UUID_BYTES];
+		encode(uuid, bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Writes the bytes of a UUID as stored by SQL Server into a byte array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first byte to write
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if the argument is invalid
+	 * @throws IndexOutOfBoundsException if the bytes don't fit in the array
+	 */
+	public int encode(final UUID uuid, final byte[] bytes, final int offset) {
+		UuidValidator.validate(uuid);
+		RangeUtil.checkFromIndexSize(offset, UUID_BYTES, bytes.length);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		buffer.putLong(offset, reverse(uuid.getMostSignificantBits()));
+		buffer.putLong(offset + 8, uuid.getLeastSignificantBits());
+		return offset + UUID_BYTES;
+	}
+
+	/**
+	 * Get a UUID from bytes as stored by SQL Server.
+	 * 
+	 * @param bytes an array of 16 bytes
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public UUID decode(final byte[] bytes) {
+		UuidValidator.validate(bytes);
+		return decode(bytes, 0);
+	}
+
+	/**
+	 * Get a UUID from bytes as stored by SQL Server at an offset of a byte array.
+	 * 
+	 * @param bytes  a byte array
+	 * @param offset the index of the first byte to read
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the argument is null
+	 * @throws IndexOutOfBoundsException if the bytes are out of bounds
+	 */
+	public UUID decode(final byte[] bytes, final int offset) {
+		if (bytes == null) {
+			throw InvalidUuidException.newInstance(null);
+		}
+		RangeUtil.checkFromIndexSize(offset, UUID_BYTES, bytes.length);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		return new UUID(reverse(buffer.getLong(offset)), buffer.getLong(offset + 8));
+	}
+
+	/**
+	 * Returns a comparator that sorts UUIDs in the same order as SQL Server sorts
+	 * {@code uniqueidentifier} values.
+	 * 
+	 * @return a comparator
+	 * @see #compare(UUID, UUID)
+	 */
+	public static Comparator<UUID> getComparator() {
+		return COMPARATOR;
+	}
+
+	/**
+	 * Compares two UUIDs as SQL Server compares {@code uniqueidentifier} values.
+	 * <p>
+	 * The stored bytes, as returned by {@link #encode(UUID)}, are compared in this
+	 * order of significance: 10 to 15, 8 and 9, 6 and 7, 4 and 5, 0 to 3. In terms
+	 * of the bytes of the canonical string, the order is 10 to 15, 8 and 9, then 7
+	 * down to 0. It is done with two unsigned long comparisons, without creating
+	 * arrays. A null UUID is taken as the nil UUID.
+	 * 
+	 * @param uuid1 a UUID
+	 * @param uuid2 another UUID
+	 * @return -1, 0 or 1 as {@code uuid1} is less than, equal to, or greater than
+	 *         {@code uuid2}
+	 */
+	public static int compare(final UUID uuid1, final UUID uuid2) {
+
+		final long lsb1 = uuid1 != null ? uuid1.getLeastSignificantBits() : 0L;
+		final long lsb2 = uuid2 != null ? uuid2.getLeastSignificantBits() : 0L;
+
+		// bytes 10 to 15, then bytes 8 and 9
+		final long hi1 = (lsb1 << 16) | (lsb1 >>> 48);
+		final long hi2 = (lsb2 << 16) | (lsb2 >>> 48);
+
+		final int hi = Long.compare(hi1 + Long.MIN_VALUE, hi2 + Long.MIN_VALUE);
+		if (hi != 0) {
+			return hi;
+		}
+
+		final long msb1 = uuid1 != null ? uuid1.getMostSignificantBits() : 0L;
+		final long msb2 = uuid2 != null ? uuid2.getMostSignificantBits() : 0L;
+
+		// canonical bytes 7 down to 0, i.e. the byte-reversed time-high, time-mid
+		// and time-low fields, in this order
+		final long lo1 = Long.reverseBytes(msb1);
+		final long lo2 = Long.reverseBytes(msb2);
+
+		return Long.compare(lo1 + Long.MIN_VALUE, lo2 + Long.MIN_VALUE);
+	}
+
+	/**
+	 * Reverses the byte order of each one of the first three fields.
+	 */
+	private static long reverse(final long msb) {
+		final long r = Long.reverseBytes(msb);
+		// the reversed fields are in reverse order: time-high, time-mid, time-low
+		return (r << 32) | ((r >>> 16) & 0x00000000_ffff_0000L) | (r >>> 48);
+	}
+}
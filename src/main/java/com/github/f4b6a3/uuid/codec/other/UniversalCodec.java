@@ -0,0 +1,407 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.other;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.StandardStringCodec;
+import com.github.f4b6a3.uuid.codec.UrnCodec;
+import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.codec.base.Base32Codec;
+import com.github.f4b6a3.uuid.codec.base.Base58BtcCodec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.UuidValidator;
+
+/**
+ * Codec that decodes UUIDs in many string formats, detecting the format.
+ * <p>
+ * Instead of trying one codec after another, it looks up the formats that have
+ * the length of the string and tries only those. Each attempt validates and
+ * decodes in a single pass, without exceptions. At most one exception is
+ * thrown, if no format matches. The formats not in the list are not accepted.
+ * <p>
+ * Some formats have the same length, for example, base-62 and base-64-url have
+ * 22 chars, and their alphabets overlap: every base-62 string is also a valid
+ * base-64-url string of another UUID. So the constructor rejects more than one
+ * format of the same length. To accept them anyway, use
+ * {@link #withPrecedence(Format...)}: the chars that only some alphabets have,
+ * like '-', '_', '+' and '/', select the formats that can match, and a string
+ * that is valid in more than one of them is decoded with the first one in the
+ * list.
+ * <p>
+ * It encodes UUIDs with the first format in the list.
+ * <p>
+ * Usage:
+ * 
+ * <pre>{@code
+ * // accept canonical strings and base-62, but never base-64-url
+ * UniversalCodec codec = new UniversalCodec(Format.CANONICAL, Format.BASE_62);
+ * UUID uuid = codec.decode("4b4cDoWRB7CfzXbZeIamqC");
+ * }</pre>
+ * 
+ * @see Format
+ */
+public final class UniversalCodec implements UuidCodec<String> {
+
+	private static final Format[] NONE = {};
+
+	// classes of chars that only some alphabets have
+	private static final int HYPHEN = 1;
+	private static final int UNDERSCORE = 2;
+	private static final int PLUS = 4;
+	private static final int SLASH = 8;
+	private static final int NON_BASE_58 = 16; // '0', 'O', 'I' and 'l'
+	private static final int OTHER = 32;
+	private static final int ANY = -1;
+
+	/**
+	 * A shared immutable instance that accepts all formats that have a length of
+	 * their own: {@link Format#CANONICAL}, {@link Format#WITHOUT_HYPHENS},
+	 * {@link Format#URN}, {@link Format#CURLY_BRACES} and {@link Format#BASE_32}.
+	 * <p>
+	 * It doesn't accept the 22-char formats, which are ambiguous.
+	 */
+	public static final UniversalCodec INSTANCE = new UniversalCodec(Format.CANONICAL, Format.WITHOUT_HYPHENS,
+			Format.URN, Format.CURLY_BRACES, Format.BASE_32);
+
+	private final Format[] formats;
+	private final Format[][] table; // formats indexed by length
+
+	/**
+	 * String formats of UUIDs.
+	 */
+	public enum Format {
+		/**
+		 * Canonical string, for example "01234567-89ab-cdef-0123-456789abcdef".
+		 */
+		CANONICAL(36, ANY, StandardStringCodec.INSTANCE),
+		/**
+		 * Canonical string without hyphens, for example
+		 * "0123456789abcdef0123456789abcdef".
+		 */
+		WITHOUT_HYPHENS(32, ANY, Base16Codec.INSTANCE),
+		/**
+		 * Canonical string with URN prefix, for example
+		 * "urn:uuid:01234567-89ab-cdef-0123-456789abcdef".
+		 */
+		URN(45, ANY, UrnCodec.INSTANCE),
+		/**
+		 * Canonical string with curly braces, for example
+		 * "{01234567-89ab-cdef-0123-456789abcdef}".
+		 */
+		CURLY_BRACES(38, ANY, new CurlyBracesCodec()),
+		/**
+		 * Base-64-url string. See {@link Base64UrlCodec}.
+		 */
+		BASE_64_URL(22, HYPHEN | UNDERSCORE | NON_BASE_58, Base64UrlCodec.INSTANCE),
+		/**
+		 * Base-64 string. See {@link Base64Codec}.
+		 */
+		BASE_64(22, PLUS | SLASH | NON_BASE_58, Base64Codec.INSTANCE),
+		/**
+		 * Base-62 string. See {@link Base62Codec}.
+		 */
+		BASE_62(22, NON_BASE_58, Base62Codec.INSTANCE),
+		/**
+		 * Base-58 string. See {@link Base58BtcCodec}.
+		 */
+		BASE_58(22, 0, Base58BtcCodec.INSTANCE),
+		/**
+		 * Base-32 string. See {@link Base32Codec}.
+		 */
+		BASE_32(26, ANY, Base32Codec.INSTANCE),
+		/**
+		 * Slug string. See {@link SlugCodec}.
+		 */
+		SLUG(22, HYPHEN | UNDERSCORE | NON_BASE_58, SlugCodec.INSTANCE),
+		/**
+		 * NCName string. See {@link NcnameCodec}.
+		 */
+		NCNAME(22, HYPHEN | UNDERSCORE | NON_BASE_58, NcnameCodec.INSTANCE);
+
+		private final int length;
+		private final int chars; // classes of chars it may contain
+		private final UuidCodec<String> codec;
+
+		Format(int length, int chars, UuidCodec<String> codec) {
+			this.length = length;
+			this.chars = chars;
+			this.codec = codec;
+		}
+
+		/**
+		 * Returns the length of the strings in this format.
+		 * 
+		 * @return a number of chars
+		 */
+		public int getLength() {
+			return this.length;
+		}
+
+		/**
+		 * Returns the codec of this format.
+		 * <p>
+		 * The codec encodes UUIDs in this format.
+		 * 
+		 * @return a codec
+		 */
+		public UuidCodec<String> getCodec() {
+			return this.codec;
+		}
+	}
+
+	/**
+	 * Constructor with the accepted formats.
+	 * 
+	 * @param formats a list of formats
+	 * @throws IllegalArgumentException if the list is empty, contains null or
+	 *                                  contains more than one format of the same
+	 *                                  length
+	 */
+	public UniversalCodec(Format... formats) {
+		this(formats, false);
+	}
+
+	private UniversalCodec(Format[] formats, boolean precedence) {
+
+		if (formats == null || formats.length == 0) {
+			throw new IllegalArgumentException("No formats");
+		}
+
+		int max = 0;
+		for (Format format : formats) {
+			if (format == null) {
+				throw new IllegalArgumentException("Null format");
+			}
+			max = Math.max(max, format.length);
+		}
+
+		this.formats = formats.clone();
+		this.table = new Format[max + 1][];
+		Arrays.fill(this.table, NONE);
+
+		for (Format format : this.formats) {
+			Format[] row = this.table[format.length];
+			if (!Arrays.asList(row).contains(format)) {
+				if (!precedence && row.length > 0) {
+					throw new IllegalArgumentException(
+							String.format("Ambiguous formats: %s and %s have the same length", row[0], format));
+				}
+				row = Arrays.copyOf(row, row.length + 1);
+				row[row.length - 1] = format;
+				this.table[format.length] = row;
+			}
+		}
+	}
+
+	/**
+	 * Returns a codec that accepts formats of the same length, in order of
+	 * precedence.
+	 * <p>
+	 * A string that is valid in more than one format of its length is decoded with
+	 * the first one in the list. Use it only if the strings of the ambiguous
+	 * formats are known to be in the first one.
+	 * 
+	 * <pre>{@code
+	 * // accept base-62 and base-64-url, preferring base-62
+	 * UniversalCodec codec = UniversalCodec.withPrecedence(Format.BASE_62, Format.BASE_64_URL);
+	 * }</pre>
+	 * 
+	 * @param formats a list of formats, in order of precedence
+	 * @return a codec
+	 * @throws IllegalArgumentException if the list is empty or contains null
+	 */
+	public static UniversalCodec withPrecedence(Format... formats) {
+		return new UniversalCodec(formats, true);
+	}
+
+	/**
+	 * Get an encoded string from a UUID, using the first format.
+	 * 
+	 * @param uuid a UUID
+	 * @return an encoded string
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public String encode(UUID uuid) {
+		return this.formats[0].codec.encode(uuid);
+	}
+
+	/**
+	 * Get a UUID from a string in any of the accepted formats.
+	 * 
+	 * @param string a string
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public UUID decode(String string) {
+		final UUID uuid = tryDecode(string);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(string);
+		}
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a string in any of the accepted formats, or null if the
+	 * string is invalid.
+	 * <p>
+	 * It doesn't throw exceptions.
+	 * 
+	 * @param string a string
+	 * @return a UUID, or null if the argument is invalid
+	 */
+	@Override
+	public UUID tryDecode(String string) {
+
+		if (string == null || string.length() >= this.table.length) {
+			return null;
+		}
+
+		final Format[] row = this.table[string.length()];
+
+		if (row.length == 1) {
+			return row[0].codec.tryDecode(string);
+		}
+
+		final int chars = probe(string);
+		for (Format format : row) {
+			if ((chars & ~format.chars) == 0) {
+				final UUID uuid = format.codec.tryDecode(string);
+				if (uuid != null) {
+					return uuid;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the format of a string, or null if the string is invalid.
+	 * <p>
+	 * If the string is valid in more than one format, the first one in order of
+	 * precedence is returned.
+	 * 
+	 * @param string a string
+	 * @return a format, or null if the argument is invalid
+	 */
+	public Format detect(String string) {
+
+		if (string == null || string.length() >= this.table.length) {
+			return null;
+		}
+
+		final Format[] row = this.table[string.length()];
+
+		if (row.length == 1) {
+			return row[0].codec.tryDecode(string) != null ? row[0] : null;
+		}
+
+		final int chars = probe(string);
+		for (Format format : row) {
+			if ((chars & ~format.chars) == 0 && format.codec.tryDecode(string) != null) {
+				return format;
+			}
+		}
+
+		return null;
+	}
+
+	private static int probe(String string) {
+		int chars = 0;
+		for (int i = 0; i < string.length(); i++) {
+			switch (string.charAt(i)) {
+			case '-':
+				chars |= HYPHEN;
+				break;
+			case '_':
+				chars |= UNDERSCORE;
+				break;
+			case '+':
+				chars |= PLUS;
+				break;
+			case '/':
+				chars |= SLASH;
+				break;
+			case '0':
+			case 'O':
+			case 'I':
+			case 'l':
+				chars |= NON_BASE_58;
+				break;
+			default:
+				final char c = string.charAt(i);
+				if (!((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+					chars |= OTHER;
+				}
+			}
+		}
+		return chars;
+	}
+
+	/**
+	 * Codec for canonical strings with curly braces.
+	 */
+	private static final class CurlyBracesCodec implements UuidCodec<String> {
+
+		private static final int LENGTH = 38;
+
+		@Override
+		public String encode(UUID uuid) {
+			UuidValidator.validate(uuid);
+			final char[] chars = new char[LENGTH];
+			chars[0] = '{';
+			StandardStringCodec.INSTANCE.encode(uuid, chars, 1);
+			chars[LENGTH - 1] = '}';
+			return new String(chars);
+		}
+
+		@Override
+		public UUID decode(String string) {
+			final UUID uuid = tryDecode(string);
+			if (uuid == null) {
+				throw InvalidUuidException.newInstance(string);
+			}
+			return uuid;
+		}
+
+		@Override
+		public UUID tryDecode(String string) {
+			if (string == null || string.length() != LENGTH || string.charAt(0) != '{'
+					|| string.charAt(LENGTH - 1) != '}') {
+				return null;
+			}
+			return StandardStringCodec.INSTANCE.tryDecode(string, 1, LENGTH - 2);
+		}
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.collection;
+
+import java.util.Arrays;
+
+/**
+ * Abstract hash table of UUIDs stored as pairs of longs.
+ * <p>
+ * The most and least significant bits are stored in two parallel arrays of
+ * longs, with open addressing and linear probing. The removals shift the next
+ * entries back, so there are no tombstones.
+ * <p>
+ * An empty slot has both halves equal to zero, so the nil UUID is kept in an
+ * extra slot at the end of the arrays.
+ * <p>
+ * The subclasses keep their values in arrays with the same indexes as the keys.
+ * They allocate the values in their constructors, with {@link #length()} slots.
+ * <p>
+ * The hash mixes both halves of the UUID, because {@link java.util.UUID#hashCode()}
+ * clusters with UUIDs whose high bits have low entropy, for example, the time
+ * stamps of UUIDv6 and UUIDv7.
+ */
+abstract class AbstUuidTable {
+
+	protected long[] msbs;
+	protected long[] lsbs;
+
+	protected int mask; // capacity - 1; the nil slot is at the capacity
+	protected int size;
+	protected boolean nil;
+
+	private int threshold;
+
+	protected static final int DEFAULT_EXPECTED_SIZE = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	protected AbstUuidTable(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+		}
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Returns the number of UUIDs.
+	 * 
+	 * @return the number of UUIDs
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if there are no UUIDs.
+	 * 
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all UUIDs.
+	 * <p>
+	 * The capacity is kept.
+	 */
+	public void clear() {
+		Arrays.fill(msbs, 0L);
+		Arrays.fill(lsbs, 0L);
+		for (int i = 0; i <= mask + 1; i++) {
+			clearValue(i);
+		}
+		size = 0;
+		nil = false;
+	}
+
+	/**
+	 * Returns the index of a UUID, or a negative number if it is absent.
+	 */
+	protected final int indexOf(final long msb, final long lsb) {
+		if ((msb | lsb) == 0L) {
+			return nil ? mask + 1 : -1;
+		}
+		for (int i = hash(msb, lsb) & mask;; i = (i + 1) & mask) {
+			final long m = msbs[i];
+			final long l = lsbs[i];
+			if (m == msb && l == lsb) {
+				return i;
+			}
+			if ((m | l) == 0L) {
+				return -1;
+			}
+		}
+	}
+
+	/**
+	 * Inserts a UUID if absent.
+	 * <p>
+	 * Returns the index of the UUID if it was present, or
+	 * {@code -(index + 1)} if it was inserted.
+	 */
+	protected final int insert(final long msb, final long lsb) {
+
+		if ((msb | lsb) == 0L) {
+			if (nil) {
+				return mask + 1;
+			}
+			nil = true;
+			size++;
+			return -(mask + 1) - 1;
+		}
+
+		if (size >= threshold) {
+			rehash((mask + 1) << 1);
+		}
+
+		int i = hash(msb, lsb) & mask;
+		for (;; i = (i + 1) & mask) {
+			final long m = msbs[i];
+			final long l = lsbs[i];
+			if (m == msb && l == lsb) {
+				return i;
+			}
+			if ((m | l) == 0L) {
+				break;
+			}
+		}
+
+		msbs[i] = msb;
+		lsbs[i] = lsb;
+		size++;
+		return -i - 1;
+	}
+
+	/**
+	 * Removes the UUID at an index.
+	 */
+	protected final void removeAt(int index) {
+
+		size--;
+
+		if (index == mask + 1) {
+			nil = false;
+			clearValue(index);
+			return;
+		}
+
+		// shift back the entries that are out of their ideal slots
+		for (int j = (index + 1) & mask;; j = (j + 1) & mask) {
+			final long m = msbs[j];
+			final long l = lsbs[j];
+			if ((m | l) == 0L) {
+				break;
+			}
+			final int k = hash(m, l) & mask;
+			// move it unless its ideal slot is cyclically in (index, j]
+			if (index <= j ? (index >= k || k > j) : (index >= k && k > j)) {
+				msbs[index] = m;
+				lsbs[index] = l;
+				moveValue(j, index);
+				index = j;
+			}
+		}
+
+		msbs[index] = 0L;
+		lsbs[index] = 0L;
+		clearValue(index);
+	}
+
+	/**
+	 * Returns the length of the arrays, including the nil slot.
+	 */
+	protected final int length() {
+		return mask + 2;
+	}
+
+	/**
+	 * Moves the values, if any, to a new array of a length, from the old indexes
+	 * to the new indexes. A negative new index means an empty slot.
+	 */
+	protected abstract void rehashValues(int[] moves, int length);
+
+	/**
+	 * Moves the value, if any, from one index to another.
+	 */
+	protected abstract void moveValue(int from, int to);
+
+	/**
+	 * Clears the value, if any, at an index.
+	 */
+	protected abstract void clearValue(int index);
+
+	/**
+	 * Mixes both halves of a UUID.
+	 */
+	static int hash(final long msb, final long lsb) {
+		return (int) mix(msb, lsb);
+	}
+
+	/**
+	 * Mixes both halves of a UUID into 64 bits.
+	 */
+	static long mix(final long msb, final long lsb) {
+		// the 64-bit finalizer of MurmurHash3 over both halves
+		long h = msb * 0x9e3779b97f4a7c15L + lsb;
+		h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+		h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return h ^ (h >>> 33);
+	}
+
+	private void allocate(final int capacity) {
+		this.msbs = new long[capacity + 1];
+		this.lsbs = new long[capacity + 1];
+		this.mask = capacity - 1;
+		this.threshold = thresholdFor(capacity);
+	}
+
+	private void rehash(final int capacity) {
+
+		if (capacity > MAX_CAPACITY) {
+			throw new IllegalStateException("Too many UUIDs: " + size);
+		}
+
+		final long[] oldMsbs = msbs;
+		final long[] oldLsbs = lsbs;
+		final int oldCapacity = mask + 1;
+
+		this.msbs = new long[capacity + 1];
+		this.lsbs = new long[capacity + 1];
+		this.mask = capacity - 1;
+		this.threshold = thresholdFor(capacity);
+
+		final int[] moves = new int[oldCapacity + 1];
+		for (int i = 0; i < oldCapacity; i++) {
+			final long m = oldMsbs[i];
+			final long l = oldLsbs[i];
+			if ((m | l) == 0L) {
+				moves[i] = -1;
+				continue;
+			}
+			int j = hash(m, l) & mask;
+			while ((msbs[j] | lsbs[j]) != 0L) {
+				j = (j + 1) & mask;
+			}
+			msbs[j] = m;
+			lsbs[j] = l;
+			moves[i] = j;
+		}
+		moves[oldCapacity] = capacity; // the nil slot
+
+		rehashValues(moves, capacity + 1);
+	}
+
+	private static int capacityFor(final int expectedSize) {
+		// the load factor is at most 2/3
+		final long minimum = Math.max(2L, (expectedSize * 3L + 1) / 2);
+		if (minimum > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+		}
+		return Integer.highestOneBit((int) minimum - 1) << 1;
+	}
+
+	private static int thresholdFor(final int capacity) {
+		return (int) (capacity * 2L / 3);
+	}
+}
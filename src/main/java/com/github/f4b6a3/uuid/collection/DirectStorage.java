@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.collection;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.github.f4b6a3.uuid.codec.StandardBinaryCodec;
+
+/**
+ * Slots of 16 bytes in direct byte buffers, outside the Java heap.
+ * <p>
+ * The slots are split into chunks of up to {@link #CHUNK_SLOTS} slots, so that
+ * the number of slots is not limited by the {@code int} indexes of a buffer.
+ * Each slot holds a UUID in the layout of {@link StandardBinaryCodec}: the most
+ * significant bits followed by the least significant bits, in big-endian order.
+ * <p>
+ * The memory of a direct buffer is zeroed when allocated, and released when the
+ * buffer is collected by the GC.
+ */
+final class DirectStorage {
+
+	static final int CHUNK_SHIFT = 20;
+	static final int CHUNK_SLOTS = 1 << CHUNK_SHIFT; // 16 MiB per chunk
+	static final int SLOT_BYTES = 16;
+
+	private static final int CHUNK_MASK = CHUNK_SLOTS - 1;
+
+	private ByteBuffer[] chunks;
+	private long capacity;
+
+	DirectStorage(long slots) {
+		this.chunks = new ByteBuffer[0];
+		this.capacity = 0;
+		grow(slots);
+	}
+
+	long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Adds chunks until the capacity is at least a number of slots.
+	 */
+	void grow(long slots) {
+
+		if (slots <= capacity) {
+			return;
+		}
+
+		final long count = (slots + CHUNK_MASK) >>> CHUNK_SHIFT;
+		if (count > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many slots: " + slots);
+		}
+
+		final int length = chunks.length;
+		chunks = Arrays.copyOf(chunks, (int) count);
+
+		// a single small chunk grows up to a full chunk
+		int first = length;
+		if (length == 1 && chunks[0].capacity() < CHUNK_SLOTS * SLOT_BYTES) {
+			final ByteBuffer small = chunks[0];
+			chunks[0] = allocate(count == 1 ? slots : CHUNK_SLOTS);
+			chunks[0].put((ByteBuffer) small.duplicate().clear());
+			first = 1;
+		}
+
+		for (int i = first; i < count; i++) {
+			chunks[i] = allocate(count == 1 ? slots : CHUNK_SLOTS);
+		}
+
+		capacity = count == 1 ? slots : count << CHUNK_SHIFT;
+	}
+
+	long msb(long slot) {
+		return chunk(slot).getLong(offset(slot));
+	}
+
+	long lsb(long slot) {
+		return chunk(slot).getLong(offset(slot) + 8);
+	}
+
+	boolean isEmpty(long slot) {
+		final ByteBuffer chunk = chunk(slot);
+		final int offset = offset(slot);
+		return (chunk.getLong(offset) | chunk.getLong(offset + 8)) == 0L;
+	}
+
+	void set(long slot, long msb, long lsb) {
+		final ByteBuffer chunk = chunk(slot);
+		final int offset = offset(slot);
+		chunk.putLong(offset, msb);
+		chunk.putLong(offset + 8, lsb);
+	}
+
+	ByteBuffer chunk(long slot) {
+		return chunks[(int) (slot >>> CHUNK_SHIFT)];
+	}
+
+	static int offset(long slot) {
+		return ((int) slot & CHUNK_MASK) * SLOT_BYTES;
+	}
+
+	private static ByteBuffer allocate(long slots) {
+		// big-endian, as the binary codec
+		return ByteBuffer.allocateDirect((int) (slots * SLOT_BYTES));
+	}
+}
@@ -0,0 +1,366 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.collection;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.StandardBinaryCodec;
+
+/**
+ * Growable array of UUIDs outside the Java heap.
+ * <p>
+ * The UUIDs are kept in direct byte buffers, in the binary layout of
+ * {@link StandardBinaryCodec}, so a large array adds almost nothing to the heap
+ * and to the work of the GC. The buffers are split into chunks of 16 MiB, so it
+ * can hold more than {@link Integer#MAX_VALUE} bytes, and the indexes are
+ * longs.
+ * <p>
+ * The UUIDs can be read without creating objects, as pairs of longs written
+ * into an array supplied by the caller. If the array is sorted in the opaque
+ * order, the UUIDs can be found with binary search.
+ * <p>
+ * The memory is released when the array is collected by the GC.
+ * <p>
+ * It is not thread safe.
+ * <p>
+ * Usage:
+ * 
+ * <pre>{@code
+ * UuidArray array = new UuidArray(100_000_000);
+ * array.load(buffer); // UUIDs encoded by StandardBinaryCodec
+ * 
+ * long[] holder = new long[2];
+ * for (long i = 0; i < array.size(); i++) {
+ *     array.get(i, holder, 0); // no objects created
+ * }
+ * }</pre>
+ * 
+ * @see UuidDirectSet
+ */
+public final class UuidArray {
+
+	private final DirectStorage storage;
+	private long size;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * Creates an empty array.
+	 */
+	public UuidArray() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty array with an initial capacity.
+	 * 
+	 * @param capacity the initial number of UUIDs
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public UuidArray(long capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Negative capacity: " + capacity);
+		}
+		this.storage = new DirectStorage(capacity);
+	}
+
+	/**
+	 * Returns the number of UUIDs.
+	 * 
+	 * @return the number of UUIDs
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if there are no UUIDs.
+	 * 
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all UUIDs.
+	 * <p>
+	 * The memory is kept.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Appends a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return the index of the UUID
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public long append(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return append(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Appends a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return the index of the UUID
+	 */
+	public long append(long msb, long lsb) {
+		ensureCapacity(size + 1);
+		storage.set(size, msb, lsb);
+		return size++;
+	}
+
+	/**
+	 * Returns the UUID at an index.
+	 * 
+	 * @param index an index
+	 * @return a UUID
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public UUID get(long index) {
+		checkIndex(index);
+		return StandardBinaryCodec.INSTANCE.decode(storage.chunk(index), DirectStorage.offset(index));
+	}
+
+	/**
+	 * Writes the UUID at an index into an array, as a pair of longs.
+	 * <p>
+	 * The most significant bits are written at the offset, and the least
+	 * significant bits after them.
+	 * 
+	 * @param index  an index
+	 * @param holder an array of longs
+	 * @param offset the index of the most significant bits in the holder
+	 * @throws IndexOutOfBoundsException if the index is out of range or the pair
+	 *                                   doesn't fit in the holder
+	 */
+	public void get(long index, long[] holder, int offset) {
+		checkIndex(index);
+		if (offset < 0 || offset > holder.length - 2) {
+			throw new IndexOutOfBoundsException("Invalid holder offset: " + offset);
+		}
+		holder[offset] = storage.msb(index);
+		holder[offset + 1] = storage.lsb(index);
+	}
+
+	/**
+	 * Returns the most significant bits of the UUID at an index.
+	 * 
+	 * @param index an index
+	 * @return the most significant bits
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public long getMostSignificantBits(long index) {
+		checkIndex(index);
+		return storage.msb(index);
+	}
+
+	/**
+	 * Returns the least significant bits of the UUID at an index.
+	 * 
+	 * @param index an index
+	 * @return the least significant bits
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public long getLeastSignificantBits(long index) {
+		checkIndex(index);
+		return storage.lsb(index);
+	}
+
+	/**
+	 * Replaces the UUID at an index.
+	 * 
+	 * @param index an index
+	 * @param msb   the most significant bits
+	 * @param lsb   the least significant bits
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public void set(long index, long msb, long lsb) {
+		checkIndex(index);
+		storage.set(index, msb, lsb);
+	}
+
+	/**
+	 * Searches a UUID in an array sorted in the opaque order.
+	 * <p>
+	 * The result is undefined if the array is not sorted as unsigned 128-bit
+	 * integers, for example, by
+	 * {@link com.github.f4b6a3.uuid.util.UuidSorter#sortOpaque(long[], long[])}
+	 * before loading.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return the index of the UUID, if found; otherwise
+	 *         {@code (-(insertion point) - 1)}, as in
+	 *         {@link java.util.Arrays#binarySearch(long[], long)}
+	 * @see com.github.f4b6a3.uuid.util.UuidComparator#opaqueCompare(UUID, UUID)
+	 */
+	public long binarySearch(long msb, long lsb) {
+
+		// used to compare as UNSIGNED longs
+		final long min = 0x8000000000000000L;
+		final long a = msb + min;
+		final long c = lsb + min;
+
+		long low = 0;
+		long high = size - 1;
+
+		while (low <= high) {
+			final long mid = (low + high) >>> 1;
+			final long b = storage.msb(mid) + min;
+			if (b < a) {
+				low = mid + 1;
+			} else if (b > a) {
+				high = mid - 1;
+			} else {
+				final long d = storage.lsb(mid) + min;
+				if (d < c) {
+					low = mid + 1;
+				} else if (d > c) {
+					high = mid - 1;
+				} else {
+					return mid;
+				}
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Searches a UUID in an array sorted in the opaque order.
+	 * 
+	 * @param uuid a UUID
+	 * @return the index of the UUID, if found; otherwise
+	 *         {@code (-(insertion point) - 1)}
+	 * @throws NullPointerException if the UUID is null
+	 * @see #binarySearch(long, long)
+	 */
+	public long binarySearch(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return binarySearch(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Appends the UUIDs remaining in a buffer, encoded by
+	 * {@link StandardBinaryCodec}.
+	 * <p>
+	 * The bytes are copied in bulk; no UUID is decoded. The position of the buffer
+	 * is moved to its limit.
+	 * 
+	 * @param buffer a buffer
+	 * @return the number of UUIDs appended
+	 * @throws IllegalArgumentException if the remaining bytes are not a multiple
+	 *                                  of 16
+	 * @see StandardBinaryCodec#encodeAll(UUID[], ByteBuffer)
+	 */
+	public long load(ByteBuffer buffer) {
+
+		final int remaining = buffer.remaining();
+		if (remaining % DirectStorage.SLOT_BYTES != 0) {
+			throw new IllegalArgumentException("Remaining bytes not a multiple of 16: " + remaining);
+		}
+
+		final int count = remaining / DirectStorage.SLOT_BYTES;
+		ensureCapacity(size + count);
+
+		final ByteBuffer source = buffer.duplicate();
+		long index = size;
+		while (source.hasRemaining()) {
+			final ByteBuffer chunk = storage.chunk(index).duplicate();
+			chunk.position(DirectStorage.offset(index));
+			final int length = Math.min(source.remaining(), chunk.remaining());
+			final ByteBuffer slice = (ByteBuffer) source.duplicate().limit(source.position() + length);
+			chunk.put(slice);
+			source.position(source.position() + length);
+			index += length / DirectStorage.SLOT_BYTES;
+		}
+
+		buffer.position(buffer.limit());
+		size += count;
+		return count;
+	}
+
+	/**
+	 * Writes UUIDs into a buffer, encoded as by {@link StandardBinaryCodec}.
+	 * <p>
+	 * The bytes are copied in bulk; no UUID is encoded. The position of the buffer
+	 * is moved forward by 16 bytes per UUID.
+	 * 
+	 * @param index  the index of the first UUID
+	 * @param count  the number of UUIDs
+	 * @param buffer a buffer
+	 * @throws IndexOutOfBoundsException if the UUIDs are out of range
+	 * @throws BufferOverflowException   if the buffer has not enough space
+	 * @see StandardBinaryCodec#decodeAll(ByteBuffer, UUID[])
+	 */
+	public void store(long index, int count, ByteBuffer buffer) {
+
+		if (index < 0 || count < 0 || index > size - count) {
+			throw new IndexOutOfBoundsException(
+					String.format("Range [%d, %d + %d) out of bounds for size %d", index, index, count, size));
+		}
+		if ((long) count * DirectStorage.SLOT_BYTES > buffer.remaining()) {
+			throw new BufferOverflowException();
+		}
+
+		final long end = index + count;
+		while (index < end) {
+			final ByteBuffer chunk = storage.chunk(index).duplicate();
+			final int offset = DirectStorage.offset(index);
+			final long available = DirectStorage.CHUNK_SLOTS - (offset / DirectStorage.SLOT_BYTES);
+			final int slots = (int) Math.min(available, end - index);
+			chunk.limit(offset + slots * DirectStorage.SLOT_BYTES).position(offset);
+			buffer.put(chunk);
+			index += slots;
+		}
+	}
+
+	/**
+	 * Ensures that the array can hold a number of UUIDs without growing.
+	 * 
+	 * @param capacity a number of UUIDs
+	 */
+	public void ensureCapacity(long capacity) {
+		if (capacity > storage.capacity()) {
+			storage.grow(Math.max(capacity, Math.max(DEFAULT_CAPACITY, storage.capacity() * 2)));
+		}
+	}
+
+	private void checkIndex(long index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for size %d", index, size));
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.collection;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Hash set of UUIDs outside the Java heap.
+ * <p>
+ * It is the same open-addressing table as {@link UuidSet}, but the slots are
+ * kept in direct byte buffers, like {@link UuidArray}. A large set adds almost
+ * nothing to the heap and to the work of the GC, and it can hold more than
+ * {@link Integer#MAX_VALUE} UUIDs. A UUID takes 24 to 48 bytes of direct
+ * memory, depending on the load of the table.
+ * <p>
+ * When the table grows, the old and the new tables are in memory at the same
+ * time. Give the expected size to the constructor to avoid it.
+ * <p>
+ * The memory is released when the set is collected by the GC.
+ * <p>
+ * It is not thread safe.
+ * 
+ * @see UuidArray
+ * @see UuidSet
+ */
+public final class UuidDirectSet {
+
+	private DirectStorage storage;
+	private long mask;
+	private long size;
+	private long threshold;
+	private boolean nil;
+
+	private static final long DEFAULT_EXPECTED_SIZE = 16;
+	private static final long MAX_CAPACITY = 1L << 62;
+
+	/**
+	 * Creates an empty set.
+	 */
+	public UuidDirectSet() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates an empty set that can hold an expected number of UUIDs without
+	 * growing.
+	 * 
+	 * @param expectedSize the expected number of UUIDs
+	 * @throws IllegalArgumentException if the expected size is negative or too
+	 *                                  large
+	 */
+	public UuidDirectSet(long expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+		}
+		if (expectedSize > MAX_CAPACITY / 2) {
+			throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+		}
+		allocate(Long.highestOneBit(Math.max(2L, (expectedSize * 3 + 1) / 2) - 1) << 1);
+	}
+
+	/**
+	 * Returns the number of UUIDs.
+	 * 
+	 * @return the number of UUIDs
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if there are no UUIDs.
+	 * 
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Adds a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was not in the set
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean add(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Adds a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was not in the set
+	 */
+	public boolean add(long msb, long lsb) {
+
+		if ((msb | lsb) == 0L) {
+			if (nil) {
+				return false;
+			}
+			nil = true;
+			size++;
+			return true;
+		}
+
+		if (size >= threshold) {
+			rehash((mask + 1) << 1);
+		}
+
+		for (long i = AbstUuidTable.mix(msb, lsb) & mask;; i = (i + 1) & mask) {
+			final long m = storage.msb(i);
+			final long l = storage.lsb(i);
+			if (m == msb && l == lsb) {
+				return false;
+			}
+			if ((m | l) == 0L) {
+				storage.set(i, msb, lsb);
+				size++;
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the set contains a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID is in the set
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean contains(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Returns true if the set contains a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID is in the set
+	 */
+	public boolean contains(long msb, long lsb) {
+
+		if ((msb | lsb) == 0L) {
+			return nil;
+		}
+
+		for (long i = AbstUuidTable.mix(msb, lsb) & mask;; i = (i + 1) & mask) {
+			final long m = storage.msb(i);
+			final long l = storage.lsb(i);
+			if (m == msb && l == lsb) {
+				return true;
+			}
+			if ((m | l) == 0L) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Appends all the UUIDs to an array, in no particular order.
+	 * 
+	 * @param array an array
+	 */
+	public void copyTo(UuidArray array) {
+		array.ensureCapacity(array.size() + size);
+		for (long i = 0; i <= mask; i++) {
+			final long m = storage.msb(i);
+			final long l = storage.lsb(i);
+			if ((m | l) != 0L) {
+				array.append(m, l);
+			}
+		}
+		if (nil) {
+			array.append(0L, 0L);
+		}
+	}
+
+	private void allocate(final long capacity) {
+		this.storage = new DirectStorage(capacity);
+		this.mask = capacity - 1;
+		this.threshold = capacity * 2 / 3;
+	}
+
+	private void rehash(final long capacity) {
+
+		if (capacity > MAX_CAPACITY) {
+			throw new IllegalStateException("Too many UUIDs: " + size);
+		}
+
+		final DirectStorage old = storage;
+		final long oldCapacity = mask + 1;
+
+		allocate(capacity);
+
+		for (long i = 0; i < oldCapacity; i++) {
+			final long m = old.msb(i);
+			final long l = old.lsb(i);
+			if ((m | l) == 0L) {
+				continue;
+			}
+			long j = AbstUuidTable.mix(m, l) & mask;
+			while (!storage.isEmpty(j)) {
+				j = (j + 1) & mask;
+			}
+			storage.set(j, m, l);
+		}
+	}
+}
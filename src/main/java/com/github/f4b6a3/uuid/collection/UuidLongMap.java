@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.collection;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Hash map of UUIDs to primitive longs.
+ * <p>
+ * It stores the keys as pairs of longs and the values in a parallel array of
+ * longs, so no objects are created to put, get or remove entries with keys
+ * given as pairs of longs. An entry takes 36 to 72 bytes, depending on the load
+ * of the table.
+ * <p>
+ * It is not thread safe.
+ * 
+ * @see UuidSet
+ */
+public final class UuidLongMap extends AbstUuidTable {
+
+	private long[] values;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public UuidLongMap() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates an empty map that can hold an expected number of entries without
+	 * growing.
+	 * 
+	 * @param expectedSize the expected number of entries
+	 * @throws IllegalArgumentException if the expected size is negative or too
+	 *                                  large
+	 */
+	public UuidLongMap(int expectedSize) {
+		super(expectedSize);
+		this.values = new long[length()];
+	}
+
+	/**
+	 * Associates a value with a UUID.
+	 * 
+	 * @param uuid  a UUID
+	 * @param value a value
+	 * @return true if the UUID was not in the map
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean put(UUID uuid, long value) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), value);
+	}
+
+	/**
+	 * Associates a value with a UUID given as a pair of longs.
+	 * 
+	 * @param msb   the most significant bits
+	 * @param lsb   the least significant bits
+	 * @param value a value
+	 * @return true if the UUID was not in the map
+	 */
+	public boolean put(long msb, long lsb, long value) {
+		final int index = insert(msb, lsb);
+		if (index < 0) {
+			values[-index - 1] = value;
+			return true;
+		}
+		values[index] = value;
+		return false;
+	}
+
+	/**
+	 * Adds a number to the value of a UUID, which is zero if the UUID is absent.
+	 * <p>
+	 * It is useful for counting UUIDs.
+	 * 
+	 * @param uuid  a UUID
+	 * @param delta the number to add
+	 * @return the new value
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public long addTo(UUID uuid, long delta) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return addTo(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), delta);
+	}
+
+	/**
+	 * Adds a number to the value of a UUID given as a pair of longs, which is zero
+	 * if the UUID is absent.
+	 * 
+	 * @param msb   the most significant bits
+	 * @param lsb   the least significant bits
+	 * @param delta the number to add
+	 * @return the new value
+	 */
+	public long addTo(long msb, long lsb, long delta) {
+		final int index = insert(msb, lsb);
+		if (index < 0) {
+			return values[-index - 1] = delta;
+		}
+		return values[index] += delta;
+	}
+
+	/**
+	 * Returns the value of a UUID, or a default value if the UUID is absent.
+	 * 
+	 * @param uuid         a UUID
+	 * @param defaultValue a default value
+	 * @return a value
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public long getOrDefault(UUID uuid, long defaultValue) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return getOrDefault(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), defaultValue);
+	}
+
+	/**
+	 * Returns the value of a UUID given as a pair of longs, or a default value if
+	 * the UUID is absent.
+	 * 
+	 * @param msb          the most significant bits
+	 * @param lsb          the least significant bits
+	 * @param defaultValue a default value
+	 * @return a value
+	 */
+	public long getOrDefault(long msb, long lsb, long defaultValue) {
+		final int index = indexOf(msb, lsb);
+		return index < 0 ? defaultValue : values[index];
+	}
+
+	/**
+	 * Returns true if the map contains a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID is in the map
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean containsKey(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return containsKey(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Returns true if the map contains a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID is in the map
+	 */
+	public boolean containsKey(long msb, long lsb) {
+		return indexOf(msb, lsb) >= 0;
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was in the map
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean remove(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Removes a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was in the map
+	 */
+	public boolean remove(long msb, long lsb) {
+		final int index = indexOf(msb, lsb);
+		if (index < 0) {
+			return false;
+		}
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * Performs an action for each entry, in no particular order.
+	 * 
+	 * @param action an action
+	 */
+	public void forEach(ObjLongConsumer<? super UUID> action) {
+		for (int i = 0; i <= mask; i++) {
+			if ((msbs[i] | lsbs[i]) != 0L) {
+				action.accept(new UUID(msbs[i], lsbs[i]), values[i]);
+			}
+		}
+		if (nil) {
+			action.accept(new UUID(0L, 0L), values[mask + 1]);
+		}
+	}
+
+	@Override
+	protected void rehashValues(int[] moves, int length) {
+		final long[] moved = new long[length];
+		for (int i = 0; i < moves.length; i++) {
+			if (moves[i] >= 0) {
+				moved[moves[i]] = values[i];
+			}
+		}
+		values = moved;
+	}
+
+	@Override
+	protected void moveValue(int from, int to) {
+		values[to] = values[from];
+	}
+
+	@Override
+	protected void clearValue(int index) {
+		values[index] = 0L;
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.collection;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Hash map of UUIDs to objects.
+ * <p>
+ * It stores the keys as pairs of longs and the values in a parallel array of
+ * references, so no objects are created to put, get or remove entries with
+ * keys given as pairs of longs. An entry takes 30 to 60 bytes with compressed
+ * references, plus the value, depending on the load of the table.
+ * <p>
+ * Null values are not allowed. It is not thread safe.
+ * 
+ * @param <V> the type of the values
+ * @see UuidSet
+ */
+public final class UuidObjectMap<V> extends AbstUuidTable {
+
+	private Object[] values;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public UuidObjectMap() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates an empty map that can hold an expected number of entries without
+	 * growing.
+	 * 
+	 * @param expectedSize the expected number of entries
+	 * @throws IllegalArgumentException if the expected size is negative or too
+	 *                                  large
+	 */
+	public UuidObjectMap(int expectedSize) {
+		super(expectedSize);
+		this.values = new Object[length()];
+	}
+
+	/**
+	 * Associates a value with a UUID.
+	 * 
+	 * @param uuid  a UUID
+	 * @param value a value
+	 * @return the previous value, or null if the UUID was not in the map
+	 * @throws NullPointerException if the UUID or the value is null
+	 */
+	public V put(UUID uuid, V value) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), value);
+	}
+
+	/**
+	 * Associates a value with a UUID given as a pair of longs.
+	 * 
+	 * @param msb   the most significant bits
+	 * @param lsb   the least significant bits
+	 * @param value a value
+	 * @return the previous value, or null if the UUID was not in the map
+	 * @throws NullPointerException if the value is null
+	 */
+	public V put(long msb, long lsb, V value) {
+		Objects.requireNonNull(value, "Null value");
+		final int index = insert(msb, lsb);
+		if (index < 0) {
+			values[-index - 1] = value;
+			return null;
+		}
+		final V previous = value(index);
+		values[index] = value;
+		return previous;
+	}
+
+	/**
+	 * Returns the value of a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return a value, or null if the UUID is absent
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public V get(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Returns the value of a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return a value, or null if the UUID is absent
+	 */
+	public V get(long msb, long lsb) {
+		final int index = indexOf(msb, lsb);
+		return index < 0 ? null : value(index);
+	}
+
+	/**
+	 * Returns true if the map contains a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID is in the map
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean containsKey(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return containsKey(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Returns true if the map contains a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID is in the map
+	 */
+	public boolean containsKey(long msb, long lsb) {
+		return indexOf(msb, lsb) >= 0;
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return the removed value, or null if the UUID was not in the map
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public V remove(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Removes a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return the removed value, or null if the UUID was not in the map
+	 */
+	public V remove(long msb, long lsb) {
+		final int index = indexOf(msb, lsb);
+		if (index < 0) {
+			return null;
+		}
+		final V previous = value(index);
+		removeAt(index);
+		return previous;
+	}
+
+	/**
+	 * Performs an action for each entry, in no particular order.
+	 * 
+	 * @param action an action
+	 */
+	public void forEach(BiConsumer<? super UUID, ? super V> action) {
+		for (int i = 0; i <= mask; i++) {
+			if ((msbs[i] | lsbs[i]) != 0L) {
+				action.accept(new UUID(msbs[i], lsbs[i]), value(i));
+			}
+		}
+		if (nil) {
+			action.accept(new UUID(0L, 0L), value(mask + 1));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V value(int index) {
+		return (V) values[index];
+	}
+
+	@Override
+	protected void rehashValues(int[] moves, int length) {
+		final Object[] moved = new Object[length];
+		for (int i = 0; i < moves.length; i++) {
+			if (moves[i] >= 0) {
+				moved[moves[i]] = values[i];
+			}
+		}
+		values = moved;
+	}
+
+	@Override
+	protected void moveValue(int from, int to) {
+		values[to] = values[from];
+	}
+
+	@Override
+	protected void clearValue(int index) {
+		values[index] = null;
+	}
+}
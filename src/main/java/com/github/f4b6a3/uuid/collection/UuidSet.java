@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.collection;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Hash set of UUIDs.
+ * <p>
+ * It stores the UUIDs as pairs of longs, instead of references to
+ * {@link UUID} objects in nodes as {@link java.util.HashSet} does. A UUID takes
+ * 24 to 48 bytes, depending on the load of the table, and no objects are
+ * created to add, find or remove UUIDs given as pairs of longs.
+ * <p>
+ * It is not thread safe.
+ * <p>
+ * Usage:
+ * 
+ * <pre>{@code
+ * UuidSet set = new UuidSet(1_000_000);
+ * if (set.add(uuid)) {
+ *     // first time seen
+ * }
+ * }</pre>
+ */
+public final class UuidSet extends AbstUuidTable {
+
+	/**
+	 * Creates an empty set.
+	 */
+	public UuidSet() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates an empty set that can hold an expected number of UUIDs without
+	 * growing.
+	 * 
+	 * @param expectedSize the expected number of UUIDs
+	 * @throws IllegalArgumentException if the expected size is negative or too
+	 *                                  large
+	 */
+	public UuidSet(int expectedSize) {
+		super(expectedSize);
+	}
+
+	/**
+	 * Adds a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was not in the set
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean add(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Adds a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was not in the set
+	 */
+	public boolean add(long msb, long lsb) {
+		return insert(msb, lsb) < 0;
+	}
+
+	/**
+	 * Returns true if the set contains a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID is in the set
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean contains(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Returns true if the set contains a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID is in the set
+	 */
+	public boolean contains(long msb, long lsb) {
+		return indexOf(msb, lsb) >= 0;
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was in the set
+	 * @throws NullPointerException if the UUID is null
+	 */
+	public boolean remove(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Removes a UUID given as a pair of longs.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was in the set
+	 */
+	public boolean remove(long msb, long lsb) {
+		final int index = indexOf(msb, lsb);
+		if (index < 0) {
+			return false;
+		}
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * Performs an action for each UUID, in no particular order.
+	 * 
+	 * @param action an action
+	 */
+	public void forEach(Consumer<? super UUID> action) {
+		for (int i = 0; i <= mask; i++) {
+			if ((msbs[i] | lsbs[i]) != 0L) {
+				action.accept(new UUID(msbs[i], lsbs[i]));
+			}
+		}
+		if (nil) {
+			action.accept(new UUID(0L, 0L));
+		}
+	}
+
+	/**
+	 * Returns an array with all the UUIDs, in no particular order.
+	 * 
+	 * @return an array of UUIDs
+	 */
+	public UUID[] toArray() {
+		final UUID[] array = new UUID[size];
+		final int[] i = { 0 };
+		forEach(uuid -> array[i[0]++] = uuid);
+		return array;
+	}
+
+	@Override
+	protected void rehashValues(int[] moves, int length) {
+		// no values
+	}
+
+	@Override
+	protected void moveValue(int from, int to) {
+		// no values
+	}
+
+	@Override
+	protected void clearValue(int index) {
+		// no values
+	}
+}
@@ -26,20 +26,31 @@ package com.github.f4b6a3.uuid.exception;
 
 import java.util.Arrays;
 
+import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
+
 /**
  * Runtime exception to be used when an invalid UUID is received as argument.
+ * <p>
+ * If the system property "uuidcreator.stackless" or the environment variable
+ * "UUIDCREATOR_STACKLESS" is "true", the stack trace is not filled in, making
+ * the exception much cheaper to create. It is useful for services that reject
+ * many invalid UUIDs from untrusted input.
+ * 
+ * @see SettingsUtil#isStackless()
  */
 public final class InvalidUuidException extends RuntimeException {
 
 	private static final long serialVersionUID = 1L;
 
+	private static final boolean WRITABLE_STACK_TRACE = !SettingsUtil.isStackless();
+
 	/**
 	 * Default constructor with a message.
 	 * 
 	 * @param message a message
 	 */
 	public InvalidUuidException(String message) {
-		super(message);
+		this(message, null, WRITABLE_STACK_TRACE);
 	}
 
 	/**
@@ -49,7 +60,18 @@ public final class InvalidUuidException extends RuntimeException {
 	 * @param cause   the cause
 	 */
 	public InvalidUuidException(String message, Throwable cause) {
-		super(message, cause);
+		this(message, cause, WRITABLE_STACK_TRACE);
+	}
+
+	/**
+	 * Constructor with a message, the cause and a stack trace option.
+	 * 
+	 * @param message            a message
+	 * @param cause              the cause
+	 * @param writableStackTrace false to skip filling in the stack trace
+	 */
+	public InvalidUuidException(String message, Throwable cause, boolean writableStackTrace) {
+		super(message, cause, true, writableStackTrace);
 	}
 
 	/**
@@ -26,6 +26,7 @@ package com.github.f4b6a3.uuid.factory;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.Random;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
@@ -35,6 +36,10 @@ import com.github.f4b6a3.uuid.enums.UuidVersion;
  * Abstract Factory for creating COMB GUIDs.
  * <p>
  * COMB GUIDs combine a creation time and random bytes.
+ * <p>
+ * The COMB factories read the time with a primitive millisecond function and
+ * take all random bits in a single draw, without locking. Using a fast random
+ * generator or a random function, they allocate nothing but the UUID itself.
  */
 public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 
@@ -43,6 +48,14 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 	 */
 	protected Supplier<Instant> instantFunction;
 
+	/**
+	 * The time function.
+	 * <p>
+	 * The time is the number of milliseconds since 1970-01-01T00:00:00Z. Unlike
+	 * the instant function, it doesn't allocate an {@link Instant} per call.
+	 */
+	protected LongSupplier timeFunction;
+
 	/**
 	 * Constructor whith a version number and a builder.
 	 * 
@@ -51,6 +64,7 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 	 */
 	protected AbstCombFactory(UuidVersion version, Builder<?, ?> builder) {
 		super(version, builder);
+		this.timeFunction = builder.getTimeFunction();
 		this.instantFunction = builder.getInstantFunction();
 	}
 
@@ -68,6 +82,11 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		 */
 		protected Supplier<Instant> instantFunction;
 
+		/**
+		 * The time function.
+		 */
+		protected LongSupplier timeFunction;
+
 		/**
 		 * Get the instant function.
 		 * 
@@ -80,8 +99,56 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 			return this.instantFunction;
 		}
 
+		/**
+		 * Get the time function.
+		 * 
+		 * @return the builder
+		 */
+		protected LongSupplier getTimeFunction() {
+			if (this.timeFunction == null) {
+				if (this.instantFunction != null) {
+					final Supplier<Instant> function = this.instantFunction;
+					this.timeFunction = () -> function.get().toEpochMilli();
+				} else {
+					this.timeFunction = System::currentTimeMillis;
+				}
+			}
+			return this.timeFunction;
+		}
+
+		/**
+		 * Set the random generator.
+		 * <p>
+		 * COMB factories don't serialize calls to the random generator, so it must
+		 * be safe for use by concurrent threads.
+		 * 
+		 * @param random a random
+		 * @return the builder
+		 */
+		@Override
+		public B withRandom(Random random) {
+			return super.withRandom(random);
+		}
+
+		/**
+		 * Set a random function which returns random numbers.
+		 * <p>
+		 * COMB factories don't serialize calls to the random function, so it must be
+		 * safe for use by concurrent threads.
+		 * 
+		 * @param randomFunction a function
+		 * @return the builder
+		 */
+		@Override
+		public B withRandomFunction(LongSupplier randomFunction) {
+			return super.withRandomFunction(randomFunction);
+		}
+
 		/**
 		 * Set the clock.
+		 * <p>
+		 * COMB factories don't serialize calls to the clock, so it must be
+		 * safe for use by concurrent threads.
 		 * 
 		 * @param clock a clock
 		 * @return the builder
@@ -89,6 +156,7 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		@SuppressWarnings("unchecked")
 		public B withClock(Clock clock) {
 			if (clock != null) {
+				this.timeFunction = () -> clock.millis();
 				this.instantFunction = () -> clock.instant();
 			}
 			return (B) this;
@@ -98,18 +166,25 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		 * Set the time function.
 		 * 
 		 * The time is the number of milliseconds since 1970-01-01T00:00:00Z.
+		 * <p>
+		 * COMB factories don't serialize calls to the time function, so it must be
+		 * safe for use by concurrent threads.
 		 * 
 		 * @param timeFunction a function
 		 * @return the builder
 		 */
 		@SuppressWarnings("unchecked")
 		public B withTimeFunction(LongSupplier timeFunction) {
+			this.timeFunction = timeFunction;
 			this.instantFunction = () -> Instant.ofEpochMilli(timeFunction.getAsLong());
 			return (B) this;
 		}
 
 		/**
 		 * Set the instant function.
+		 * <p>
+		 * COMB factories don't serialize calls to the instant function, so it must be
+		 * safe for use by concurrent threads.
 		 * 
 		 * @param instantFunction a function
 		 * @return the builder
@@ -117,6 +192,7 @@ public abstract class AbstCombFactory extends AbstRandomBasedFactory {
 		@SuppressWarnings("unchecked")
 		public B withInstantFunction(Supplier<Instant> instantFunction) {
 			this.instantFunction = instantFunction;
+			this.timeFunction = null;
 			return (B) this;
 		}
 	}
@@ -37,6 +37,7 @@ import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.function.RandomFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.DefaultRandomFunction;
 import com.github.f4b6a3.uuid.util.internal.ByteUtil;
+import com.github.f4b6a3.uuid.util.internal.ConfinedLock;
 
 /**
  * Abstract factory for creating random-based unique identifiers (UUIDv4).
@@ -56,9 +57,11 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 	protected static final int UUID_BYTES = 16;
 
 	/**
-	 * The reentrant lock for synchronization.
+	 * The lock for synchronization.
+	 * <p>
+	 * It doesn't lock if the factory is thread-confined.
 	 */
-	protected final ReentrantLock lock = new ReentrantLock();
+	protected final ReentrantLock lock;
 
 	/**
 	 * Constructor with a version number and a builder
@@ -69,6 +72,7 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 	protected AbstRandomBasedFactory(UuidVersion version, Builder<?, ?> builder) {
 		super(version);
 		this.random = builder.getRandom();
+		this.lock = builder.getLock();
 	}
 
 	@Override
@@ -89,6 +93,16 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 		 */
 		protected IRandom random;
 
+		/**
+		 * Whether the factory is confined to a single thread.
+		 */
+		protected boolean threadConfined;
+
+		/**
+		 * Whether the owner thread of a thread-confined factory is checked.
+		 */
+		protected boolean ownerCheck;
+
 		/**
 		 * Get the random generator.
 		 * 
@@ -159,6 +173,49 @@ public abstract class AbstRandomBasedFactory extends UuidFactory {
 			return (B) this;
 		}
 
+		/**
+		 * Get the lock.
+		 * 
+		 * @return a lock
+		 */
+		protected ReentrantLock getLock() {
+			return ConfinedLock.newLock(this.threadConfined, this.ownerCheck);
+		}
+
+		/**
+		 * Set the factory as confined to a single thread.
+		 * <p>
+		 * A thread-confined factory doesn't lock when it creates a UUID. It must not
+		 * be shared between threads.
+		 * 
+		 * @return the builder
+		 */
+		public B withThreadConfinement() {
+			return withThreadConfinement(false);
+		}
+
+		/**
+		 * Set the factory as confined to a single thread.
+		 * <p>
+		 * A thread-confined factory doesn't lock when it creates a UUID. It must not
+		 * be shared between threads.
+		 * <p>
+		 * If the owner check is enabled, the first thread that creates a UUID
+		 * becomes the owner of the factory, and an {@link IllegalStateException} is
+		 * thrown if any other thread uses it. It is meant for debugging. The owner is
+		 * checked only by factories that lock when they create a UUID: the COMB
+		 * factories lock only with the PLUS 1 increment type.
+		 * 
+		 * @param ownerCheck true to check the owner thread
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withThreadConfinement(boolean ownerCheck) {
+			this.threadConfined = true;
+			this.ownerCheck = ownerCheck;
+			return (B) this;
+		}
+
 		/**
 		 * Finishes the factory building.
 		 * 
@@ -41,6 +41,7 @@ import com.github.f4b6a3.uuid.factory.function.impl.RandomNodeIdFunction;
 import com.github.f4b6a3.uuid.factory.function.impl.WindowsTimeFunction;
 import com.github.f4b6a3.uuid.util.UuidTime;
 import com.github.f4b6a3.uuid.util.internal.ByteUtil;
+import com.github.f4b6a3.uuid.util.internal.ConfinedLock;
 import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
 
 /**
@@ -117,9 +118,11 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 	private static final String NODE_RANDOM = "random";
 
 	/**
-	 * The reentrant lock for synchronization.
+	 * The lock for synchronization.
+	 * <p>
+	 * It doesn't lock if the factory is thread-confined.
 	 */
-	protected final ReentrantLock lock = new ReentrantLock();
+	protected final ReentrantLock lock;
 
 	private static final long EPOCH_TIMESTAMP = TimeFunction.toUnixTimestamp(UuidTime.EPOCH_GREG);
 
@@ -134,6 +137,7 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 		this.timeFunction = builder.getTimeFunction();
 		this.nodeidFunction = builder.getNodeIdFunction();
 		this.clockseqFunction = builder.getClockSeqFunction();
+		this.lock = builder.getLock();
 	}
 
 	/**
@@ -290,6 +294,14 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 		 * The clock sequence function.
 		 */
 		protected ClockSeqFunction clockseqFunction;
+		/**
+		 * Whether the factory is confined to a single thread.
+		 */
+		protected boolean threadConfined;
+		/**
+		 * Whether the owner thread of a thread-confined factory is checked.
+		 */
+		protected boolean ownerCheck;
 
 		/**
 		 * Get the time function.
@@ -461,6 +473,47 @@ public abstract class AbstTimeBasedFactory extends UuidFactory {
 			return (B) this;
 		}
 
+		/**
+		 * Get the lock.
+		 * 
+		 * @return a lock
+		 */
+		protected ReentrantLock getLock() {
+			return ConfinedLock.newLock(this.threadConfined, this.ownerCheck);
+		}
+
+		/**
+		 * Set the factory as confined to a single thread.
+		 * <p>
+		 * A thread-confined factory doesn't lock when it creates a UUID. It must not
+		 * be shared between threads.
+		 * 
+		 * @return the builder
+		 */
+		public B withThreadConfinement() {
+			return withThreadConfinement(false);
+		}
+
+		/**
+		 * Set the factory as confined to a single thread.
+		 * <p>
+		 * A thread-confined factory doesn't lock when it creates a UUID. It must not
+		 * be shared between threads.
+		 * <p>
+		 * If the owner check is enabled, the first thread that creates a UUID
+		 * becomes the owner of the factory, and an {@link IllegalStateException} is
+		 * thrown if any other thread uses it. It is meant for debugging.
+		 * 
+		 * @param ownerCheck true to check the owner thread
+		 * @return the builder
+		 */
+		@SuppressWarnings("unchecked")
+		public B withThreadConfinement(boolean ownerCheck) {
+			this.threadConfined = true;
+			this.ownerCheck = ownerCheck;
+			return (B) this;
+		}
+
 		/**
 		 * Finish the factory building.
 		 * 
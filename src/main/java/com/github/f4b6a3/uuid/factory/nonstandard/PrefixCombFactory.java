@@ -31,6 +31,7 @@ import java.util.function.LongSupplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
+import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 
 /**
  * Concrete factory for creating Prefix COMB GUIDs.
@@ -40,12 +41,27 @@ import com.github.f4b6a3.uuid.factory.AbstCombFactory;
  * The creation millisecond is a 6 bytes PREFIX at the MOST significant bits.
  * <p>
  * The created UUID is a UUIDv4 for compatibility with RFC 9562.
+ * <p>
+ * If the increment type is PLUS 1, the random component is incremented by 1
+ * when the millisecond repeats, like in {@code TimeOrderedEpochFactory}. So the
+ * GUIDs created by a factory are always in ascending order.
  * 
  * @see <a href="http://www.informit.com/articles/article.aspx?p=25862">The Cost
  *      of GUIDs as Primary Keys</a>
  */
 public final class PrefixCombFactory extends AbstCombFactory {
 
+	private final boolean incrementPlus1;
+
+	private long msb = 0L; // most significant bits of the last GUID
+	private long lsb = 0L; // least significant bits of the last GUID
+
+	// let go up to 1 second ahead of system clock
+	private static final long ADVANCE_MAX = 1_000L;
+
+	private static final long VERSION_BITS = 0x000000000000f000L;
+	private static final long VARIANT_BITS = 0xc000000000000000L;
+
 	/**
 	 * Default constructor.
 	 */
@@ -103,12 +119,32 @@ public final class PrefixCombFactory extends AbstCombFactory {
 
 	private PrefixCombFactory(Builder builder) {
 		super(UuidVersion.VERSION_RANDOM_BASED, builder);
+		this.incrementPlus1 = builder.incrementPlus1;
 	}
 
 	/**
 	 * Builder of factories.
+	 * <p>
+	 * The factory locks only with the PLUS 1 increment type. Otherwise,
+	 * {@link #withThreadConfinement()} has no effect, and the owner check of
+	 * {@link #withThreadConfinement(boolean)} is never done.
 	 */
 	public static class Builder extends AbstCombFactory.Builder<PrefixCombFactory, Builder> {
+
+		private boolean incrementPlus1;
+
+		/**
+		 * Set the increment type to PLUS 1.
+		 * <p>
+		 * The random component is incremented by 1 when the millisecond repeats.
+		 * 
+		 * @return the builder
+		 */
+		public Builder withIncrementPlus1() {
+			this.incrementPlus1 = true;
+			return this;
+		}
+
 		@Override
 		public PrefixCombFactory build() {
 			return new PrefixCombFactory(this);
@@ -131,17 +167,57 @@ public final class PrefixCombFactory extends AbstCombFactory {
 	 */
 	@Override
 	public UUID create() {
+		if (this.incrementPlus1) {
+			return next();
+		}
+		return create(timeFunction.getAsLong());
+	}
+
+	private UUID next() {
 		lock.lock();
 		try {
-			final long time = instantFunction.get().toEpochMilli();
-			final long long1 = this.random.nextLong(2);
-			final long long2 = this.random.nextLong(8);
-			return make(time, long1, long2);
+
+			final long lastTime = this.msb >>> 16;
+			long time = timeFunction.getAsLong();
+
+			// is it not too much ahead of system clock?
+			if (ADVANCE_MAX > Math.abs(lastTime - time)) {
+				time = Math.max(lastTime, time);
+			}
+
+			if (time == lastTime) {
+				// just add 1 to the random component
+				this.lsb = (this.lsb | VARIANT_BITS) + 1L;
+				if (this.lsb == 0L) {
+					// add 1 to the upper random bits if overflow occurs
+					this.msb = (this.msb | VERSION_BITS) + 1L;
+				}
+				return toUuid(this.msb, this.lsb);
+			}
+
+			final UUID uuid = create(time);
+			this.msb = uuid.getMostSignificantBits();
+			this.lsb = uuid.getLeastSignificantBits();
+			return uuid;
+
 		} finally {
 			lock.unlock();
 		}
 	}
 
+	private UUID create(final long time) {
+		if (this.random instanceof SafeRandom) {
+			final byte[] bytes = this.random.nextBytes(10);
+			final long long1 = ByteUtil.toNumber(bytes, 0, 2);
+			final long long2 = ByteUtil.toNumber(bytes, 2, 10);
+			return make(time, long1, long2);
+		} else {
+			final long long1 = this.random.nextLong() >>> 48;
+			final long long2 = this.random.nextLong();
+			return make(time, long1, long2);
+		}
+	}
+
 	private UUID make(final long time, final long long1, final long long2) {
 		return toUuid((time << 16) | (long1 & 0x000000000000ffffL), long2);
 	}
@@ -31,6 +31,7 @@ import java.util.function.LongSupplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
+import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 
 /**
  * Concrete factory for creating Short Suffix COMB GUIDs.
@@ -122,6 +123,9 @@ public final class ShortSuffixCombFactory extends AbstCombFactory {
 
 	/**
 	 * Builder of factories.
+	 * <p>
+	 * The factory doesn't lock. So {@link #withThreadConfinement()} has no effect,
+	 * and the owner check of {@link #withThreadConfinement(boolean)} is never done.
 	 */
 	public static class Builder extends AbstCombFactory.Builder<ShortSuffixCombFactory, Builder> {
 
@@ -172,14 +176,16 @@ public final class ShortSuffixCombFactory extends AbstCombFactory {
 	 */
 	@Override
 	public UUID create() {
-		lock.lock();
-		try {
-			final long time = instantFunction.get().toEpochMilli() / interval;
-			final long long1 = this.random.nextLong(8);
-			final long long2 = this.random.nextLong(6);
+		final long time = timeFunction.getAsLong() / interval;
+		if (this.random instanceof SafeRandom) {
+			final byte[] bytes = this.random.nextBytes(14);
+			final long long1 = ByteUtil.toNumber(bytes, 0, 8);
+			final long long2 = ByteUtil.toNumber(bytes, 8, 14);
+			return make(time, long1, long2);
+		} else {
+			final long long1 = this.random.nextLong();
+			final long long2 = this.random.nextLong() >>> 16;
 			return make(time, long1, long2);
-		} finally {
-			lock.unlock();
 		}
 	}
 
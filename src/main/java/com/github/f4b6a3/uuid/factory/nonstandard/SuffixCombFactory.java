@@ -32,6 +32,7 @@ import java.util.function.LongSupplier;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstCombFactory;
 import com.github.f4b6a3.uuid.factory.AbstRandomBasedFactory;
+import com.github.f4b6a3.uuid.util.internal.ByteUtil;
 
 /**
  * Concrete factory for creating Suffix COMB GUIDs.
@@ -41,6 +42,12 @@ import com.github.f4b6a3.uuid.factory.AbstRandomBasedFactory;
  * The creation millisecond is a 6 bytes SUFFIX at the LEAST significant bits.
  * <p>
  * The created UUID is a UUIDv4 for compatibility with RFC 9562.
+ * <p>
+ * If the increment type is PLUS 1, the 14 random bits that come right before
+ * the creation millisecond are incremented by 1 when the millisecond repeats,
+ * like in {@code TimeOrderedEpochFactory}. The first 8 bytes are always
+ * randomized. So the GUIDs created by a factory are always in ascending order
+ * in SQL Server, which compares the last 6 bytes first and then bytes 8 and 9.
  * 
  * @see AbstCombFactory
  * @see AbstRandomBasedFactory
@@ -49,6 +56,17 @@ import com.github.f4b6a3.uuid.factory.AbstRandomBasedFactory;
  */
 public final class SuffixCombFactory extends AbstCombFactory {
 
+	private final boolean incrementPlus1;
+
+	private long lsb = 0L; // least significant bits of the last GUID
+
+	// let go up to 1 second ahead of system clock
+	private static final long ADVANCE_MAX = 1_000L;
+
+	private static final long VARIANT_BITS = 0xc000000000000000L;
+	private static final long UPPER_16_BITS = 0xffff000000000000L;
+	private static final long LOWER_48_BITS = 0x0000ffffffffffffL;
+
 	/**
 	 * Default constructor.
 	 */
@@ -106,12 +124,33 @@ public final class SuffixCombFactory extends AbstCombFactory {
 
 	private SuffixCombFactory(Builder builder) {
 		super(UuidVersion.VERSION_RANDOM_BASED, builder);
+		this.incrementPlus1 = builder.incrementPlus1;
 	}
 
 	/**
 	 * Builder of factories.
+	 * <p>
+	 * The factory locks only with the PLUS 1 increment type. Otherwise,
+	 * {@link #withThreadConfinement()} has no effect, and the owner check of
+	 * {@link #withThreadConfinement(boolean)} is never done.
 	 */
 	public static class Builder extends AbstCombFactory.Builder<SuffixCombFactory, Builder> {
+
+		private boolean incrementPlus1;
+
+		/**
+		 * Set the increment type to PLUS 1.
+		 * <p>
+		 * The random bits before the creation millisecond are incremented by 1 when
+		 * the millisecond repeats.
+		 * 
+		 * @return the builder
+		 */
+		public Builder withIncrementPlus1() {
+			this.incrementPlus1 = true;
+			return this;
+		}
+
 		@Override
 		public SuffixCombFactory build() {
 			return new SuffixCombFactory(this);
@@ -134,17 +173,59 @@ public final class SuffixCombFactory extends AbstCombFactory {
 	 */
 	@Override
 	public UUID create() {
+		if (this.incrementPlus1) {
+			return next();
+		}
+		return create(timeFunction.getAsLong());
+	}
+
+	private UUID next() {
 		lock.lock();
 		try {
-			final long time = instantFunction.get().toEpochMilli();
-			final long long1 = this.random.nextLong(8);
-			final long long2 = this.random.nextLong(2);
-			return make(time, long1, long2);
+
+			final long lastTime = this.lsb & LOWER_48_BITS;
+			long time = timeFunction.getAsLong() & LOWER_48_BITS;
+
+			// is it not too much ahead of system clock?
+			if (ADVANCE_MAX > Math.abs(lastTime - time)) {
+				time = Math.max(lastTime, time);
+			}
+
+			if (time == lastTime) {
+				// just add 1 to the 14 random bits before the millisecond
+				this.lsb = (this.lsb | VARIANT_BITS) + (1L << 48);
+				if ((this.lsb & UPPER_16_BITS) == 0L) {
+					// add 1 to the millisecond if overflow occurs
+					this.lsb = this.lsb + 1L;
+				}
+				final long long1 = this.random instanceof SafeRandom //
+						? ByteUtil.toNumber(this.random.nextBytes(8)) //
+						: this.random.nextLong();
+				return toUuid(long1, this.lsb);
+			}
+
+			final UUID uuid = create(time);
+			this.lsb = uuid.getLeastSignificantBits();
+			return uuid;
+
 		} finally {
 			lock.unlock();
 		}
 	}
 
+	private UUID create(final long time) {
+		if (this.random instanceof SafeRandom) {
+			final byte[] bytes = this.random.nextBytes(10);
+			final long long1 = ByteUtil.toNumber(bytes, 0, 8);
+			final long long2 = ByteUtil.toNumber(bytes, 8, 10);
+			return make(time, long1, long2);
+		} else {
+			final long long1 = this.random.nextLong();
+			final long long2 = this.random.nextLong() >>> 48;
+			return make(time, long1, long2);
+		}
+	}
+
 	private UUID make(final long time, final long long1, final long long2) {
 		return toUuid(long1, (long2 << 48) | (time & 0x0000ffffffffffffL));
 	}
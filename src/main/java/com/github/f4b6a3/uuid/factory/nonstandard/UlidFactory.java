@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.factory.nonstandard;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.Base32CrockfordCodec;
+import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.factory.UuidFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeOrderedEpochFactory;
+
+/**
+ * Concrete factory for creating monotonic ULIDs.
+ * <p>
+ * It is a thin wrapper of a {@link TimeOrderedEpochFactory} with the PLUS 1
+ * increment type: the UUIDv7 it creates are the ULIDs, and their strings are
+ * encoded with {@link Base32CrockfordCodec}. There is no other generator state
+ * or lock than the wrapped factory's.
+ * <p>
+ * The first 48 bits are the milliseconds since Unix epoch, as in ULID. The
+ * other bits are random, except for the 6 version and variant bits, and are
+ * incremented by 1 when the time repeats. So the strings are sorted in the
+ * same order as they are created, like Monotonic ULIDs.
+ * 
+ * @see TimeOrderedEpochFactory
+ * @see Base32CrockfordCodec
+ * @see <a href="https://github.com/ulid/spec">ULID Specification</a>
+ */
+public final class UlidFactory extends UuidFactory {
+
+	private final TimeOrderedEpochFactory factory;
+
+	private static final Base32CrockfordCodec CODEC = Base32CrockfordCodec.INSTANCE;
+
+	/**
+	 * Default constructor.
+	 */
+	public UlidFactory() {
+		this(TimeOrderedEpochFactory.builder());
+	}
+
+	/**
+	 * Constructor with a clock.
+	 * 
+	 * @param clock a clock
+	 */
+	public UlidFactory(Clock clock) {
+		this(TimeOrderedEpochFactory.builder().withClock(clock));
+	}
+
+	/**
+	 * Constructor with a random.
+	 * 
+	 * @param random a random
+	 */
+	public UlidFactory(Random random) {
+		this(TimeOrderedEpochFactory.builder().withRandom(random));
+	}
+
+	/**
+	 * Constructor with a builder of Unix epoch time-ordered factories.
+	 * <p>
+	 * Note that the builder passed in is modified: its increment type is set to
+	 * PLUS 1 before the factory is built, replacing any other increment type
+	 * configured by the caller, such as PLUS N. The builder keeps the PLUS 1
+	 * increment type if it is reused afterwards.
+	 * 
+	 * @param builder a builder
+	 * @see TimeOrderedEpochFactory.Builder#withIncrementPlus1()
+	 */
+	public UlidFactory(TimeOrderedEpochFactory.Builder builder) {
+		super(UuidVersion.VERSION_TIME_ORDERED_EPOCH);
+		this.factory = builder.withIncrementPlus1().build();
+	}
+
+	/**
+	 * Returns a monotonic ULID as a UUIDv7.
+	 * 
+	 * @return a UUIDv7
+	 */
+	@Override
+	public UUID create() {
+		return factory.create();
+	}
+
+	/**
+	 * Returns a ULID as a UUIDv7 for a given instant.
+	 * 
+	 * @param parameters parameters object
+	 * @return a UUIDv7
+	 */
+	@Override
+	public UUID create(Parameters parameters) {
+		return factory.create(parameters);
+	}
+
+	/**
+	 * Returns a monotonic ULID string.
+	 * 
+	 * @return a ULID string
+	 */
+	public String createString() {
+		return CODEC.encode(factory.create());
+	}
+
+	/**
+	 * Returns a ULID string for a given instant.
+	 * 
+	 * @param instant an instant
+	 * @return a ULID string
+	 */
+	public String createString(Instant instant) {
+		return CODEC.encode(factory.create(Parameters.builder().withInstant(instant).build()));
+	}
+
+	/**
+	 * Returns the instant of a ULID string.
+	 * 
+	 * @param string a ULID string
+	 * @return the instant
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	public static Instant getInstant(String string) {
+		return Instant.ofEpochMilli(CODEC.decode(string).getMostSignificantBits() >>> 16);
+	}
+}
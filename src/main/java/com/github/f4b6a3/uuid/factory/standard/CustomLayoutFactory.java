@@ -0,0 +1,578 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018-2025 Fabio Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.standard;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.AbstRandomBasedFactory;
+import com.github.f4b6a3.uuid.util.UuidBuilder;
+
+/**
+ * Concrete factory for creating custom unique identifiers (UUIDv8) with a
+ * user-defined layout of bit fields.
+ * <p>
+ * The layout is declared once in the builder. Each field has a name, a width
+ * in bits and a source: a parameter passed to {@code create(...)}, the clock,
+ * a counter, random bits or a constant. The fields are placed from the most
+ * significant bit to the least significant bit, skipping the 4 bits of the
+ * version field and the 2 bits of the variant field. So there are 122 bits
+ * available for custom fields. A field may cross the version and variant
+ * fields; it is split transparently.
+ * <p>
+ * The bits that are not covered by any field are filled with random bits.
+ * <p>
+ * All shifts and masks are computed when the factory is built, so that every
+ * UUID is created with long arithmetic only. Unlike {@link UuidBuilder}, this
+ * factory does not allocate anything but the resulting UUID, provided that the
+ * random generator does not allocate either (see
+ * {@link Builder#withFastRandom()} and {@link Builder#withRandomFunction}).
+ * <p>
+ * Like {@link RandomBasedFactory}, it serializes calls to the random and time
+ * functions with a lock, unless the factory is thread-confined (see
+ * {@link Builder#withThreadConfinement()}).
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * CustomLayoutFactory factory = CustomLayoutFactory.builder() //
+ * 		.withParameterField("shard", 10) // 1st parameter of create()
+ * 		.withParameterField("type", 6) // 2nd parameter of create()
+ * 		.withClockField("time", 48) // milliseconds since 1970-01-01
+ * 		.withCounterField("sequence", 12) // incremented by 1 for each UUID
+ * 		.withRandomField("random", 46) // random bits
+ * 		.build();
+ *
+ * UUID uuid = factory.create(shard, type);
+ * long time = factory.getValue(uuid, "time");
+ * }</pre>
+ *
+ * @see UuidBuilder
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9562.html#name-uuid-version-8">UUID
+ *      Version 8</a>
+ */
+public final class CustomLayoutFactory extends AbstRandomBasedFactory {
+
+	private final LongSupplier timeFunction;
+	private final AtomicLong counter = new AtomicLong();
+
+	private final boolean clock; // true if there's a clock field
+	private final boolean sequence; // true if there's a counter field
+	private final int parameterCount;
+
+	// fields
+	private final String[] names;
+	private final int[] sources;
+	private final int[] widths;
+	private final long[] masks;
+	private final long[] constants;
+	private final int[] parameters;
+
+	// field segments, indexed by `segments[field]` to `segments[field + 1]`
+	private final int[] segments;
+	private final boolean[] segmentLsb;
+	private final int[] segmentRight;
+	private final long[] segmentMask;
+	private final int[] segmentLeft;
+
+	private static final int SOURCE_PARAMETER = 0;
+	private static final int SOURCE_CLOCK = 1;
+	private static final int SOURCE_COUNTER = 2;
+	private static final int SOURCE_RANDOM = 3;
+	private static final int SOURCE_CONSTANT = 4;
+
+	/**
+	 * The number of bits available for custom fields.
+	 */
+	public static final int LAYOUT_BITS = 122;
+
+	// the 3 runs of custom bits: `custom_a`, `custom_b` and `custom_c`
+	private static final int[] RUN_START = { 0, 48, 60 }; // first layout bit
+	private static final int[] RUN_END = { 48, 60, 122 }; // last layout bit (exclusive)
+	private static final int[] RUN_LOW = { 16, 0, 0 }; // lowest physical bit
+	private static final boolean[] RUN_LSB = { false, false, true };
+
+	private CustomLayoutFactory(Builder builder) {
+		super(UuidVersion.VERSION_CUSTOM, builder);
+
+		this.timeFunction = builder.getTimeFunction();
+
+		final List<Field> fields = builder.getFields();
+		final int count = fields.size();
+
+		this.names = new String[count];
+		this.sources = new int[count];
+		this.widths = new int[count];
+		this.masks = new long[count];
+		this.constants = new long[count];
+		this.parameters = new int[count];
+		this.segments = new int[count + 1];
+
+		final List<int[]> segs = new ArrayList<>();
+
+		int start = 0;
+		int params = 0;
+		boolean hasClock = false;
+		boolean hasCounter = false;
+
+		for (int f = 0; f < count; f++) {
+
+			final Field field = fields.get(f);
+
+			names[f] = field.name;
+			sources[f] = field.source;
+			widths[f] = field.bits;
+			masks[f] = mask(field.bits);
+			constants[f] = field.value;
+			parameters[f] = field.source == SOURCE_PARAMETER ? params++ : -1;
+
+			hasClock |= field.source == SOURCE_CLOCK;
+			hasCounter |= field.source == SOURCE_COUNTER;
+
+			// split the field into the runs of custom bits
+			segments[f] = segs.size();
+			final int end = start + field.bits;
+			for (int r = 0; r < RUN_START.length; r++) {
+				final int s = Math.max(start, RUN_START[r]);
+				final int e = Math.min(end, RUN_END[r]);
+				if (s < e) {
+					// {run, right shift, length, left shift}
+					segs.add(new int[] { r, end - e, e - s, RUN_LOW[r] + RUN_END[r] - e });
+				}
+			}
+			start = end;
+		}
+		segments[count] = segs.size();
+
+		this.segmentLsb = new boolean[segs.size()];
+		this.segmentRight = new int[segs.size()];
+		this.segmentMask = new long[segs.size()];
+		this.segmentLeft = new int[segs.size()];
+
+		for (int s = 0; s < segs.size(); s++) {
+			final int[] seg = segs.get(s);
+			segmentLsb[s] = RUN_LSB[seg[0]];
+			segmentRight[s] = seg[1];
+			segmentMask[s] = mask(seg[2]);
+			segmentLeft[s] = seg[3];
+		}
+
+		this.clock = hasClock;
+		this.sequence = hasCounter;
+		this.parameterCount = params;
+	}
+
+	/**
+	 * Concrete builder for creating a custom layout factory.
+	 *
+	 * @see AbstRandomBasedFactory.Builder
+	 */
+	public static class Builder extends AbstRandomBasedFactory.Builder<CustomLayoutFactory, Builder> {
+
+		private LongSupplier timeFunction;
+		private final List<Field> fields = new ArrayList<>();
+
+		/**
+		 * Add a field whose value is passed to {@code create(...)}.
+		 * <p>
+		 * The parameters are passed in the same order as the parameter fields are
+		 * declared.
+		 *
+		 * @param name a field name
+		 * @param bits a width between 1 and 64
+		 * @return the builder
+		 */
+		public Builder withParameterField(String name, int bits) {
+			return add(name, bits, SOURCE_PARAMETER, 0L);
+		}
+
+		/**
+		 * Add a field that contains the current time in milliseconds since
+		 * 1970-01-01T00:00:00Z.
+		 * <p>
+		 * Only the least significant bits of the time that fit in the field are
+		 * kept.
+		 *
+		 * @param name a field name
+		 * @param bits a width between 1 and 64
+		 * @return the builder
+		 */
+		public Builder withClockField(String name, int bits) {
+			return add(name, bits, SOURCE_CLOCK, 0L);
+		}
+
+		/**
+		 * Add a field that contains a counter.
+		 * <p>
+		 * The counter is incremented by 1 for each UUID and wraps around when it
+		 * doesn't fit in the field.
+		 *
+		 * @param name a field name
+		 * @param bits a width between 1 and 64
+		 * @return the builder
+		 */
+		public Builder withCounterField(String name, int bits) {
+			return add(name, bits, SOURCE_COUNTER, 0L);
+		}
+
+		/**
+		 * Add a field that contains random bits.
+		 *
+		 * @param name a field name
+		 * @param bits a width between 1 and 64
+		 * @return the builder
+		 */
+		public Builder withRandomField(String name, int bits) {
+			return add(name, bits, SOURCE_RANDOM, 0L);
+		}
+
+		/**
+		 * Add a field that contains a constant value.
+		 *
+		 * @param name  a field name
+		 * @param bits  a width between 1 and 64
+		 * @param value a value that fits in the field
+		 * @return the builder
+		 */
+		public Builder withConstantField(String name, int bits, long value) {
+			return add(name, bits, SOURCE_CONSTANT, value);
+		}
+
+		/**
+		 * Set the clock.
+		 *
+		 * @param clock a clock
+		 * @return the builder
+		 */
+		public Builder withClock(Clock clock) {
+			if (clock != null) {
+				this.timeFunction = clock::millis;
+			}
+			return this;
+		}
+
+		/**
+		 * Set the time function.
+		 *
+		 * The time is the number of milliseconds since 1970-01-01T00:00:00Z.
+		 *
+		 * @param timeFunction a function
+		 * @return the builder
+		 */
+		public Builder withTimeFunction(LongSupplier timeFunction) {
+			this.timeFunction = timeFunction;
+			return this;
+		}
+
+		/**
+		 * Get the time function.
+		 *
+		 * @return a function
+		 */
+		protected LongSupplier getTimeFunction() {
+			if (this.timeFunction == null) {
+				this.timeFunction = System::currentTimeMillis;
+			}
+			return this.timeFunction;
+		}
+
+		/**
+		 * Get the fields, including the random field that fills the remaining bits.
+		 *
+		 * @return a list of fields
+		 */
+		protected List<Field> getFields() {
+			final List<Field> list = new ArrayList<>(this.fields);
+			int remaining = LAYOUT_BITS;
+			for (Field field : this.fields) {
+				remaining -= field.bits;
+			}
+			if (remaining < 0) {
+				throw new IllegalArgumentException("Layout too long: " + (LAYOUT_BITS - remaining) + " bits");
+			}
+			while (remaining > 0) {
+				final int bits = Math.min(remaining, Long.SIZE);
+				list.add(new Field(null, bits, SOURCE_RANDOM, 0L));
+				remaining -= bits;
+			}
+			return list;
+		}
+
+		private Builder add(String name, int bits, int source, long value) {
+			Objects.requireNonNull(name, "Null name");
+			if (bits < 1 || bits > Long.SIZE) {
+				throw new IllegalArgumentException("Invalid field width: " + bits);
+			}
+			if ((value & ~mask(bits)) != 0) {
+				throw new IllegalArgumentException("Value too large for field: " + name);
+			}
+			for (Field field : this.fields) {
+				if (name.equals(field.name)) {
+					throw new IllegalArgumentException("Duplicate field name: " + name);
+				}
+			}
+			this.fields.add(new Field(name, bits, source, value));
+			return this;
+		}
+
+		@Override
+		public CustomLayoutFactory build() {
+			return new CustomLayoutFactory(this);
+		}
+	}
+
+	/**
+	 * A field declaration.
+	 */
+	protected static final class Field {
+
+		private final String name;
+		private final int bits;
+		private final int source;
+		private final long value;
+
+		private Field(String name, int bits, int source, long value) {
+			this.name = name;
+			this.bits = bits;
+			this.source = source;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Returns a builder of custom layout factory.
+	 *
+	 * @return a builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns a custom UUID (UUIDv8).
+	 * <p>
+	 * It can only be used if the layout has no parameter fields.
+	 *
+	 * @return a UUIDv8
+	 * @throws IllegalArgumentException if the layout has parameter fields
+	 */
+	@Override
+	public UUID create() {
+		check(0);
+		return make(null, 0L, 0L, 0L);
+	}
+
+	/**
+	 * Returns a custom UUID (UUIDv8) with one parameter.
+	 *
+	 * @param value1 the value of the 1st parameter field
+	 * @return a UUIDv8
+	 * @throws IllegalArgumentException if the layout doesn't have exactly one
+	 *                                  parameter field or if the value doesn't fit
+	 *                                  in it
+	 */
+	public UUID create(long value1) {
+		check(1);
+		return make(null, value1, 0L, 0L);
+	}
+
+	/**
+	 * Returns a custom UUID (UUIDv8) with two parameters.
+	 *
+	 * @param value1 the value of the 1st parameter field
+	 * @param value2 the value of the 2nd parameter field
+	 * @return a UUIDv8
+	 * @throws IllegalArgumentException if the layout doesn't have exactly two
+	 *                                  parameter fields or if a value doesn't fit
+	 *                                  in its field
+	 */
+	public UUID create(long value1, long value2) {
+		check(2);
+		return make(null, value1, value2, 0L);
+	}
+
+	/**
+	 * Returns a custom UUID (UUIDv8) with three parameters.
+	 *
+	 * @param value1 the value of the 1st parameter field
+	 * @param value2 the value of the 2nd parameter field
+	 * @param value3 the value of the 3rd parameter field
+	 * @return a UUIDv8
+	 * @throws IllegalArgumentException if the layout doesn't have exactly three
+	 *                                  parameter fields or if a value doesn't fit
+	 *                                  in its field
+	 */
+	public UUID create(long value1, long value2, long value3) {
+		check(3);
+		return make(null, value1, value2, value3);
+	}
+
+	/**
+	 * Returns a custom UUID (UUIDv8) with any number of parameters.
+	 *
+	 * @param values the values of the parameter fields, in order of declaration
+	 * @return a UUIDv8
+	 * @throws IllegalArgumentException if the number of values is not equal to the
+	 *                                  number of parameter fields or if a value
+	 *                                  doesn't fit in its field
+	 */
+	public UUID create(long[] values) {
+		Objects.requireNonNull(values, "Null values");
+		check(values.length);
+		return make(values, 0L, 0L, 0L);
+	}
+
+	/**
+	 * Returns a custom UUID (UUIDv8).
+	 * <p>
+	 * The parameters object is ignored.
+	 *
+	 * @return a UUIDv8
+	 */
+	@Override
+	public UUID create(Parameters parameters) {
+		return create(); // ignore parameters
+	}
+
+	/**
+	 * Returns the value of a field from a UUID created by this factory.
+	 *
+	 * @param uuid a UUID
+	 * @param name a field name
+	 * @return the field value
+	 * @throws IllegalArgumentException if the field doesn't exist
+	 */
+	public long getValue(UUID uuid, String name) {
+		final int f = indexOf(name);
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+		long value = 0L;
+		for (int s = segments[f]; s < segments[f + 1]; s++) {
+			final long bits = segmentLsb[s] ? lsb : msb;
+			value |= ((bits >>> segmentLeft[s]) & segmentMask[s]) << segmentRight[s];
+		}
+		return value;
+	}
+
+	private UUID make(final long[] array, final long value1, final long value2, final long value3) {
+
+		// serialize calls to the time and random functions
+		lock.lock();
+		try {
+			final long time = this.clock ? timeFunction.getAsLong() : 0L;
+			final long count = this.sequence ? counter.getAndIncrement() : 0L;
+
+			long msb = 0L;
+			long lsb = 0L;
+
+			long pool = 0L; // random bits not used yet
+			int poolBits = 0;
+
+			for (int f = 0; f < sources.length; f++) {
+
+				final long value;
+				switch (sources[f]) {
+				case SOURCE_PARAMETER:
+					value = parameter(parameters[f], array, value1, value2, value3);
+					if ((value & ~masks[f]) != 0) {
+						throw new IllegalArgumentException("Value too large for field: " + names[f]);
+					}
+					break;
+				case SOURCE_CLOCK:
+					value = time & masks[f];
+					break;
+				case SOURCE_COUNTER:
+					value = count & masks[f];
+					break;
+				case SOURCE_RANDOM:
+					if (poolBits < widths[f]) {
+						pool = random.nextLong();
+						poolBits = Long.SIZE;
+					}
+					poolBits -= widths[f];
+					value = (pool >>> poolBits) & masks[f];
+					break;
+				case SOURCE_CONSTANT:
+				default:
+					value = constants[f];
+				}
+
+				for (int s = segments[f]; s < segments[f + 1]; s++) {
+					final long bits = ((value >>> segmentRight[s]) & segmentMask[s]) << segmentLeft[s];
+					if (segmentLsb[s]) {
+						lsb |= bits;
+					} else {
+						msb |= bits;
+					}
+				}
+			}
+
+			return toUuid(msb, lsb);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static long parameter(final int index, final long[] array, final long value1, final long value2,
+			final long value3) {
+		if (array != null) {
+			return array[index];
+		}
+		switch (index) {
+		case 0:
+			return value1;
+		case 1:
+			return value2;
+		default:
+			return value3;
+		}
+	}
+
+	private void check(final int count) {
+		if (count != this.parameterCount) {
+			throw new IllegalArgumentException(
+					String.format("Expected %d parameters, but got %d", this.parameterCount, count));
+		}
+	}
+
+	private int indexOf(final String name) {
+		for (int f = 0; f < names.length; f++) {
+			if (names[f] != null && names[f].equals(name)) {
+				return f;
+			}
+		}
+		throw new IllegalArgumentException("Unknown field: " + name);
+	}
+
+	private static long mask(final int bits) {
+		return bits == Long.SIZE ? -1L : (1L << bits) - 1L;
+	}
+}
@@ -154,14 +154,14 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 		switch (builder.getIncrementType()) {
 		case INCREMENT_TYPE_PLUS_1:
-			this.uuidFunction = new Plus1Function(random, instantFunction);
+			this.uuidFunction = new Plus1Function(random, instantFunction, lock);
 			break;
 		case INCREMENT_TYPE_PLUS_N:
-			this.uuidFunction = new PlusNFunction(random, instantFunction, builder.getIncrementMax());
+			this.uuidFunction = new PlusNFunction(random, instantFunction, lock, builder.getIncrementMax());
 			break;
 		case INCREMENT_TYPE_DEFAULT:
 		default:
-			this.uuidFunction = new DefaultFunction(random, instantFunction);
+			this.uuidFunction = new DefaultFunction(random, instantFunction, lock);
 		}
 	}
 
@@ -281,7 +281,7 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 		protected final IRandom random;
 		protected Supplier<Instant> instantFunction;
-		protected final ReentrantLock lock = new ReentrantLock();
+		protected final ReentrantLock lock;
 
 		// let go up to 1 second ahead of system clock
 		private static final long advanceMax = 1_000L;
@@ -294,10 +294,11 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 		protected static final long overflow = 0x0000000000000000L;
 
-		public UuidFunction(IRandom random, Supplier<Instant> instantFunction) {
+		public UuidFunction(IRandom random, Supplier<Instant> instantFunction, ReentrantLock lock) {
 
 			this.random = random;
 			this.instantFunction = instantFunction;
+			this.lock = lock;
 
 			// instantiate the internal state
 			reset(this.instantFunction.get());
@@ -439,8 +440,8 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 	static final class DefaultFunction extends UuidFunction {
 
-		public DefaultFunction(IRandom random, Supplier<Instant> instantFunction) {
-			super(random, instantFunction);
+		public DefaultFunction(IRandom random, Supplier<Instant> instantFunction, ReentrantLock lock) {
+			super(random, instantFunction, lock);
 		}
 
 		@Override
@@ -465,8 +466,8 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 	static final class Plus1Function extends UuidFunction {
 
-		public Plus1Function(IRandom random, Supplier<Instant> instantFunction) {
-			super(random, instantFunction);
+		public Plus1Function(IRandom random, Supplier<Instant> instantFunction, ReentrantLock lock) {
+			super(random, instantFunction, lock);
 		}
 
 		@Override
@@ -489,8 +490,8 @@ public final class TimeOrderedEpochFactory extends AbstCombFactory {
 
 		private final LongSupplier plusNFunction;
 
-		public PlusNFunction(IRandom random, Supplier<Instant> instantFunction, Long incrementMax) {
-			super(random, instantFunction);
+		public PlusNFunction(IRandom random, Supplier<Instant> instantFunction, ReentrantLock lock, Long incrementMax) {
+			super(random, instantFunction, lock);
 			this.plusNFunction = customPlusNFunction(random, incrementMax);
 		}
 
@@ -45,7 +45,7 @@ public final class CombUtil {
 	 * @return the prefix (the Unix milliseconds)
 	 */
 	public static long getPrefix(UUID comb) {
-		return (comb.getMostSignificantBits() >>> 16);
+		return getPrefix(comb.getMostSignificantBits());
 	}
 
 	/**
@@ -58,7 +58,56 @@ public final class CombUtil {
 	 * @return the suffix (the Unix milliseconds)
 	 */
 	public static long getSuffix(UUID comb) {
-		return (comb.getLeastSignificantBits() & 0x0000ffffffffffffL);
+		return getSuffix(comb.getLeastSignificantBits());
+	}
+
+	/**
+	 * Returns the prefix from the most significant bits of a Prefix COMB.
+	 * 
+	 * @param msb the most significant bits of a Prefix COMB
+	 * @return the prefix (the Unix milliseconds)
+	 */
+	public static long getPrefix(long msb) {
+		return (msb >>> 16);
+	}
+
+	/**
+	 * Returns the suffix from the least significant bits of a Suffix COMB.
+	 * 
+	 * @param lsb the least significant bits of a Suffix COMB
+	 * @return the suffix (the Unix milliseconds)
+	 */
+	public static long getSuffix(long lsb) {
+		return (lsb & 0x0000ffffffffffffL);
+	}
+
+	/**
+	 * Returns the prefixes from a column of most significant bits of Prefix COMBs.
+	 * 
+	 * @param msbs        the most significant bits of Prefix COMBs
+	 * @param destination the array to write the prefixes into
+	 * @throws IllegalArgumentException if the arrays don't have the same length
+	 */
+	public static void getPrefix(long[] msbs, long[] destination) {
+		checkColumns(msbs, destination);
+		for (int i = 0; i < msbs.length; i++) {
+			destination[i] = getPrefix(msbs[i]);
+		}
+	}
+
+	/**
+	 * Returns the suffixes from a column of least significant bits of Suffix
+	 * COMBs.
+	 * 
+	 * @param lsbs        the least significant bits of Suffix COMBs
+	 * @param destination the array to write the suffixes into
+	 * @throws IllegalArgumentException if the arrays don't have the same length
+	 */
+	public static void getSuffix(long[] lsbs, long[] destination) {
+		checkColumns(lsbs, destination);
+		for (int i = 0; i < lsbs.length; i++) {
+			destination[i] = getSuffix(lsbs[i]);
+		}
 	}
 
 	/**
@@ -82,4 +131,11 @@ public final class CombUtil {
 		long milliseconds = getSuffix(comb);
 		return Instant.ofEpochMilli(milliseconds);
 	}
+
+	private static void checkColumns(long[] source, long[] destination) {
+		if (source.length != destination.length) {
+			throw new IllegalArgumentException(
+					String.format("Columns of different lengths: %d and %d.", source.length, destination.length));
+		}
+	}
 }
@@ -0,0 +1,277 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018-2025 Fabio Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.util.UUID;
+
+/**
+ * A reusable UUID builder.
+ * <p>
+ * It is a variant of {@link UuidBuilder} that keeps the UUID in two long
+ * registers and a bit cursor instead of a byte buffer. It can be reset and
+ * reused, and values can be put at arbitrary bit offsets. Building a UUID
+ * allocates nothing but the UUID itself.
+ * <p>
+ * This class is NOT thread-safe. Each instance must be confined to a single
+ * thread, for example with a {@link ThreadLocal}.
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * ReusableUuidBuilder builder = new ReusableUuidBuilder(8);
+ * for (int i = 0; i < 1000; i++) {
+ * 	UUID uuid = builder.reset() // clear registers and cursor
+ * 			.put(timestamp, 48) // put the 48 most significant bits
+ * 			.put(sequence, 16) // put the next 16 bits
+ * 			.put(random.nextLong()) // put the least significant 64 bits
+ * 			.build(); // return the built UUID
+ * }
+ * }</pre>
+ *
+ * @see UuidBuilder
+ */
+public final class ReusableUuidBuilder {
+
+	private final int version;
+
+	private long msb;
+	private long lsb;
+	private int position; // bit cursor: 0 to 128
+
+	private static final int UUID_BITS = 128;
+
+	/**
+	 * Instantiates a new builder without a version number.
+	 */
+	public ReusableUuidBuilder() {
+		this.version = -1;
+	}
+
+	/**
+	 * Instantiates a new builder with a version number.
+	 *
+	 * @param version a value between 0 and 15
+	 */
+	public ReusableUuidBuilder(int version) {
+		if (version < 0x00L || version > 0xfL) {
+			throw new IllegalArgumentException("Invalid version number");
+		}
+		this.version = version;
+	}
+
+	/**
+	 * Clears the registers and moves the cursor to the first bit.
+	 *
+	 * @return This builder
+	 */
+	public ReusableUuidBuilder reset() {
+		this.msb = 0L;
+		this.lsb = 0L;
+		this.position = 0;
+		return this;
+	}
+
+	/**
+	 * Returns the cursor position, that is, the number of bits already put.
+	 *
+	 * @return a value between 0 and 128
+	 */
+	public int position() {
+		return this.position;
+	}
+
+	/**
+	 * Moves the cursor to a bit position.
+	 *
+	 * @param position a value between 0 and 128
+	 * @return This builder
+	 */
+	public ReusableUuidBuilder position(int position) {
+		if (position < 0 || position > UUID_BITS) {
+			throw new IllegalArgumentException("Invalid position: " + position);
+		}
+		this.position = position;
+		return this;
+	}
+
+	/**
+	 * Returns the number of bits remaining to be filled.
+	 *
+	 * @return a value between 0 and 128
+	 */
+	public int remaining() {
+		return UUID_BITS - this.position;
+	}
+
+	/**
+	 * Puts 64 bits containing the given long.
+	 *
+	 * @param value a long value
+	 * @return This builder
+	 * @throws BufferOverflowException If there are fewer than 64 bits remaining
+	 */
+	public ReusableUuidBuilder put(long value) {
+		return put(value, Long.SIZE);
+	}
+
+	/**
+	 * Puts 32 bits containing the given int.
+	 *
+	 * @param value an int value
+	 * @return This builder
+	 * @throws BufferOverflowException If there are fewer than 32 bits remaining
+	 */
+	public ReusableUuidBuilder put(int value) {
+		return put(value & 0xffffffffL, Integer.SIZE);
+	}
+
+	/**
+	 * Puts 16 bits containing the given short.
+	 *
+	 * @param value a short value
+	 * @return This builder
+	 * @throws BufferOverflowException If there are fewer than 16 bits remaining
+	 */
+	public ReusableUuidBuilder put(short value) {
+		return put(value & 0xffffL, Short.SIZE);
+	}
+
+	/**
+	 * Puts 8 bits containing the given byte.
+	 *
+	 * @param value a byte value
+	 * @return This builder
+	 * @throws BufferOverflowException If there are fewer than 8 bits remaining
+	 */
+	public ReusableUuidBuilder put(byte value) {
+		return put(value & 0xffL, Byte.SIZE);
+	}
+
+	/**
+	 * Puts the given byte array.
+	 *
+	 * @param array a byte array
+	 * @return This builder
+	 * @throws BufferOverflowException If there are fewer bits remaining than the
+	 *                                 array length times 8
+	 */
+	public ReusableUuidBuilder put(byte[] array) {
+		if (array.length * Byte.SIZE > remaining()) {
+			throw new BufferOverflowException();
+		}
+		for (int i = 0; i < array.length; i++) {
+			put(array[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Puts the least significant bits of the given long at the cursor position.
+	 * <p>
+	 * The cursor is moved forward by the number of bits.
+	 *
+	 * @param value a long value
+	 * @param bits  a number of bits between 1 and 64
+	 * @return This builder
+	 * @throws BufferOverflowException If there are fewer bits remaining than the
+	 *                                 number of bits
+	 */
+	public ReusableUuidBuilder put(long value, int bits) {
+		put(this.position, value, bits);
+		this.position += bits;
+		return this;
+	}
+
+	/**
+	 * Puts the least significant bits of the given long at a bit offset.
+	 * <p>
+	 * The offset is counted from the most significant bit of the UUID. The bits
+	 * previously put in the same range are overwritten. The cursor is not moved.
+	 *
+	 * @param offset a bit offset between 0 and 127
+	 * @param value  a long value
+	 * @param bits   a number of bits between 1 and 64
+	 * @return This builder
+	 * @throws BufferOverflowException If the bits don't fit before the end of the
+	 *                                 UUID
+	 */
+	public ReusableUuidBuilder put(int offset, long value, int bits) {
+
+		if (bits < 1 || bits > Long.SIZE) {
+			throw new IllegalArgumentException("Invalid number of bits: " + bits);
+		}
+		if (offset < 0 || offset + bits > UUID_BITS) {
+			throw new BufferOverflowException();
+		}
+
+		final int end = offset + bits;
+		if (end <= Long.SIZE) {
+			this.msb = set(this.msb, Long.SIZE - end, bits, value);
+		} else if (offset >= Long.SIZE) {
+			this.lsb = set(this.lsb, UUID_BITS - end, bits, value);
+		} else {
+			final int lower = end - Long.SIZE; // bits that go to the LSB
+			this.msb = set(this.msb, 0, bits - lower, value >>> lower);
+			this.lsb = set(this.lsb, Long.SIZE - lower, lower, value);
+		}
+		return this;
+	}
+
+	/**
+	 * Builds a UUID after all 128 bits are filled.
+	 * <p>
+	 * Unlike {@link UuidBuilder#build()}, this method does not end the use of the
+	 * builder. Call {@link #reset()} to build another UUID.
+	 * <p>
+	 * Note: this method overrides bits 48 through 51 (version field) and bits 64
+	 * through 65 (variant field), 6 bits total, to comply the UUID specification.
+	 *
+	 * @return a UUID
+	 * @throws BufferUnderflowException If there are bits remaining to be filled
+	 */
+	public UUID build() {
+
+		if (this.position < UUID_BITS) {
+			throw new BufferUnderflowException();
+		}
+
+		if (this.version >= 0) {
+			// set the 4 most significant bits of the 7th byte (version field)
+			final long m = (this.msb & 0xffff_ffff_ffff_0fffL) | (version & 0xfL) << 12;
+			// set the 2 most significant bits of the 9th byte to 1 and 0 (variant field)
+			final long l = (this.lsb & 0x3fff_ffff_ffff_ffffL) | 0x8000_0000_0000_0000L;
+			return new UUID(m, l);
+		}
+
+		return new UUID(this.msb, this.lsb);
+	}
+
+	private static long set(final long register, final int shift, final int bits, final long value) {
+		final long mask = (bits == Long.SIZE ? -1L : (1L << bits) - 1L) << shift;
+		return (register & ~mask) | ((value << shift) & mask);
+	}
+}
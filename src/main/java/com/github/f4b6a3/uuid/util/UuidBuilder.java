@@ -41,6 +41,8 @@ import java.util.UUID;
  * 		.put(random.nextLong()) // put the least significant 64 bits
  * 		.build(); // return the built UUID
  * }</pre>
+ * 
+ * @see ReusableUuidBuilder
  */
 public class UuidBuilder {
 
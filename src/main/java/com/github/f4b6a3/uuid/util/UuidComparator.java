@@ -38,6 +38,10 @@ import java.util.function.ToIntBiFunction;
  * <p>
  * The opaque static method compares two UUIDs as unsigned 128-bit integers.
  * It's the same as lexicographic sorting of UUID canonical strings.
+ * <p>
+ * None of the comparisons creates objects. For large arrays, the sort keys can
+ * be computed once per UUID with {@link #getSortKeys(UUID[], long[])}, or the
+ * array can be sorted with {@link UuidSorter#sort(UUID[])}.
  */
 public final class UuidComparator implements Comparator<UUID> {
 
@@ -108,18 +112,19 @@ public final class UuidComparator implements Comparator<UUID> {
 	 */
 	public static int defaultCompare(UUID uuid1, UUID uuid2) {
 
-		UUID u1 = uuid1 != null ? uuid1 : new UUID(0L, 0L);
-		UUID u2 = uuid2 != null ? uuid2 : new UUID(0L, 0L);
+		long msb1 = uuid1 != null ? uuid1.getMostSignificantBits() : 0L;
+		long msb2 = uuid2 != null ? uuid2.getMostSignificantBits() : 0L;
+		final long lsb1 = uuid1 != null ? uuid1.getLeastSignificantBits() : 0L;
+		final long lsb2 = uuid2 != null ? uuid2.getLeastSignificantBits() : 0L;
 
 		// time-based comparison is done by timestamp first
-		if (isTimeBased(u1) && isTimeBased(u2)) {
-			UUID rearranged1 = new UUID(u1.timestamp(), u1.getLeastSignificantBits());
-			UUID rearranged2 = new UUID(u2.timestamp(), u2.getLeastSignificantBits());
-			return opaqueCompare(rearranged1, rearranged2);
+		if (isTimeBased(msb1, lsb1) && isTimeBased(msb2, lsb2)) {
+			msb1 = timestamp(msb1);
+			msb2 = timestamp(msb2);
 		}
 
 		// unsigned 128 bit integers
-		return opaqueCompare(u1, u2);
+		return compareSortKeys(msb1, lsb1, msb2, lsb2);
 	}
 
 	/**
@@ -152,22 +157,103 @@ public final class UuidComparator implements Comparator<UUID> {
 	 */
 	public static int opaqueCompare(UUID uuid1, UUID uuid2) {
 
-		UUID u1 = uuid1 != null ? uuid1 : new UUID(0L, 0L);
-		UUID u2 = uuid2 != null ? uuid2 : new UUID(0L, 0L);
+		final long msb1 = uuid1 != null ? uuid1.getMostSignificantBits() : 0L;
+		final long msb2 = uuid2 != null ? uuid2.getMostSignificantBits() : 0L;
+		final long lsb1 = uuid1 != null ? uuid1.getLeastSignificantBits() : 0L;
+		final long lsb2 = uuid2 != null ? uuid2.getLeastSignificantBits() : 0L;
+
+		return compareSortKeys(msb1, lsb1, msb2, lsb2);
+	}
+
+	/**
+	 * Returns the upper half of the sort key of a UUID.
+	 * <p>
+	 * The sort key is a 128-bit unsigned integer that can be computed once per UUID
+	 * and compared many times with {@link #compareSortKeys(long, long, long, long)}
+	 * or sorted as primitive longs. The upper half of the key is the time stamp of
+	 * a time-based UUID, or the most significant bits of any other UUID. The lower
+	 * half is always the least significant bits.
+	 * <p>
+	 * The keys are sorted in the same order as
+	 * {@link #defaultCompare(UUID, UUID)} if all the UUIDs are time-based, or if
+	 * none of them is time-based. In a mix of time-based and other UUIDs, the keys
+	 * still are a total order, unlike the default comparison.
+	 * <p>
+	 * A null UUID has the key of the nil UUID.
+	 * 
+	 * @param uuid a {@code UUID}
+	 * @return the upper half of the sort key
+	 * @see #getSortKeyLow(UUID)
+	 */
+	public static long getSortKeyHigh(UUID uuid) {
+		if (uuid == null) {
+			return 0L;
+		}
+		return getSortKeyHigh(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	static long getSortKeyHigh(long msb, long lsb) {
+		return isTimeBased(msb, lsb) ? timestamp(msb) : msb;
+	}
+
+	/**
+	 * Returns the lower half of the sort key of a UUID.
+	 * 
+	 * @param uuid a {@code UUID}
+	 * @return the lower half of the sort key
+	 * @see #getSortKeyHigh(UUID)
+	 */
+	public static long getSortKeyLow(UUID uuid) {
+		return uuid != null ? uuid.getLeastSignificantBits() : 0L;
+	}
+
+	/**
+	 * Returns the sort keys of many UUIDs.
+	 * <p>
+	 * The key of the UUID at index {@code i} is written at the indexes
+	 * {@code 2 * i} (upper half) and {@code 2 * i + 1} (lower half).
+	 * 
+	 * @param uuids an array of UUIDs
+	 * @param keys  an array of longs, twice as long as the array of UUIDs
+	 * @throws IllegalArgumentException if the array of keys has a wrong length
+	 * @see #getSortKeyHigh(UUID)
+	 */
+	public static void getSortKeys(UUID[] uuids, long[] keys) {
+		if (keys.length != uuids.length * 2) {
+			throw new IllegalArgumentException(
+					String.format("Wrong number of keys: %d for %d UUIDs.", keys.length, uuids.length));
+		}
+		for (int i = 0; i < uuids.length; i++) {
+			keys[i * 2] = getSortKeyHigh(uuids[i]);
+			keys[i * 2 + 1] = getSortKeyLow(uuids[i]);
+		}
+	}
+
+	/**
+	 * Compares two sort keys as unsigned 128-bit integers.
+	 * 
+	 * @param high1 the upper half of a key
+	 * @param low1  the lower half of a key
+	 * @param high2 the upper half of another key
+	 * @param low2  the lower half of another key
+	 * @return -1, 0 or 1 as the first key is less than, equal to, or greater than
+	 *         the second
+	 */
+	public static int compareSortKeys(long high1, long low1, long high2, long low2) {
 
 		// used to compare as UNSIGNED longs
 		final long min = 0x8000000000000000L;
 
-		final long a = u1.getMostSignificantBits() + min;
-		final long b = u2.getMostSignificantBits() + min;
+		final long a = high1 + min;
+		final long b = high2 + min;
 
 		if (a > b)
 			return 1;
 		else if (a < b)
 			return -1;
 
-		final long c = u1.getLeastSignificantBits() + min;
-		final long d = u2.getLeastSignificantBits() + min;
+		final long c = low1 + min;
+		final long d = low2 + min;
 
 		if (c > d)
 			return 1;
@@ -191,7 +277,12 @@ public final class UuidComparator implements Comparator<UUID> {
 		return this.comparator.applyAsInt(uuid1, uuid2);
 	}
 
-	private static boolean isTimeBased(UUID uuid) {
-		return uuid.version() == 1 && uuid.variant() == 2;
+	private static boolean isTimeBased(long msb, long lsb) {
+		return ((msb >>> 12) & 0xf) == 1 && (lsb >>> 62) == 2; // version 1 and variant 2
+	}
+
+	private static long timestamp(long msb) {
+		// the same as UUID.timestamp()
+		return ((msb & 0x0000000000000fffL) << 48) | ((msb & 0x00000000ffff0000L) << 16) | (msb >>> 32);
 	}
 }
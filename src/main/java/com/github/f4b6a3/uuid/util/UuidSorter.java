@@ -0,0 +1,376 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Radix sort for arrays of UUIDs and for columns of most and least significant
+ * bits.
+ * <p>
+ * It is a most significant digit (MSD) radix sort on 128-bit unsigned keys,
+ * one byte at a time. It doesn't compare UUIDs, except for small buckets that
+ * are finished with insertion sort. The bytes that all the keys of a bucket
+ * have in common are skipped, which is frequent with time-ordered UUIDs.
+ * <p>
+ * There are two orders:
+ * <ul>
+ * <li>Opaque: the UUIDs are sorted as unsigned 128-bit integers, as in
+ * {@link UuidComparator#opaqueCompare(UUID, UUID)};
+ * <li>Default: the time-based UUIDs are sorted by time stamp first, as in
+ * {@link UuidComparator#defaultCompare(UUID, UUID)}. See
+ * {@link UuidComparator#getSortKeyHigh(UUID)} for the order of mixed arrays.
+ * </ul>
+ * <p>
+ * The parallel methods split large inputs into buckets that are sorted by the
+ * common {@link ForkJoinPool}. All methods allocate scratch arrays as long as
+ * the input. The sorts are not stable. A null UUID is sorted as the nil UUID.
+ * 
+ * @see UuidComparator
+ */
+public final class UuidSorter {
+
+	private static final int KEY_BYTES = 16;
+	private static final int RADIX = 256;
+
+	private static final int INSERTION_SORT_THRESHOLD = 32;
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	private UuidSorter() {
+	}
+
+	/**
+	 * Sorts an array of UUIDs in the default order.
+	 * 
+	 * @param uuids an array of UUIDs
+	 * @see UuidComparator#defaultCompare(UUID, UUID)
+	 */
+	public static void sort(UUID[] uuids) {
+		sort(uuids, false, false);
+	}
+
+	/**
+	 * Sorts an array of UUIDs in the opaque order.
+	 * 
+	 * @param uuids an array of UUIDs
+	 * @see UuidComparator#opaqueCompare(UUID, UUID)
+	 */
+	public static void sortOpaque(UUID[] uuids) {
+		sort(uuids, true, false);
+	}
+
+	/**
+	 * Sorts columns of most and least significant bits in the default order.
+	 * <p>
+	 * The UUID at index {@code i} is {@code new UUID(msbs[i], lsbs[i])}.
+	 * 
+	 * @param msbs the most significant bits
+	 * @param lsbs the least significant bits
+	 * @throws IllegalArgumentException if the arrays don't have the same length
+	 * @see UuidComparator#defaultCompare(UUID, UUID)
+	 */
+	public static void sort(long[] msbs, long[] lsbs) {
+		sort(msbs, lsbs, false, false);
+	}
+
+	/**
+	 * Sorts columns of most and least significant bits in the opaque order.
+	 * <p>
+	 * The UUID at index {@code i} is {@code new UUID(msbs[i], lsbs[i])}.
+	 * 
+	 * @param msbs the most significant bits
+	 * @param lsbs the least significant bits
+	 * @throws IllegalArgumentException if the arrays don't have the same length
+	 * @see UuidComparator#opaqueCompare(UUID, UUID)
+	 */
+	public static void sortOpaque(long[] msbs, long[] lsbs) {
+		sort(msbs, lsbs, true, false);
+	}
+
+	/**
+	 * Sorts an array of UUIDs in the default order, in parallel.
+	 * 
+	 * @param uuids an array of UUIDs
+	 * @see #sort(UUID[])
+	 */
+	public static void parallelSort(UUID[] uuids) {
+		sort(uuids, false, true);
+	}
+
+	/**
+	 * Sorts an array of UUIDs in the opaque order, in parallel.
+	 * 
+	 * @param uuids an array of UUIDs
+	 * @see #sortOpaque(UUID[])
+	 */
+	public static void parallelSortOpaque(UUID[] uuids) {
+		sort(uuids, true, true);
+	}
+
+	/**
+	 * Sorts columns of most and least significant bits in the default order, in
+	 * parallel.
+	 * 
+	 * @param msbs the most significant bits
+	 * @param lsbs the least significant bits
+	 * @throws IllegalArgumentException if the arrays don't have the same length
+	 * @see #sort(long[], long[])
+	 */
+	public static void parallelSort(long[] msbs, long[] lsbs) {
+		sort(msbs, lsbs, false, true);
+	}
+
+	/**
+	 * Sorts columns of most and least significant bits in the opaque order, in
+	 * parallel.
+	 * 
+	 * @param msbs the most significant bits
+	 * @param lsbs the least significant bits
+	 * @throws IllegalArgumentException if the arrays don't have the same length
+	 * @see #sortOpaque(long[], long[])
+	 */
+	public static void parallelSortOpaque(long[] msbs, long[] lsbs) {
+		sort(msbs, lsbs, true, true);
+	}
+
+	private static void sort(UUID[] uuids, boolean opaque, boolean parallel) {
+
+		final int length = uuids.length;
+		final long[] high = new long[length];
+		final long[] low = new long[length];
+
+		for (int i = 0; i < length; i++) {
+			final UUID uuid = uuids[i];
+			if (uuid != null) {
+				final long msb = uuid.getMostSignificantBits();
+				final long lsb = uuid.getLeastSignificantBits();
+				high[i] = opaque ? msb : UuidComparator.getSortKeyHigh(msb, lsb);
+				low[i] = lsb;
+			}
+		}
+
+		// the UUIDs are carried along with the keys
+		sort(new Radix(high, low, null, uuids), parallel);
+	}
+
+	private static void sort(long[] msbs, long[] lsbs, boolean opaque, boolean parallel) {
+
+		if (msbs.length != lsbs.length) {
+			throw new IllegalArgumentException(
+					String.format("Columns of different lengths: %d and %d.", msbs.length, lsbs.length));
+		}
+
+		if (opaque) {
+			// the columns are the keys
+			sort(new Radix(msbs, lsbs, null, null), parallel);
+			return;
+		}
+
+		final int length = msbs.length;
+		final long[] high = new long[length];
+		for (int i = 0; i < length; i++) {
+			high[i] = UuidComparator.getSortKeyHigh(msbs[i], lsbs[i]);
+		}
+
+		// the most significant bits are carried along with the keys
+		sort(new Radix(high, lsbs, msbs, null), parallel);
+	}
+
+	private static void sort(Radix radix, boolean parallel) {
+		final int length = radix.high.length;
+		if (parallel && length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+			ForkJoinPool.commonPool().invoke(new Task(radix, 0, length, 0));
+		} else {
+			radix.sort(0, length, 0, false);
+		}
+	}
+
+	private static final class Radix {
+
+		private final long[] high;
+		private final long[] low;
+		private final long[] payload;
+		private final Object[] objects;
+
+		private final long[] scratchHigh;
+		private final long[] scratchLow;
+		private final long[] scratchPayload;
+		private final Object[] scratchObjects;
+
+		private Radix(long[] high, long[] low, long[] payload, Object[] objects) {
+			this.high = high;
+			this.low = low;
+			this.payload = payload;
+			this.objects = objects;
+			this.scratchHigh = new long[high.length];
+			this.scratchLow = new long[high.length];
+			this.scratchPayload = payload != null ? new long[high.length] : null;
+			this.scratchObjects = objects != null ? new Object[high.length] : null;
+		}
+
+		private void sort(final int from, final int to, int digit, final boolean parallel) {
+
+			final int[] counts = new int[RADIX + 1];
+
+			for (; digit < KEY_BYTES; digit++) {
+
+				if (to - from <= INSERTION_SORT_THRESHOLD) {
+					insertionSort(from, to);
+					return;
+				}
+
+				for (int i = from; i < to; i++) {
+					counts[byteAt(i, digit) + 1]++;
+				}
+
+				// skip the byte if all keys have the same value
+				if (counts[byteAt(from, digit) + 1] == to - from) {
+					counts[byteAt(from, digit) + 1] = 0;
+					continue;
+				}
+
+				for (int b = 0; b < RADIX; b++) {
+					counts[b + 1] += counts[b];
+				}
+
+				// counts[b] is the start of the bucket b; it becomes the end
+				for (int i = from; i < to; i++) {
+					final int j = from + counts[byteAt(i, digit)]++;
+					scratchHigh[j] = high[i];
+					scratchLow[j] = low[i];
+					if (payload != null) {
+						scratchPayload[j] = payload[i];
+					}
+					if (objects != null) {
+						scratchObjects[j] = objects[i];
+					}
+				}
+
+				final int length = to - from;
+				System.arraycopy(scratchHigh, from, high, from, length);
+				System.arraycopy(scratchLow, from, low, from, length);
+				if (payload != null) {
+					System.arraycopy(scratchPayload, from, payload, from, length);
+				}
+				if (objects != null) {
+					System.arraycopy(scratchObjects, from, objects, from, length);
+				}
+
+				sortBuckets(from, counts, digit + 1, parallel);
+				return;
+			}
+		}
+
+		private void sortBuckets(final int from, final int[] ends, final int digit, final boolean parallel) {
+
+			List<Task> tasks = null;
+
+			int start = from;
+			for (int b = 0; b < RADIX; b++) {
+				final int end = from + ends[b];
+				if (end - start > 1) {
+					if (parallel && end - start >= PARALLEL_THRESHOLD) {
+						if (tasks == null) {
+							tasks = new ArrayList<>();
+						}
+						final Task task = new Task(this, start, end, digit);
+						task.fork();
+						tasks.add(task);
+					} else {
+						sort(start, end, digit, false);
+					}
+				}
+				start = end;
+			}
+
+			if (tasks != null) {
+				for (Task task : tasks) {
+					task.join();
+				}
+			}
+		}
+
+		private void insertionSort(final int from, final int to) {
+			for (int i = from + 1; i < to; i++) {
+				final long h = high[i];
+				final long l = low[i];
+				final long p = payload != null ? payload[i] : 0L;
+				final Object o = objects != null ? objects[i] : null;
+				int j = i - 1;
+				for (; j >= from && UuidComparator.compareSortKeys(high[j], low[j], h, l) > 0; j--) {
+					high[j + 1] = high[j];
+					low[j + 1] = low[j];
+					if (payload != null) {
+						payload[j + 1] = payload[j];
+					}
+					if (objects != null) {
+						objects[j + 1] = objects[j];
+					}
+				}
+				high[j + 1] = h;
+				low[j + 1] = l;
+				if (payload != null) {
+					payload[j + 1] = p;
+				}
+				if (objects != null) {
+					objects[j + 1] = o;
+				}
+			}
+		}
+
+		private int byteAt(final int index, final int digit) {
+			// byte 0 is the most significant byte of the key
+			final long half = digit < 8 ? high[index] : low[index];
+			return (int) (half >>> (56 - ((digit & 7) << 3))) & 0xff;
+		}
+	}
+
+	private static final class Task extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient Radix radix;
+		private final int from;
+		private final int to;
+		private final int digit;
+
+		private Task(Radix radix, int from, int to, int digit) {
+			this.radix = radix;
+			this.from = from;
+			this.to = to;
+			this.digit = digit;
+		}
+
+		@Override
+		protected void compute() {
+			radix.sort(from, to, digit, true);
+		}
+	}
+}
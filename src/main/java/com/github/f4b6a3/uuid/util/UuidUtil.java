@@ -277,6 +277,190 @@ public final class UuidUtil {
 		}
 	}
 
+	/**
+	 * Returns the number of milliseconds since 1970-01-01 (Unix epoch) from a
+	 * time-based, time-ordered, DCE Security or time-ordered with Unix Epoch UUID.
+	 * <p>
+	 * It is equivalent to {@code getInstant(uuid).toEpochMilli()}, but it doesn't
+	 * create an {@link Instant} and checks the version and variant only once.
+	 *
+	 * @param uuid a UUID
+	 * @return the Unix milliseconds
+	 * @throws IllegalArgumentException if the input is not a time-based,
+	 *                                  time-ordered, DCE Security or time-ordered
+	 *                                  with Unix Epoch UUID.
+	 */
+	public static long getUnixMillis(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return getUnixMillis(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Returns the number of 100-nanos since 1970-01-01 (Unix epoch) from a
+	 * time-based, time-ordered, DCE Security or time-ordered with Unix Epoch UUID.
+	 * <p>
+	 * It doesn't create an {@link Instant} and checks the version and variant only
+	 * once.
+	 *
+	 * @param uuid a UUID
+	 * @return the Unix 100-nanos
+	 * @throws IllegalArgumentException if the input is not a time-based,
+	 *                                  time-ordered, DCE Security or time-ordered
+	 *                                  with Unix Epoch UUID.
+	 */
+	public static long getUnixTicks(UUID uuid) {
+		Objects.requireNonNull(uuid, "Null UUID");
+		return getUnixTicks(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Returns the number of milliseconds since 1970-01-01 (Unix epoch) from the
+	 * most and least significant bits of a UUID.
+	 *
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return the Unix milliseconds
+	 * @throws IllegalArgumentException if the input is not a time-based,
+	 *                                  time-ordered, DCE Security or time-ordered
+	 *                                  with Unix Epoch UUID.
+	 * @see #getUnixMillis(UUID)
+	 */
+	public static long getUnixMillis(long msb, long lsb) {
+		if (isStandard(lsb) && version(msb) == 7) {
+			return getTimeOrderedEpochUnixMillis(msb);
+		}
+		return Math.floorDiv(getUnixTicks(msb, lsb), UuidTime.TICKS_PER_MILLI);
+	}
+
+	/**
+	 * Returns the number of 100-nanos since 1970-01-01 (Unix epoch) from the most
+	 * and least significant bits of a UUID.
+	 *
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return the Unix 100-nanos
+	 * @throws IllegalArgumentException if the input is not a time-based,
+	 *                                  time-ordered, DCE Security or time-ordered
+	 *                                  with Unix Epoch UUID.
+	 * @see #getUnixTicks(UUID)
+	 */
+	public static long getUnixTicks(long msb, long lsb) {
+		if (isStandard(lsb)) {
+			switch (version(msb)) {
+			case 1:
+				return getTimeBasedUnixTicks(msb);
+			case 2:
+				return getDceSecurityUnixTicks(msb);
+			case 6:
+				return getTimeOrderedUnixTicks(msb);
+			case 7:
+				return getTimeOrderedEpochUnixMillis(msb) * UuidTime.TICKS_PER_MILLI;
+			default:
+				break;
+			}
+		}
+		throw new IllegalArgumentException(String.format(MESSAGE_NOT_A_TIME_BASED_UUID, new UUID(msb, lsb)));
+	}
+
+	/**
+	 * Returns the number of milliseconds since 1970-01-01 (Unix epoch) from columns
+	 * of most and least significant bits.
+	 * <p>
+	 * The result of the UUID at index {@code i} is written at index {@code i} of
+	 * the destination.
+	 *
+	 * @param msbs        the most significant bits of the UUIDs
+	 * @param lsbs        the least significant bits of the UUIDs
+	 * @param destination the array to write the Unix milliseconds into
+	 * @throws IllegalArgumentException if the arrays don't have the same length, or
+	 *                                  if any UUID is not a time-based,
+	 *                                  time-ordered, DCE Security or time-ordered
+	 *                                  with Unix Epoch UUID.
+	 * @see #getUnixMillis(UUID)
+	 */
+	public static void getUnixMillis(long[] msbs, long[] lsbs, long[] destination) {
+		checkColumns(msbs, lsbs, destination);
+		for (int i = 0; i < msbs.length; i++) {
+			destination[i] = getUnixMillis(msbs[i], lsbs[i]);
+		}
+	}
+
+	/**
+	 * Returns the number of 100-nanos since 1970-01-01 (Unix epoch) from columns of
+	 * most and least significant bits.
+	 * <p>
+	 * The result of the UUID at index {@code i} is written at index {@code i} of
+	 * the destination.
+	 *
+	 * @param msbs        the most significant bits of the UUIDs
+	 * @param lsbs        the least significant bits of the UUIDs
+	 * @param destination the array to write the Unix 100-nanos into
+	 * @throws IllegalArgumentException if the arrays don't have the same length, or
+	 *                                  if any UUID is not a time-based,
+	 *                                  time-ordered, DCE Security or time-ordered
+	 *                                  with Unix Epoch UUID.
+	 * @see #getUnixTicks(UUID)
+	 */
+	public static void getUnixTicks(long[] msbs, long[] lsbs, long[] destination) {
+		checkColumns(msbs, lsbs, destination);
+		for (int i = 0; i < msbs.length; i++) {
+			destination[i] = getUnixTicks(msbs[i], lsbs[i]);
+		}
+	}
+
+	/**
+	 * Returns the number of 100-nanos since 1970-01-01 (Unix epoch) from the most
+	 * significant bits of a time-based UUID (v1).
+	 * <p>
+	 * The version is not checked.
+	 *
+	 * @param msb the most significant bits
+	 * @return the Unix 100-nanos
+	 */
+	public static long getTimeBasedUnixTicks(long msb) {
+		return UuidTime.toUnixTimestamp(getTimeBasedTimestamp(msb));
+	}
+
+	/**
+	 * Returns the number of 100-nanos since 1970-01-01 (Unix epoch) from the most
+	 * significant bits of a DCE Security UUID (v2).
+	 * <p>
+	 * The lower 32 bits of the timestamp are replaced with the local identifier in
+	 * DCE Security UUIDs, so they are taken as zeros. The version is not checked.
+	 *
+	 * @param msb the most significant bits
+	 * @return the Unix 100-nanos
+	 */
+	public static long getDceSecurityUnixTicks(long msb) {
+		return UuidTime.toUnixTimestamp(getTimeBasedTimestamp(msb & 0x00000000ffffffffL));
+	}
+
+	/**
+	 * Returns the number of 100-nanos since 1970-01-01 (Unix epoch) from the most
+	 * significant bits of a time-ordered UUID (v6).
+	 * <p>
+	 * The version is not checked.
+	 *
+	 * @param msb the most significant bits
+	 * @return the Unix 100-nanos
+	 */
+	public static long getTimeOrderedUnixTicks(long msb) {
+		return UuidTime.toUnixTimestamp(getTimeOrderedTimestamp(msb));
+	}
+
+	/**
+	 * Returns the number of milliseconds since 1970-01-01 (Unix epoch) from the
+	 * most significant bits of a time-ordered with Unix Epoch UUID (v7).
+	 * <p>
+	 * The version is not checked.
+	 *
+	 * @param msb the most significant bits
+	 * @return the Unix milliseconds
+	 */
+	public static long getTimeOrderedEpochUnixMillis(long msb) {
+		return msb >>> 16;
+	}
+
 	private static long getUnixTimestamp(UUID uuid) {
 		if (UuidUtil.isTimeOrderedEpoch(uuid)) {
 			return getTimeOrderedEpochTimestamp(uuid.getMostSignificantBits());
@@ -393,6 +577,21 @@ public final class UuidUtil {
 		return isStandard(uuid) && (uuid.version() == version.getValue());
 	}
 
+	private static boolean isStandard(long lsb) {
+		return (lsb >>> 62) == 2L; // variant bits 10xx
+	}
+
+	private static int version(long msb) {
+		return (int) (msb >>> 12) & 0xf;
+	}
+
+	private static void checkColumns(long[] msbs, long[] lsbs, long[] destination) {
+		if (msbs.length != lsbs.length || msbs.length != destination.length) {
+			throw new IllegalArgumentException(String.format("Columns of different lengths: %d, %d and %d.",
+					msbs.length, lsbs.length, destination.length));
+		}
+	}
+
 	private static long getTimeBasedTimestamp(long msb) {
 
 		long hii = (msb & 0xffffffff00000000L) >>> 32;
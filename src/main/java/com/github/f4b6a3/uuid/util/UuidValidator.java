@@ -24,11 +24,11 @@
 
 package com.github.f4b6a3.uuid.util;
 
+import java.nio.CharBuffer;
 import java.util.UUID;
 
-import com.github.f4b6a3.uuid.codec.base.Base16Codec;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
-import com.github.f4b6a3.uuid.util.immutable.ByteArray;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
 
 /**
  * Utility for UUID validation.
@@ -49,7 +49,8 @@ import com.github.f4b6a3.uuid.util.immutable.ByteArray;
  */
 public final class UuidValidator {
 
-	private static final ByteArray MAP = Base16Codec.INSTANCE.getBase().getMap();
+	private static final String LOWER = "0123456789abcdef";
+	private static final String UPPER = "0123456789ABCDEF";
 
 	private UuidValidator() {
 	}
@@ -103,7 +104,7 @@ public final class UuidValidator {
 	 * @return true if valid, false if invalid
 	 */
 	public static boolean isValid(final String uuid) {
-		return uuid != null && uuid.length() != 0 && isParseable(uuid.toCharArray());
+		return uuid != null && isParseable(uuid);
 	}
 
 	/**
@@ -114,7 +115,30 @@ public final class UuidValidator {
 	 * @return true if valid, false if invalid
 	 */
 	public static boolean isValid(final String uuid, int version) {
-		return uuid != null && uuid.length() != 0 && isParseable(uuid.toCharArray(), version);
+		return uuid != null && isParseable(uuid, version);
+	}
+
+	/**
+	 * Checks if the UUID char sequence is valid.
+	 * <p>
+	 * It checks each char only once and doesn't create intermediate objects.
+	 * 
+	 * @param uuid a UUID char sequence
+	 * @return true if valid, false if invalid
+	 */
+	public static boolean isValid(final CharSequence uuid) {
+		return uuid != null && isParseable(uuid);
+	}
+
+	/**
+	 * Checks if the UUID char sequence is valid.
+	 * 
+	 * @param uuid    a UUID char sequence
+	 * @param version a version number
+	 * @return true if valid, false if invalid
+	 */
+	public static boolean isValid(final CharSequence uuid, int version) {
+		return uuid != null && isParseable(uuid, version);
 	}
 
 	/**
@@ -195,7 +219,7 @@ public final class UuidValidator {
 	 * @throws InvalidUuidException if the argument is invalid
 	 */
 	public static void validate(final String uuid) {
-		if (uuid == null || !isParseable(uuid.toCharArray())) {
+		if (uuid == null || !isParseable(uuid)) {
 			throw InvalidUuidException.newInstance(uuid);
 		}
 	}
@@ -208,7 +232,7 @@ public final class UuidValidator {
 	 * @throws InvalidUuidException if the argument is invalid
 	 */
 	public static void validate(final String uuid, int version) {
-		if (uuid == null || !isParseable(uuid.toCharArray(), version)) {
+		if (uuid == null || !isParseable(uuid, version)) {
 			throw InvalidUuidException.newInstance(uuid);
 		}
 	}
@@ -238,10 +262,13 @@ public final class UuidValidator {
 		}
 	}
 
-	private static final int[] DASH_POSITIONS = {8, 13, 18, 23};
+	private static final int DASH_POSITION_1 = 8;
+	private static final int DASH_POSITION_2 = 13;
+	private static final int DASH_POSITION_3 = 18;
+	private static final int DASH_POSITION_4 = 23;
 	private static final int WITH_DASH_UUID_LENGTH = 36;
 	private static final int WITHOUT_DASH_UUID_LENGTH = 32;
-	private static final int MAX_DASH_COUNT = 4;
+
 	/**
 	 * Checks if the UUID char array can be parsed.
 	 * 
@@ -249,23 +276,30 @@ public final class UuidValidator {
 	 * @return true if valid, false if invalid
 	 */
 	protected static boolean isParseable(final char[] chars) {
-		int dashCount = 0;
-		for (int i = 0; i < chars.length; i++) {
-			if (chars[i] > MAP.length() || MAP.get(chars[i]) == -1) {
-				if (chars[i] == '-') {
-					dashCount++;
-					continue;
-				}
-				return false; // invalid character!
-			}
-		}
+		return isParseable(CharBuffer.wrap(chars));
+	}
 
-		if (chars.length == WITH_DASH_UUID_LENGTH && dashCount == MAX_DASH_COUNT) {
-			// check if the hyphens positions are correct
-			return chars[DASH_POSITIONS[0]] == '-' && chars[DASH_POSITIONS[1]] == '-' && chars[DASH_POSITIONS[2]] == '-' && chars[DASH_POSITIONS[3]] == '-';
+	/**
+	 * Checks if the UUID char sequence can be parsed.
+	 * <p>
+	 * The hexadecimal digits are checked 8 at a time, using SWAR.
+	 * 
+	 * @param chars a char sequence
+	 * @return true if valid, false if invalid
+	 */
+	protected static boolean isParseable(final CharSequence chars) {
+		switch (chars.length()) {
+		case WITH_DASH_UUID_LENGTH:
+			return chars.charAt(DASH_POSITION_1) == '-' && chars.charAt(DASH_POSITION_2) == '-'
+					&& chars.charAt(DASH_POSITION_3) == '-' && chars.charAt(DASH_POSITION_4) == '-'
+					&& (HexUtil.decode(chars, 0) | HexUtil.decode(chars, 9, 14) | HexUtil.decode(chars, 19, 24)
+							| HexUtil.decode(chars, 28)) >= 0;
+		case WITHOUT_DASH_UUID_LENGTH:
+			return (HexUtil.decode(chars, 0) | HexUtil.decode(chars, 8) | HexUtil.decode(chars, 16)
+					| HexUtil.decode(chars, 24)) >= 0;
+		default:
+			return false;
 		}
-
-		return chars.length == WITHOUT_DASH_UUID_LENGTH && dashCount == 0;
 	}
 
 	/**
@@ -279,6 +313,17 @@ public final class UuidValidator {
 		return isVersion(chars, version) && isParseable(chars);
 	}
 
+	/**
+	 * Checks if the UUID char sequence can be parsed.
+	 * 
+	 * @param chars   a char sequence
+	 * @param version a version number
+	 * @return true if valid, false if invalid
+	 */
+	protected static boolean isParseable(final CharSequence chars, int version) {
+		return isVersion(chars, version) && isParseable(chars);
+	}
+
 	/**
 	 * Checks the version number of a UUID.
 	 * 
@@ -313,6 +358,17 @@ public final class UuidValidator {
 	 * @return true if the UUID version is equal to the expected version number
 	 */
 	protected static boolean isVersion(char[] chars, int version) {
+		return isVersion(CharBuffer.wrap(chars), version);
+	}
+
+	/**
+	 * Checks the version number of a UUID char sequence.
+	 * 
+	 * @param chars   a char sequence
+	 * @param version a version number
+	 * @return true if the UUID version is equal to the expected version number
+	 */
+	protected static boolean isVersion(CharSequence chars, int version) {
 
 		// valid if between 0x0 and 0xf
 		if ((version & ~0xf) != 0) {
@@ -322,7 +378,7 @@ public final class UuidValidator {
 		int ver = 0; // version index
 		int var = 0; // variant index
 
-		switch (chars.length) {
+		switch (chars.length()) {
 		case 32: // without hyphen
 			ver = 12;
 			var = 16;
@@ -335,11 +391,10 @@ public final class UuidValidator {
 			return false;
 		}
 
-		final char[] lower = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
-		final char[] upper = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
-		boolean versionOk = ((version & ~0xf) == 0) && (chars[ver] == lower[version] || chars[ver] == upper[version]);
-		boolean variantOk = chars[var] == '8' || chars[var] == '9' //
-				|| chars[var] == 'a' || chars[var] == 'b' || chars[var] == 'A' || chars[var] == 'B';
+		final char v = chars.charAt(ver);
+		final char r = chars.charAt(var);
+		boolean versionOk = v == LOWER.charAt(version) || v == UPPER.charAt(version);
+		boolean variantOk = r == '8' || r == '9' || r == 'a' || r == 'b' || r == 'A' || r == 'B';
 
 		return versionOk && variantOk;
 	}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018-2025 Fabio Lima
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lock that doesn't lock, for objects confined to a single thread.
+ * <p>
+ * It replaces a {@link ReentrantLock} when the caller guarantees that there's
+ * no concurrent access, for example, when a factory is owned by an event loop.
+ * <p>
+ * Optionally, it checks that it is always used by the same thread: the first
+ * thread that acquires the lock becomes its owner.
+ * <p>
+ * It extends {@link ReentrantLock} so that it can be assigned to the lock fields
+ * of the factories, but it never acquires the underlying lock. So the query
+ * methods, such as {@link #isLocked()} and {@link #isHeldByCurrentThread()},
+ * always return false.
+ */
+public final class ConfinedLock extends ReentrantLock {
+
+	private static final long serialVersionUID = 1L;
+
+	private final boolean ownerCheck;
+	private transient Thread owner;
+
+	/**
+	 * Constructor without owner check.
+	 */
+	public ConfinedLock() {
+		this(false);
+	}
+
+	/**
+	 * Constructor with an optional owner check.
+	 *
+	 * @param ownerCheck true to check that the lock is used by a single thread
+	 */
+	public ConfinedLock(boolean ownerCheck) {
+		this.ownerCheck = ownerCheck;
+	}
+
+	/**
+	 * Returns a new lock.
+	 *
+	 * @param confined   true if the lock is confined to a single thread
+	 * @param ownerCheck true to check the owner thread of a confined lock
+	 * @return a {@link ConfinedLock} or a {@link ReentrantLock}
+	 */
+	public static ReentrantLock newLock(boolean confined, boolean ownerCheck) {
+		return confined ? new ConfinedLock(ownerCheck) : new ReentrantLock();
+	}
+
+	/**
+	 * Does nothing but the optional owner check.
+	 *
+	 * @throws IllegalStateException if the current thread is not the owner
+	 */
+	@Override
+	public void lock() {
+		if (ownerCheck) {
+			check();
+		}
+	}
+
+	@Override
+	public void lockInterruptibly() {
+		lock();
+	}
+
+	@Override
+	public boolean tryLock() {
+		lock();
+		return true;
+	}
+
+	@Override
+	public boolean tryLock(long time, TimeUnit unit) {
+		lock();
+		return true;
+	}
+
+	@Override
+	public void unlock() {
+		// do nothing
+	}
+
+	@Override
+	public Condition newCondition() {
+		throw new UnsupportedOperationException("Conditions are not supported");
+	}
+
+	private void check() {
+		final Thread current = Thread.currentThread();
+		if (owner == null) {
+			owner = current;
+		} else if (owner != current) {
+			throw new IllegalStateException(
+					String.format("Thread-confined object used by %s, but owned by %s", current, owner));
+		}
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+/**
+ * Utility class that converts hexadecimal digits using SWAR.
+ * <p>
+ * SWAR (SIMD within a register) packs 8 chars into the 8 bytes of a long and
+ * processes them at once with plain arithmetic. It converts 8 hexadecimal
+ * digits to 32 bits, and back, without a table lookup per char. Validation is
+ * done in the same pass.
+ * <p>
+ * It decodes lower case and upper case. It encodes lower case.
+ */
+public final class HexUtil {
+
+	private static final long ONES = 0x0101010101010101L;
+	private static final long HIGH = 0x8080808080808080L;
+	private static final long LOW_NIBBLES = 0x0f0f0f0f0f0f0f0fL;
+
+	private HexUtil() {
+	}
+
+	/**
+	 * Get the value of 8 hexadecimal digits.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first digit
+	 * @return a value between 0 and 2^32-1, or -1 if a char is invalid
+	 */
+	public static long decode(final CharSequence chars, final int offset) {
+		return decode(chars, offset, offset + 4);
+	}
+
+	/**
+	 * Get the value of two groups of 4 hexadecimal digits.
+	 * <p>
+	 * The first group provides the 16 most significant bits.
+	 * 
+	 * @param chars   a char sequence
+	 * @param offset1 the index of the first digit of the first group
+	 * @param offset2 the index of the first digit of the second group
+	 * @return a value between 0 and 2^32-1, or -1 if a char is invalid
+	 */
+	public static long decode(final CharSequence chars, final int offset1, final int offset2) {
+
+		final int c0 = chars.charAt(offset1);
+		final int c1 = chars.charAt(offset1 + 1);
+		final int c2 = chars.charAt(offset1 + 2);
+		final int c3 = chars.charAt(offset1 + 3);
+		final int c4 = chars.charAt(offset2);
+		final int c5 = chars.charAt(offset2 + 1);
+		final int c6 = chars.charAt(offset2 + 2);
+		final int c7 = chars.charAt(offset2 + 3);
+
+		if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) > 0x7f) {
+			return -1L; // not ASCII
+		}
+
+		final long packed = ((long) c0 << 56) | ((long) c1 << 48) | ((long) c2 << 40) | ((long) c3 << 32)
+				| ((long) c4 << 24) | ((long) c5 << 16) | ((long) c6 << 8) | c7;
+
+		return decode(packed);
+	}
+
+	/**
+	 * Get the value of 8 hexadecimal digits.
+	 * 
+	 * @param chars  a char array
+	 * @param offset the index of the first digit
+	 * @return a value between 0 and 2^32-1, or -1 if a char is invalid
+	 */
+	public static long decode(final char[] chars, final int offset) {
+		return decode(chars, offset, offset + 4);
+	}
+
+	/**
+	 * Get the value of two groups of 4 hexadecimal digits.
+	 * <p>
+	 * The first group provides the 16 most significant bits.
+	 * 
+	 * @param chars   a char array
+	 * @param offset1 the index of the first digit of the first group
+	 * @param offset2 the index of the first digit of the second group
+	 * @return a value between 0 and 2^32-1, or -1 if a char is invalid
+	 */
+	public static long decode(final char[] chars, final int offset1, final int offset2) {
+
+		final int c0 = chars[offset1];
+		final int c1 = chars[offset1 + 1];
+		final int c2 = chars[offset1 + 2];
+		final int c3 = chars[offset1 + 3];
+		final int c4 = chars[offset2];
+		final int c5 = chars[offset2 + 1];
+		final int c6 = chars[offset2 + 2];
+		final int c7 = chars[offset2 + 3];
+
+		if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) > 0x7f) {
+			return -1L; // not ASCII
+		}
+
+		final long packed = ((long) c0 << 56) | ((long) c1 << 48) | ((long) c2 << 40) | ((long) c3 << 32)
+				| ((long) c4 << 24) | ((long) c5 << 16) | ((long) c6 << 8) | c7;
+
+		return decode(packed);
+	}
+
+	/**
+	 * Get the value of 8 hexadecimal digits encoded as ASCII bytes.
+	 * 
+	 * @param bytes  a byte array
+	 * @param offset the index of the first digit
+	 * @return a value between 0 and 2^32-1, or -1 if a byte is invalid
+	 */
+	public static long decode(final byte[] bytes, final int offset) {
+		return decode(bytes, offset, offset + 4);
+	}
+
+	/**
+	 * Get the value of two groups of 4 hexadecimal digits encoded as ASCII bytes.
+	 * <p>
+	 * The first group provides the 16 most significant bits.
+	 * 
+	 * @param bytes   a byte array
+	 * @param offset1 the index of the first digit of the first group
+	 * @param offset2 the index of the first digit of the second group
+	 * @return a value between 0 and 2^32-1, or -1 if a byte is invalid
+	 */
+	public static long decode(final byte[] bytes, final int offset1, final int offset2) {
+
+		final long packed = ((bytes[offset1] & 0xffL) << 56) | ((bytes[offset1 + 1] & 0xffL) << 48)
+				| ((bytes[offset1 + 2] & 0xffL) << 40) | ((bytes[offset1 + 3] & 0xffL) << 32)
+				| ((bytes[offset2] & 0xffL) << 24) | ((bytes[offset2 + 1] & 0xffL) << 16)
+				| ((bytes[offset2 + 2] & 0xffL) << 8) | (bytes[offset2 + 3] & 0xffL);
+
+		if ((packed & HIGH) != 0) {
+			return -1L; // not ASCII
+		}
+
+		return decode(packed);
+	}
+
+	/**
+	 * Get the value of 8 hexadecimal digits packed as ASCII bytes in a long.
+	 * <p>
+	 * The first digit is in the most significant byte. Every byte must be less
+	 * than 0x80.
+	 * 
+	 * @param packed 8 ASCII bytes
+	 * @return a value between 0 and 2^32-1, or -1 if a byte is invalid
+	 */
+	public static long decode(final long packed) {
+
+		// high bit of each byte set if '0' <= byte <= '9'
+		final long digit = atLeast(packed, '0') & ~atLeast(packed, '9' + 1);
+		// high bit of each byte set if 'a' <= (byte | 0x20) <= 'f'
+		final long lower = packed | (ONES * 0x20);
+		final long letter = atLeast(lower, 'a') & ~atLeast(lower, 'f' + 1) & HIGH;
+
+		if ((digit | letter) != HIGH) {
+			return -1L;
+		}
+
+		// the low nibble of a digit is its value, and of a letter is its value - 9
+		long value = (packed & LOW_NIBBLES) + (letter >>> 7) * 9;
+
+		// gather 8 nibbles into 32 bits
+		value = (value | (value >>> 4)) & 0x00ff00ff00ff00ffL;
+		value = (value | (value >>> 8)) & 0x0000ffff0000ffffL;
+		value = (value | (value >>> 16)) & 0x00000000ffffffffL;
+
+		return value;
+	}
+
+	/**
+	 * Get 8 lower case hexadecimal digits packed as ASCII bytes in a long.
+	 * <p>
+	 * The first digit is in the most significant byte.
+	 * 
+	 * @param value a 32-bit value
+	 * @return 8 ASCII bytes
+	 */
+	public static long encode(final long value) {
+
+		// scatter 8 nibbles into 8 bytes
+		long packed = value & 0x00000000ffffffffL;
+		packed = (packed | (packed << 16)) & 0x0000ffff0000ffffL;
+		packed = (packed | (packed << 8)) & 0x00ff00ff00ff00ffL;
+		packed = (packed | (packed << 4)) & LOW_NIBBLES;
+
+		// 0x10 in each byte whose nibble is greater than 9
+		final long letter = (packed + ONES * 6) & (ONES * 0x10);
+
+		// add '0' to all nibbles and ('a' - 10 - '0') to the letters
+		return packed + (ONES * '0') + (letter >>> 4) * ('a' - 10 - '0');
+	}
+
+	/**
+	 * Writes 8 lower case hexadecimal digits into a char array.
+	 * 
+	 * @param value  a 32-bit value
+	 * @param chars  a destination char array
+	 * @param offset the index of the first digit
+	 */
+	public static void encode(final long value, final char[] chars, final int offset) {
+		encode(value, chars, offset, offset + 4);
+	}
+
+	/**
+	 * Writes two groups of 4 lower case hexadecimal digits into a char array.
+	 * <p>
+	 * The first group represents the 16 most significant bits.
+	 * 
+	 * @param value   a 32-bit value
+	 * @param chars   a destination char array
+	 * @param offset1 the index of the first digit of the first group
+	 * @param offset2 the index of the first digit of the second group
+	 */
+	public static void encode(final long value, final char[] chars, final int offset1, final int offset2) {
+		final long packed = encode(value);
+		chars[offset1] = (char) (packed >>> 56);
+		chars[offset1 + 1] = (char) (packed >>> 48 & 0xff);
+		chars[offset1 + 2] = (char) (packed >>> 40 & 0xff);
+		chars[offset1 + 3] = (char) (packed >>> 32 & 0xff);
+		chars[offset2] = (char) (packed >>> 24 & 0xff);
+		chars[offset2 + 1] = (char) (packed >>> 16 & 0xff);
+		chars[offset2 + 2] = (char) (packed >>> 8 & 0xff);
+		chars[offset2 + 3] = (char) (packed & 0xff);
+	}
+
+	/**
+	 * Writes 8 lower case hexadecimal digits into a byte array as ASCII bytes.
+	 * 
+	 * @param value  a 32-bit value
+	 * @param bytes  a destination byte array
+	 * @param offset the index of the first digit
+	 */
+	public static void encode(final long value, final byte[] bytes, final int offset) {
+		encode(value, bytes, offset, offset + 4);
+	}
+
+	/**
+	 * Writes two groups of 4 lower case hexadecimal digits into a byte array as
+	 * ASCII bytes.
+	 * <p>
+	 * The first group represents the 16 most significant bits.
+	 * 
+	 * @param value   a 32-bit value
+	 * @param bytes   a destination byte array
+	 * @param offset1 the index of the first digit of the first group
+	 * @param offset2 the index of the first digit of the second group
+	 */
+	public static void encode(final long value, final byte[] bytes, final int offset1, final int offset2) {
+		final long packed = encode(value);
+		bytes[offset1] = (byte) (packed >>> 56);
+		bytes[offset1 + 1] = (byte) (packed >>> 48);
+		bytes[offset1 + 2] = (byte) (packed >>> 40);
+		bytes[offset1 + 3] = (byte) (packed >>> 32);
+		bytes[offset2] = (byte) (packed >>> 24);
+		bytes[offset2 + 1] = (byte) (packed >>> 16);
+		bytes[offset2 + 2] = (byte) (packed >>> 8);
+		bytes[offset2 + 3] = (byte) packed;
+	}
+
+	/**
+	 * Returns the high bit of each byte set if the byte is greater than or equal
+	 * to a bound. Every byte and the bound must be less than or equal to 0x80.
+	 */
+	private static long atLeast(final long packed, final int bound) {
+		return (packed + ONES * (0x80 - bound)) & HIGH;
+	}
+}
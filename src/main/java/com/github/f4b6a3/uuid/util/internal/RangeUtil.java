@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+/**
+ * Utility class that checks regions of arrays, buffers and char sequences.
+ */
+public final class RangeUtil {
+
+	private RangeUtil() {
+	}
+
+	/**
+	 * Checks if a region is within the bounds of a sequence.
+	 * <p>
+	 * It is equivalent to {@code Objects.checkFromIndexSize()} of JDK 9.
+	 * 
+	 * @param offset the index of the first element of the region
+	 * @param length the length of the region
+	 * @param size   the length of the sequence
+	 * @return the offset
+	 * @throws IndexOutOfBoundsException if the region is out of bounds
+	 */
+	public static int checkFromIndexSize(final int offset, final int length, final int size) {
+		if ((size | offset | length) < 0 || length > size - offset) {
+			throw new IndexOutOfBoundsException(
+					String.format("Range [%d, %<d + %d) out of bounds for length %d", offset, length, size));
+		}
+		return offset;
+	}
+
+	/**
+	 * Checks if a number of fixed-length records fit in a sequence.
+	 * 
+	 * @param offset the index of the first element of the first record
+	 * @param count  the number of records
+	 * @param width  the length of each record
+	 * @param size   the length of the sequence
+	 * @return the length of all records
+	 * @throws IndexOutOfBoundsException if the records are out of bounds
+	 */
+	public static int checkFromIndexCount(final int offset, final int count, final int width, final int size) {
+		final long length = (long) count * width;
+		if ((size | offset | count) < 0 || length > size - offset) {
+			throw new IndexOutOfBoundsException(String.format(
+					"Range [%d, %<d + %d * %d) out of bounds for length %d", offset, count, width, size));
+		}
+		return (int) length;
+	}
+}
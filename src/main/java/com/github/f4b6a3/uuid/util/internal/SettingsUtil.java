@@ -31,12 +31,14 @@ package com.github.f4b6a3.uuid.util.internal;
  * <ul>
  * <li>uuidcreator.node
  * <li>uuidcreator.securerandom
+ * <li>uuidcreator.stackless
  * </ul>
  * <p>
  * List of environment variables:
  * <ul>
  * <li>UUIDCREATOR_NODE
  * <li>UUIDCREATOR_SECURERANDOM
+ * <li>UUIDCREATOR_STACKLESS
  * </ul>
  * <p>
  * System properties has prevalence over environment variables.
@@ -58,6 +60,11 @@ public final class SettingsUtil {
 	 */
 	public static final String PROPERTY_SECURERANDOM = "securerandom";
 
+	/**
+	 * The property name for stackless exceptions.
+	 */
+	public static final String PROPERTY_STACKLESS = "stackless";
+
 	/**
 	 * Default constructor.
 	 */
@@ -109,6 +116,26 @@ public final class SettingsUtil {
 		setProperty(PROPERTY_SECURERANDOM, algorithm);
 	}
 
+	/**
+	 * Check if exceptions for invalid UUIDs are stackless.
+	 * 
+	 * @return true if the property value is "true"
+	 */
+	public static boolean isStackless() {
+		return Boolean.parseBoolean(getProperty(PROPERTY_STACKLESS));
+	}
+
+	/**
+	 * Set if exceptions for invalid UUIDs are stackless.
+	 * <p>
+	 * It only takes effect if set before the first exception is created.
+	 * 
+	 * @param stackless true for stackless exceptions
+	 */
+	public static void setStackless(boolean stackless) {
+		setProperty(PROPERTY_STACKLESS, Boolean.toString(stackless));
+	}
+
 	/**
 	 * Get a property.
 	 * 
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2025 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * Utility class that contains static methods for string handling.
+ */
+public final class StringUtil {
+
+	/**
+	 * True if strings can be built directly from Latin-1 bytes.
+	 * <p>
+	 * Since JDK 9, strings whose chars are all Latin-1 are stored as byte arrays
+	 * (compact strings). Building them from a char array requires a scan and a
+	 * compression of the chars. Building them from a Latin-1 byte array is a
+	 * plain copy.
+	 */
+	public static final boolean LATIN1 = JavaVersionUtil.getJavaVersion() > 8;
+
+	private StringUtil() {
+	}
+
+	/**
+	 * Returns a string from an array of Latin-1 bytes.
+	 * <p>
+	 * It uses the deprecated constructor {@link String#String(byte[], int)} with
+	 * the high byte set to zero, which copies the bytes as they are, without
+	 * charset decoding. Every byte is taken as a char between 0x00 and 0xff.
+	 * 
+	 * @param bytes a byte array
+	 * @return a string
+	 */
+	@SuppressWarnings("deprecation")
+	public static String latin1(final byte[] bytes) {
+		return new String(bytes, 0);
+	}
+
+	/**
+	 * Appends a region of a char array to an appendable.
+	 * <p>
+	 * It uses the bulk methods of {@link StringBuilder}, {@link Writer} and
+	 * {@link CharBuffer} to avoid creating a string.
+	 * 
+	 * @param appendable an appendable
+	 * @param chars      a char array
+	 * @param offset     the index of the first char
+	 * @param length     the number of chars
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void append(final Appendable appendable, final char[] chars, final int offset, final int length)
+			throws IOException {
+		if (appendable instanceof StringBuilder) {
+			((StringBuilder) appendable).append(chars, offset, length);
+		} else if (appendable instanceof Writer) {
+			((Writer) appendable).write(chars, offset, length);
+		} else if (appendable instanceof CharBuffer) {
+			((CharBuffer) appendable).put(chars, offset, length);
+		} else {
+			appendable.append(CharBuffer.wrap(chars, offset, length));
+		}
+	}
+}
@@ -8,13 +8,24 @@ import com.github.f4b6a3.uuid.codec.base.BaseNCodec1Test;
 import com.github.f4b6a3.uuid.codec.base.BaseNCodec2SamplesTest;
 import com.github.f4b6a3.uuid.codec.base.BaseNCodec3SamplesTest;
 import com.github.f4b6a3.uuid.codec.base.BaseNTest;
+import com.github.f4b6a3.uuid.codec.base.function.BaseNPowerDecoderTest;
+import com.github.f4b6a3.uuid.codec.base.function.BaseNPowerEncoderTest;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNRemainderDecoderTest;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNRemainderEncoderTest;
+import com.github.f4b6a3.uuid.codec.other.CachedCodecTest;
 import com.github.f4b6a3.uuid.codec.other.DotNetGuid1CodecTest;
 import com.github.f4b6a3.uuid.codec.other.DotNetGuid4CodecTest;
+import com.github.f4b6a3.uuid.codec.other.MySqlSwapCodecTest;
 import com.github.f4b6a3.uuid.codec.other.NcnameCodecTest;
 import com.github.f4b6a3.uuid.codec.other.SlugCodecTest;
+import com.github.f4b6a3.uuid.codec.other.SqlServerGuidCodecTest;
 import com.github.f4b6a3.uuid.codec.other.TimeOrderedCodecTest;
+import com.github.f4b6a3.uuid.codec.other.UniversalCodecTest;
+import com.github.f4b6a3.uuid.collection.UuidArrayTest;
+import com.github.f4b6a3.uuid.collection.UuidDirectSetTest;
+import com.github.f4b6a3.uuid.collection.UuidLongMapTest;
+import com.github.f4b6a3.uuid.collection.UuidObjectMapTest;
+import com.github.f4b6a3.uuid.collection.UuidSetTest;
 import com.github.f4b6a3.uuid.factory.AbstRandomBasedFactoryTest;
 import com.github.f4b6a3.uuid.factory.AbstTimeBasedFactoryTest;
 import com.github.f4b6a3.uuid.factory.function.impl.ClockSeqPoolTest;
@@ -25,6 +36,8 @@ import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactoryTest;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortPrefixCombFactoryTest;
 import com.github.f4b6a3.uuid.factory.nonstandard.ShortSuffixCombFactoryTest;
 import com.github.f4b6a3.uuid.factory.nonstandard.SuffixCombFactoryTest;
+import com.github.f4b6a3.uuid.factory.nonstandard.UlidFactoryTest;
+import com.github.f4b6a3.uuid.factory.standard.CustomLayoutFactoryTest;
 import com.github.f4b6a3.uuid.factory.standard.DceSecurityFactoryTest;
 import com.github.f4b6a3.uuid.factory.standard.NameBasedMd5FactoryTest;
 import com.github.f4b6a3.uuid.factory.standard.NameBasedSha1FactoryTest;
@@ -33,16 +46,21 @@ import com.github.f4b6a3.uuid.factory.standard.TimeBasedFactoryTest;
 import com.github.f4b6a3.uuid.factory.standard.TimeOrderedEpochFactoryTest;
 import com.github.f4b6a3.uuid.factory.standard.TimeOrderedFactoryTest;
 import com.github.f4b6a3.uuid.alt.GUIDTest;
+import com.github.f4b6a3.uuid.codec.AsciiCodecTest;
 import com.github.f4b6a3.uuid.codec.BinaryCodecTest;
 import com.github.f4b6a3.uuid.codec.StringCodecTest;
 import com.github.f4b6a3.uuid.codec.UriCodecTest;
 import com.github.f4b6a3.uuid.codec.UrnCodecTest;
 import com.github.f4b6a3.uuid.util.internal.ByteUtilTest;
+import com.github.f4b6a3.uuid.util.internal.ConfinedLockTest;
+import com.github.f4b6a3.uuid.util.internal.HexUtilTest;
 import com.github.f4b6a3.uuid.util.internal.SettingsUtilTest;
 import com.github.f4b6a3.uuid.util.CombUtilTest;
 import com.github.f4b6a3.uuid.util.MachineIdTest;
+import com.github.f4b6a3.uuid.util.ReusableUuidBuilderTest;
 import com.github.f4b6a3.uuid.util.UuidBuilderTest;
 import com.github.f4b6a3.uuid.util.UuidComparatorTest;
+import com.github.f4b6a3.uuid.util.UuidSorterTest;
 import com.github.f4b6a3.uuid.util.UuidTimeTest;
 import com.github.f4b6a3.uuid.util.UuidUtilTest;
 import com.github.f4b6a3.uuid.util.UuidValidatorTest;
@@ -51,42 +69,60 @@ import com.github.f4b6a3.uuid.util.UuidValidatorTest;
 @Suite.SuiteClasses({
 	AbstTimeBasedFactoryTest.class,
 	AbstRandomBasedFactoryTest.class,
+	AsciiCodecTest.class,
 	BaseNCodec1Test.class,
 	BaseNCodec2SamplesTest.class,
 	BaseNCodec3SamplesTest.class,
+	BaseNPowerDecoderTest.class,
+	BaseNPowerEncoderTest.class,
 	BaseNRemainderDecoderTest.class,
 	BaseNRemainderEncoderTest.class,
 	BaseNTest.class,
 	BinaryCodecTest.class,
 	ByteUtilTest.class,
+	CachedCodecTest.class,
 	ClockSeqPoolTest.class,
 	CombUtilTest.class,
+	ConfinedLockTest.class,
+	CustomLayoutFactoryTest.class,
 	DceSecurityFactoryTest.class,
 	DefaultClockSeqFunctionTest.class,
 	DefaultTimeFunctionTest.class,
 	DotNetGuid1CodecTest.class,
 	DotNetGuid4CodecTest.class,
 	GUIDTest.class,
+	HexUtilTest.class,
 	MachineIdTest.class,
+	MySqlSwapCodecTest.class,
 	NameBasedMd5FactoryTest.class,
 	NameBasedSha1FactoryTest.class,
 	NcnameCodecTest.class,
 	PrefixCombFactoryTest.class,
 	RandomBasedFactoryTest.class,
+	ReusableUuidBuilderTest.class,
 	SettingsUtilTest.class,
 	ShortPrefixCombFactoryTest.class,
 	ShortSuffixCombFactoryTest.class,
 	SlugCodecTest.class,
+	SqlServerGuidCodecTest.class,
 	StringCodecTest.class,
 	SuffixCombFactoryTest.class,
 	TimeBasedFactoryTest.class,
 	TimeOrderedCodecTest.class,
 	TimeOrderedEpochFactoryTest.class,
 	TimeOrderedFactoryTest.class,
+	UlidFactoryTest.class,
+	UniversalCodecTest.class,
+	UuidArrayTest.class,
 	UuidBuilderTest.class,
 	UriCodecTest.class,
 	UrnCodecTest.class,
 	UuidComparatorTest.class,
+	UuidDirectSetTest.class,
+	UuidLongMapTest.class,
+	UuidObjectMapTest.class,
+	UuidSetTest.class,
+	UuidSorterTest.class,
 	UuidTimeTest.class,
 	UuidUtilTest.class,
 	UuidValidatorTest.class,
@@ -497,6 +497,19 @@ public class GUIDTest {
 		});
 	}
 
+	@Test
+	public void testTryParse() {
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			String string = UUID.randomUUID().toString();
+			assertEquals(string, GUID.tryParse(string).toString());
+		}
+
+		testValidator((String string) -> {
+			return GUID.tryParse(string) != null;
+		});
+	}
+
 	@Test
 	public void testParser() {
 
@@ -0,0 +1,240 @@
+package com.github.f4b6a3.uuid.codec;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class AsciiCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	private static final String URN_PREFIX = "urn:uuid:";
+
+	@Test
+	public void testEncode() {
+
+		StandardAsciiCodec codec = new StandardAsciiCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			byte[] expected = uuid.toString().getBytes(StandardCharsets.US_ASCII);
+			assertArrayEquals(expected, codec.encode(uuid));
+		}
+	}
+
+	@Test
+	public void testEncodeInto() {
+
+		StandardAsciiCodec codec = new StandardAsciiCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+			UUID uuid = UUID.randomUUID();
+			String expected = "id=" + uuid.toString() + ";";
+
+			byte[] bytes = new byte[40];
+			bytes[0] = 'i';
+			bytes[1] = 'd';
+			bytes[2] = '=';
+			bytes[39] = ';';
+			assertEquals(39, codec.encode(uuid, bytes, 3));
+			assertEquals(expected, new String(bytes, StandardCharsets.US_ASCII));
+
+			ByteBuffer[] buffers = { ByteBuffer.allocate(40), ByteBuffer.allocateDirect(40) };
+			for (ByteBuffer buffer : buffers) {
+				buffer.put((byte) 'i').put((byte) 'd').put((byte) '=');
+				codec.encode(uuid, buffer).put((byte) ';');
+				assertEquals(40, buffer.position());
+				buffer.flip();
+				byte[] array = new byte[40];
+				buffer.get(array);
+				assertEquals(expected, new String(array, StandardCharsets.US_ASCII));
+			}
+		}
+
+		try {
+			codec.encode(UUID.randomUUID(), new byte[40], 5);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(40);
+			buffer.position(5);
+			codec.encode(UUID.randomUUID(), buffer);
+			fail("Should throw exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecodeAll() {
+
+		StandardAsciiCodec codec = new StandardAsciiCodec();
+
+		UUID[] uuids = new UUID[DEFAULT_LOOP_LIMIT];
+		long[] longs = new long[DEFAULT_LOOP_LIMIT * 2];
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+			longs[i * 2] = uuids[i].getMostSignificantBits();
+			longs[i * 2 + 1] = uuids[i].getLeastSignificantBits();
+			expected.append(uuids[i].toString());
+		}
+
+		byte[] bytes = new byte[uuids.length * 36 + 1];
+		assertEquals(bytes.length, codec.encodeAll(uuids, bytes, 1));
+		assertEquals(expected.toString(), new String(bytes, 1, bytes.length - 1, StandardCharsets.US_ASCII));
+
+		byte[] bytes2 = new byte[bytes.length];
+		assertEquals(bytes.length, codec.encodeAll(longs, bytes2, 1));
+		assertArrayEquals(bytes, bytes2);
+
+		UUID[] uuids2 = new UUID[uuids.length];
+		assertEquals(bytes.length, codec.decodeAll(bytes, 1, uuids2));
+		assertArrayEquals(uuids, uuids2);
+
+		long[] longs2 = new long[longs.length];
+		byte[] upper = ("-" + expected.toString().toUpperCase()).getBytes(StandardCharsets.US_ASCII);
+		assertEquals(bytes.length, codec.decodeAll(upper, 1, longs2));
+		assertArrayEquals(longs, longs2);
+
+		try {
+			bytes[1 + 36 * 10 + 35] = (byte) 0xe9;
+			codec.decodeAll(bytes, 1, longs2);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		try {
+			codec.decodeAll(bytes, 2, uuids2);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testDecode() {
+
+		StandardAsciiCodec codec = new StandardAsciiCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+			UUID uuid = UUID.randomUUID();
+			String[] strings = { uuid.toString(), uuid.toString().toUpperCase(), uuid.toString().replace("-", ""),
+					URN_PREFIX + uuid.toString(), "{" + uuid.toString() + "}" };
+
+			for (String string : strings) {
+
+				byte[] bytes = string.getBytes(StandardCharsets.US_ASCII);
+				assertEquals(uuid, codec.decode(bytes));
+				assertEquals(uuid, codec.tryDecode(bytes));
+
+				// surrounded by other bytes
+				byte[] text = ("id=" + string + ";").getBytes(StandardCharsets.US_ASCII);
+				assertEquals(uuid, codec.decode(text, 3, bytes.length));
+
+				ByteBuffer heap = ByteBuffer.wrap(text);
+				ByteBuffer direct = ByteBuffer.allocateDirect(text.length).put(text);
+				ByteBuffer[] buffers = { heap, direct, heap.asReadOnlyBuffer() };
+				for (ByteBuffer buffer : buffers) {
+					assertEquals(uuid, codec.decode(buffer, 3, bytes.length));
+					assertEquals(uuid, codec.tryDecode(buffer, 3, bytes.length));
+					buffer.position(3).limit(3 + bytes.length);
+					assertEquals(uuid, codec.decode(buffer));
+					assertEquals(buffer.limit(), buffer.position()); // consumed
+					buffer.position(3);
+					assertEquals(uuid, codec.tryDecode(buffer));
+					assertEquals(buffer.limit(), buffer.position()); // consumed
+					buffer.clear();
+				}
+
+				// a slice with an array offset
+				heap.position(3).limit(3 + bytes.length);
+				assertEquals(uuid, codec.decode(heap.slice()));
+				heap.clear();
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecode() {
+
+		StandardAsciiCodec codec = new StandardAsciiCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			byte[] bytes = codec.encode(uuid); // encode
+			assertEquals(uuid, codec.decode(bytes)); // decode back
+		}
+	}
+
+	@Test
+	public void testDecodeInvalidUuidException() {
+
+		String uuid = UUID.randomUUID().toString();
+		String[] strings = { "", uuid.substring(1), uuid + "0", uuid.replace('-', '+'), uuid.replace('-', 'f'),
+				'x' + uuid.substring(1), uuid.substring(0, 35) + 'é', uuid.replace("-", "").substring(1) + 'g',
+				"URN:UUID:" + uuid, "(" + uuid + ")", "{" + uuid.replace('-', ':') + "}" };
+
+		for (String string : strings) {
+
+			byte[] bytes = string.getBytes(StandardCharsets.ISO_8859_1);
+
+			assertNull(StandardAsciiCodec.INSTANCE.tryDecode(bytes));
+
+			try {
+				StandardAsciiCodec.INSTANCE.decode(bytes);
+				fail("Should throw exception: " + string);
+			} catch (InvalidUuidException e) {
+				// success
+			}
+
+			ByteBuffer heap = ByteBuffer.wrap(bytes);
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+			direct.flip();
+			ByteBuffer[] buffers = { heap, direct };
+			for (ByteBuffer buffer : buffers) {
+
+				assertNull(StandardAsciiCodec.INSTANCE.tryDecode(buffer));
+				assertEquals(0, buffer.position()); // unchanged
+
+				try {
+					StandardAsciiCodec.INSTANCE.decode(buffer);
+					fail("Should throw exception: " + string);
+				} catch (InvalidUuidException e) {
+					assertNull(e.getCause()); // thrown once, not wrapped
+					assertEquals(0, buffer.position()); // unchanged
+				}
+			}
+		}
+
+		try {
+			StandardAsciiCodec.INSTANCE.decode((byte[]) null);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		try {
+			StandardAsciiCodec.INSTANCE.decode(new byte[36], 1, 36);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+}
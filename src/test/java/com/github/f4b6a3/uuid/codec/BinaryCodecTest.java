@@ -3,7 +3,11 @@ package com.github.f4b6a3.uuid.codec;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.UuidCreator;
@@ -81,6 +85,169 @@ public class BinaryCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeAndDecodeAtOffset() {
+
+		StandardBinaryCodec codec = StandardBinaryCodec.INSTANCE;
+
+		ByteBuffer[] buffers = { ByteBuffer.allocate(18), ByteBuffer.allocateDirect(18),
+				ByteBuffer.allocate(18).order(ByteOrder.LITTLE_ENDIAN) };
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+			UUID uuid = UUID.randomUUID();
+			byte[] expected = codec.encode(uuid);
+
+			byte[] bytes = new byte[18];
+			assertEquals(17, codec.encode(uuid, bytes, 1));
+			assertArrayEquals(expected, Arrays.copyOfRange(bytes, 1, 17));
+			assertEquals(uuid, codec.decode(bytes, 1));
+
+			for (ByteBuffer buffer : buffers) {
+
+				buffer.clear().position(2);
+				codec.encode(uuid, buffer);
+				assertEquals(18, buffer.position());
+				assertEquals(uuid, codec.decode(buffer, 2));
+
+				buffer.position(2);
+				assertEquals(uuid, codec.decode(buffer));
+				assertEquals(18, buffer.position());
+
+				buffer.position(0);
+				assertEquals(17, codec.encode(uuid, buffer, 1));
+				assertEquals(0, buffer.position());
+				for (int j = 0; j < 16; j++) {
+					assertEquals(expected[j], buffer.get(1 + j));
+				}
+			}
+		}
+
+		try {
+			codec.encode(UUID.randomUUID(), new byte[16], 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.decode(ByteBuffer.allocate(16), 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.encode(UUID.randomUUID(), (ByteBuffer) ByteBuffer.allocate(16).position(1));
+			fail("Should throw exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+
+		try {
+			codec.decode((ByteBuffer) ByteBuffer.allocate(16).position(1));
+			fail("Should throw exception");
+		} catch (BufferUnderflowException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecodeAll() {
+
+		StandardBinaryCodec codec = StandardBinaryCodec.INSTANCE;
+
+		UUID[] uuids = new UUID[DEFAULT_LOOP_LIMIT];
+		long[] longs = new long[DEFAULT_LOOP_LIMIT * 2];
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+			longs[i * 2] = uuids[i].getMostSignificantBits();
+			longs[i * 2 + 1] = uuids[i].getLeastSignificantBits();
+		}
+
+		int size = uuids.length * 16;
+
+		byte[] bytes1 = new byte[size + 1];
+		byte[] bytes2 = new byte[size + 1];
+		assertEquals(size + 1, codec.encodeAll(uuids, bytes1, 1));
+		assertEquals(size + 1, codec.encodeAll(longs, bytes2, 1));
+		assertArrayEquals(bytes1, bytes2);
+		for (int i = 0; i < uuids.length; i++) {
+			assertEquals(uuids[i], codec.decode(bytes1, 1 + i * 16));
+		}
+
+		UUID[] decoded = new UUID[uuids.length];
+		long[] decodedLongs = new long[longs.length];
+		assertEquals(size + 1, codec.decodeAll(bytes1, 1, decoded));
+		assertEquals(size + 1, codec.decodeAll(bytes1, 1, decodedLongs));
+		assertArrayEquals(uuids, decoded);
+		assertArrayEquals(longs, decodedLongs);
+
+		ByteBuffer[] buffers = { ByteBuffer.allocate(size), ByteBuffer.allocateDirect(size),
+				ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN) };
+
+		for (ByteBuffer buffer : buffers) {
+
+			codec.encodeAll(uuids, buffer);
+			assertFalse(buffer.hasRemaining());
+			buffer.flip();
+			for (int i = 0; i < size; i++) {
+				assertEquals(bytes1[1 + i], buffer.get(i));
+			}
+
+			assertArrayEquals(uuids, codec.stream(buffer).toArray());
+			assertArrayEquals(uuids, codec.stream(buffer).parallel().toArray());
+			assertEquals(0, buffer.position());
+
+			decoded = new UUID[uuids.length];
+			codec.decodeAll(buffer, decoded);
+			assertArrayEquals(uuids, decoded);
+			assertFalse(buffer.hasRemaining());
+
+			buffer.clear();
+			codec.encodeAll(longs, buffer);
+			buffer.flip();
+			decodedLongs = new long[longs.length];
+			codec.decodeAll(buffer, decodedLongs);
+			assertArrayEquals(longs, decodedLongs);
+		}
+
+		try {
+			codec.encodeAll(uuids, new byte[size], 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.encodeAll(new long[3], new byte[size], 0);
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			codec.encodeAll(uuids, ByteBuffer.allocate(size - 1));
+			fail("Should throw exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+
+		try {
+			codec.decodeAll(ByteBuffer.allocate(size - 1), decoded);
+			fail("Should throw exception");
+		} catch (BufferUnderflowException e) {
+			// success
+		}
+
+		try {
+			codec.stream(ByteBuffer.allocate(17));
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
 	@Test
 	public void testEncodeInvalidUuidException() {
 
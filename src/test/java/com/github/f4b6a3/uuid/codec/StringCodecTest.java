@@ -8,6 +8,8 @@ import org.junit.Test;
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.UUID;
 
 public class StringCodecTest {
@@ -97,6 +99,157 @@ public class StringCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeInto() throws IOException {
+
+		StandardStringCodec codec = new StandardStringCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+			UUID uuid = UUID.randomUUID();
+			String expected = "id=" + uuid.toString() + ";";
+
+			char[] chars = "id=????????????????????????????????????;".toCharArray();
+			assertEquals(39, codec.encode(uuid, chars, 3));
+			assertEquals(expected, new String(chars));
+
+			assertEquals(expected, codec.encode(uuid, new StringBuilder("id=")).append(';').toString());
+			assertEquals(expected, codec.encode(uuid, new StringWriter().append("id=")).append(';').toString());
+			assertEquals(expected, codec.encode(uuid, (Appendable) new StringBuffer("id=")).append(';').toString());
+		}
+
+		try {
+			codec.encode(UUID.randomUUID(), new char[40], 5);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.encode(null, new char[40], 0);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecodeAll() {
+
+		StandardStringCodec codec = new StandardStringCodec();
+
+		UUID[] uuids = new UUID[DEFAULT_LOOP_LIMIT];
+		long[] longs = new long[DEFAULT_LOOP_LIMIT * 2];
+		StringBuilder expected = new StringBuilder("[");
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+			longs[i * 2] = uuids[i].getMostSignificantBits();
+			longs[i * 2 + 1] = uuids[i].getLeastSignificantBits();
+			expected.append(uuids[i].toString());
+		}
+		expected.append("]");
+
+		char[] chars = new char[uuids.length * 36 + 2];
+		chars[0] = '[';
+		chars[chars.length - 1] = ']';
+		assertEquals(chars.length - 1, codec.encodeAll(uuids, chars, 1));
+		assertEquals(expected.toString(), new String(chars));
+
+		char[] chars2 = new char[chars.length];
+		chars2[0] = '[';
+		chars2[chars.length - 1] = ']';
+		assertEquals(chars.length - 1, codec.encodeAll(longs, chars2, 1));
+		assertArrayEquals(chars, chars2);
+
+		UUID[] uuids2 = new UUID[uuids.length];
+		assertEquals(chars.length - 1, codec.decodeAll(expected.toString().toUpperCase().toCharArray(), 1, uuids2));
+		assertArrayEquals(uuids, uuids2);
+
+		long[] longs2 = new long[longs.length];
+		assertEquals(chars.length - 1, codec.decodeAll(chars, 1, longs2));
+		assertArrayEquals(longs, longs2);
+
+		try {
+			chars[1 + 36 * 10 + 18] = '+';
+			codec.decodeAll(chars, 1, uuids2);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		try {
+			codec.encodeAll(uuids, chars, 3);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.encodeAll(new long[3], chars, 0);
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testDecodeRegion() {
+
+		StandardStringCodec codec = new StandardStringCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+			UUID uuid = UUID.randomUUID();
+			String[] strings = { uuid.toString(), uuid.toString().toUpperCase(), uuid.toString().replace("-", ""),
+					URN_PREFIX + uuid.toString(), "{" + uuid.toString() + "}" };
+
+			for (String string : strings) {
+				// surrounded by other chars
+				String text = "id=" + string + ";";
+				assertEquals(uuid, codec.decode(text, 3, string.length()));
+				assertEquals(uuid, codec.decode(new StringBuilder(text), 3, string.length()));
+				assertEquals(uuid, codec.decode(text.toCharArray(), 3, string.length()));
+			}
+		}
+
+		String text = "id=" + UUID.randomUUID().toString() + ";";
+
+		try {
+			codec.decode(text, 2, 36); // wrong region
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		try {
+			codec.decode(text.toCharArray(), 3, 35); // wrong region
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		try {
+			codec.decode(text, 5, 36); // out of bounds
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.decode(text, -1, 36); // out of bounds
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.decode((CharSequence) null, 0, 36);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
+
 	@Test
 	public void testEncodeAndDecode() {
 
@@ -226,6 +379,53 @@ public class StringCodecTest {
 		}
 	}
 
+	@Test
+	public void testTryDecode() {
+
+		StandardStringCodec codec = new StandardStringCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			assertEquals(uuid, codec.tryDecode(uuid.toString()));
+			assertEquals(uuid, codec.tryDecode(uuid.toString().toUpperCase()));
+			assertEquals(uuid, codec.tryDecode(uuid.toString().replace("-", "")));
+			assertEquals(uuid, codec.tryDecode(URN_PREFIX + uuid.toString()));
+			assertEquals(uuid, codec.tryDecode("{" + uuid.toString() + "}"));
+			assertEquals(uuid, codec.tryDecode("[" + uuid.toString() + "]", 1, 36));
+			assertEquals(uuid, UuidCreator.tryFromString(uuid.toString()));
+		}
+
+		String string = UUID.randomUUID().toString();
+		assertNull(codec.tryDecode(null));
+		assertNull(codec.tryDecode(""));
+		assertNull(codec.tryDecode("INVALID"));
+		assertNull(codec.tryDecode(string + "x"));
+		assertNull(codec.tryDecode(string.substring(0, 35)));
+		assertNull(codec.tryDecode(string.replace('-', '+')));
+		assertNull(codec.tryDecode("x" + string.substring(1)));
+		assertNull(codec.tryDecode('\u0100' + string.substring(1)));
+		assertNull(codec.tryDecode((CharSequence) null, 0, 36));
+		assertNull(UuidCreator.tryFromString("INVALID"));
+
+		try {
+			codec.tryDecode(string, 1, 36);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testStacklessException() {
+
+		InvalidUuidException stackless = new InvalidUuidException("Invalid UUID", null, false);
+		assertEquals("Invalid UUID", stackless.getMessage());
+		assertEquals(0, stackless.getStackTrace().length);
+
+		InvalidUuidException exception = new InvalidUuidException("Invalid UUID", null, true);
+		assertTrue(exception.getStackTrace().length > 0);
+	}
+
 	@Test
 	public void testModifyString() {
 
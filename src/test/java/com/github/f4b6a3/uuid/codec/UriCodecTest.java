@@ -83,6 +83,23 @@ public class UriCodecTest {
 		}
 	}
 
+	@Test
+	public void testTryDecode() {
+
+		UriCodec codec = new UriCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			assertEquals(uuid, codec.tryDecode(URI.create(URN_PREFIX + uuid)));
+		}
+
+		assertNull(codec.tryDecode(null));
+		assertNull(codec.tryDecode(URI.create("")));
+		assertNull(codec.tryDecode(URI.create(URN_PREFIX)));
+		assertNull(codec.tryDecode(URI.create("urn:isbn:" + UUID.randomUUID())));
+		assertNull(codec.tryDecode(URI.create("http://example.com/" + UUID.randomUUID())));
+	}
+
 	@Test
 	public void testEncodeInvalidUuidException() {
 
@@ -3,6 +3,8 @@ package com.github.f4b6a3.uuid.codec;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
@@ -37,6 +39,68 @@ public class UrnCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeInto() throws IOException {
+		UrnCodec codec = new UrnCodec();
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String expected = "<" + URN_PREFIX + uuid.toString() + ">";
+			char[] chars = new char[47];
+			chars[0] = '<';
+			chars[46] = '>';
+			assertEquals(46, codec.encode(uuid, chars, 1));
+			assertEquals(expected, new String(chars));
+			assertEquals(expected, codec.encode(uuid, new StringBuilder("<")).append('>').toString());
+			assertEquals(expected, codec.encode(uuid, new StringWriter().append('<')).append('>').toString());
+		}
+	}
+
+	@Test
+	public void testDecodeRegion() {
+
+		UrnCodec codec = new UrnCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String text = "<" + URN_PREFIX + uuid.toString() + ">";
+			assertEquals(uuid, codec.decode(text, 1, 45));
+			assertEquals(uuid, codec.decode(text.toCharArray(), 1, 45));
+		}
+
+		String[] invalid = { "<" + UUID.randomUUID().toString() + "123456789>", // no prefix
+				"<URN:UUID:" + UUID.randomUUID().toString() + ">", // upper case prefix
+				"<" + URN_PREFIX + UUID.randomUUID().toString().replace('-', '+') + ">" }; // no hyphens
+
+		for (String text : invalid) {
+			try {
+				codec.decode(text, 1, 45);
+				fail("Should throw exception");
+			} catch (InvalidUuidException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testTryDecode() {
+
+		UrnCodec codec = new UrnCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			assertEquals(uuid, codec.tryDecode(URN_PREFIX + uuid));
+			assertEquals(uuid, codec.tryDecode("<" + URN_PREFIX + uuid + ">", 1, 45));
+		}
+
+		String string = URN_PREFIX + UUID.randomUUID();
+		assertNull(codec.tryDecode(null));
+		assertNull(codec.tryDecode(""));
+		assertNull(codec.tryDecode(string.substring(URN_PREFIX.length())));
+		assertNull(codec.tryDecode(string.replace("urn:", "uri:")));
+		assertNull(codec.tryDecode(string.substring(0, 44) + "x"));
+		assertNull(codec.tryDecode(string + "0"));
+	}
+
 	@Test
 	public void testEncodeAndDecode() {
 		UrnCodec codec = new UrnCodec();
@@ -82,6 +146,21 @@ public class UrnCodecTest {
 		}
 	}
 
+	@Test
+	public void testIsUuidUrnCharSequence() {
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			String string = URN_PREFIX + UUID.randomUUID().toString();
+			assertTrue(UrnCodec.isUuidUrn(new StringBuilder(string)));
+			assertFalse(UrnCodec.isUuidUrn(new StringBuilder(string.replace("urn:", "uri:"))));
+			assertFalse(UrnCodec.isUuidUrn(new StringBuilder(string.replace("-", "+"))));
+		}
+
+		CharSequence string = null;
+		assertFalse(UrnCodec.isUuidUrn(string));
+		assertFalse(UrnCodec.isUuidUrn(new StringBuilder(URN_PREFIX)));
+	}
+
 	@Test
 	public void testEncodeInvalidUuidException() {
 
@@ -7,7 +7,11 @@ import com.github.f4b6a3.uuid.codec.StandardBinaryCodec;
 import com.github.f4b6a3.uuid.codec.UuidCodec;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Base64.Encoder;
 import java.util.UUID;
@@ -85,6 +89,56 @@ public class BaseNCodec1Test {
 		}
 	}
 
+	@Test
+	public void testEncodeBase32Crockford() {
+
+		final BaseNCodec codec = new Base32CrockfordCodec();
+		char[] alphabet = codec.getBase().getAlphabet().array();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			byte[] bytes = CODEC_BYTES.encode(uuid);
+			BigInteger n = new BigInteger(1, bytes);
+			String string = replace(zerofill(n.toString(32), 26), ALPHABET_JAVA, alphabet);
+			String actual = codec.encode(uuid);
+			assertEquals(string, actual);
+		}
+
+		// ULID spec examples
+		assertEquals("00000000000000000000000000", codec.encode(new UUID(0L, 0L)));
+		assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", codec.encode(new UUID(-1L, -1L)));
+	}
+
+	@Test
+	public void testDecodeBase32Crockford() {
+
+		final BaseNCodec codec = new Base32CrockfordCodec();
+		char[] alphabet = codec.getBase().getAlphabet().array();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			byte[] bytes = CODEC_BYTES.encode(uuid);
+			BigInteger n = new BigInteger(1, bytes);
+			String string = replace(zerofill(n.toString(32), 26), ALPHABET_JAVA, alphabet);
+			assertEquals(uuid, codec.decode(string));
+			assertEquals(uuid, codec.decode(string.toLowerCase()));
+		}
+
+		// aliases of '0' and '1'
+		assertEquals(codec.decode("01AN4Z07BY79KA1307SR9X4MV3"), codec.decode("oLaN4Z07BY79KAi307SR9X4MV3"));
+
+		// invalid chars and overflow
+		assertNull(codec.tryDecode("01AN4Z07BY79KA1307SR9X4MVU"));
+		assertNull(codec.tryDecode("01AN4Z07BY79KA1307SR9X4MV-"));
+		assertNull(codec.tryDecode("81AN4Z07BY79KA1307SR9X4MV3"));
+		try {
+			codec.decode("81AN4Z07BY79KA1307SR9X4MV3");
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
+
 	@Test
 	public void testEncodeBase64() {
 
@@ -153,6 +207,151 @@ public class BaseNCodec1Test {
 		testEncodeAndDecode(new Base64UrlCodec());
 	}
 
+	@Test
+	public void testEncodeInto() throws IOException {
+
+		BaseNCodec[] codecs = { Base16Codec.INSTANCE, Base32Codec.INSTANCE, Base58BtcCodec.INSTANCE,
+				Base62Codec.INSTANCE, Base64Codec.INSTANCE, Base64UrlCodec.INSTANCE, BaseNCodec.newInstance(36) };
+
+		for (BaseNCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+				UUID uuid = UUID.randomUUID();
+				String string = codec.encode(uuid);
+				String expected = "id=" + string + ";";
+
+				char[] chars = new char[string.length() + 4];
+				"id=".getChars(0, 3, chars, 0);
+				chars[chars.length - 1] = ';';
+				assertEquals(3 + string.length(), codec.encode(uuid, chars, 3));
+				assertEquals(expected, new String(chars));
+
+				assertEquals(expected, codec.encode(uuid, new StringBuilder("id=")).append(';').toString());
+				assertEquals(expected, codec.encode(uuid, new StringWriter().append("id=")).append(';').toString());
+			}
+
+			try {
+				codec.encode(UUID.randomUUID(), new char[codec.getBase().getLength()], 1);
+				fail("Should throw exception");
+			} catch (IndexOutOfBoundsException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeLatin1() {
+
+		BaseNCodec[] codecs = { Base16Codec.INSTANCE, Base32Codec.INSTANCE, Base58BtcCodec.INSTANCE,
+				Base62Codec.INSTANCE, Base64Codec.INSTANCE, Base64UrlCodec.INSTANCE, BaseNCodec.newInstance(36),
+				BaseNCodec.newInstance("ABCDEFGHIJKLMNOP"), BaseNCodec.newInstance("0123456789àéîõü"),
+				BaseNCodec.newInstance(36, x -> new long[] { x / 36, x % 36 }) };
+
+		for (BaseNCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+				UUID uuid = UUID.randomUUID();
+				int length = codec.getBase().getLength();
+
+				char[] chars = new char[length];
+				codec.encode(uuid, chars, 0);
+				String expected = new String(chars);
+				assertEquals(expected, codec.encode(uuid));
+
+				byte[] bytes = new byte[length + 2];
+				assertEquals(length + 1, codec.encode(uuid, bytes, 1));
+				assertEquals(expected, new String(bytes, 1, length, StandardCharsets.ISO_8859_1));
+			}
+		}
+
+		try {
+			Base62Codec.INSTANCE.encode(UUID.randomUUID(), new byte[22], 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testDecodeRegion() {
+
+		BaseNCodec[] codecs = { Base16Codec.INSTANCE, Base32Codec.INSTANCE, Base58BtcCodec.INSTANCE,
+				Base62Codec.INSTANCE, Base64Codec.INSTANCE, Base64UrlCodec.INSTANCE, BaseNCodec.newInstance(36) };
+
+		for (BaseNCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String string = codec.encode(uuid);
+				String text = "id=" + string + ";";
+				assertEquals(uuid, codec.decode(text, 3, string.length()));
+				assertEquals(uuid, codec.decode(new StringBuilder(text), 3, string.length()));
+				assertEquals(uuid, codec.decode(text.toCharArray(), 3, string.length()));
+			}
+
+			String text = "id=" + codec.encode(UUID.randomUUID()) + ";";
+			int length = codec.getBase().getLength();
+
+			try {
+				codec.decode(text, 2, length); // invalid char
+				fail("Should throw exception");
+			} catch (InvalidUuidException e) {
+				assertNull(e.getCause()); // thrown once, not wrapped
+			}
+
+			try {
+				codec.decode(text, 3, length - 1); // wrong length
+				fail("Should throw exception");
+			} catch (InvalidUuidException e) {
+				assertNull(e.getCause()); // thrown once, not wrapped
+			}
+
+			try {
+				codec.decode(text, 4, length + 1); // out of bounds
+				fail("Should throw exception");
+			} catch (IndexOutOfBoundsException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testTryDecode() {
+
+		BaseNCodec[] codecs = { Base16Codec.INSTANCE, Base32Codec.INSTANCE, BaseNCodec.newInstance(36),
+				Base58BtcCodec.INSTANCE, Base62Codec.INSTANCE, Base64Codec.INSTANCE, Base64UrlCodec.INSTANCE };
+
+		for (BaseNCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String string = codec.encode(uuid);
+				assertEquals(uuid, codec.tryDecode(string));
+				assertEquals(uuid, codec.tryDecode("." + string + ".", 1, string.length()));
+			}
+
+			String string = codec.encode(UUID.randomUUID());
+			assertNull(codec.tryDecode(null));
+			assertNull(codec.tryDecode(""));
+			assertNull(codec.tryDecode(string.substring(1)));
+			assertNull(codec.tryDecode(string + string.charAt(0)));
+			assertNull(codec.tryDecode("." + string.substring(1)));
+			assertNull(codec.tryDecode(string.substring(1) + "."));
+			assertNull(codec.tryDecode('\u0100' + string.substring(1)));
+		}
+
+		// overflow
+		char[] chars = new char[Base62Codec.INSTANCE.getBase().getLength()];
+		Arrays.fill(chars, 'z');
+		assertNull(Base62Codec.INSTANCE.tryDecode(new String(chars)));
+		try {
+			Base62Codec.INSTANCE.decode(new String(chars));
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// a single exception, not one wrapping another
+			assertEquals("Invalid UUID: \"" + new String(chars) + "\"", e.getMessage());
+			assertNull(e.getCause());
+		}
+	}
+
 	@Test
 	public void testInvalidUuidExceptionException() {
 
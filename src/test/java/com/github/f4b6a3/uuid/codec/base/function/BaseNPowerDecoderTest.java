@@ -0,0 +1,93 @@
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class BaseNPowerDecoderTest {
+
+	private static final int DEFAULT_LOOP_MAX = 100;
+
+	@Test
+	public void testDecode() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int radix = 2; radix <= 64; radix++) {
+
+			BaseN base = new BaseN(radix);
+			BaseNPowerEncoder encoder = new BaseNPowerEncoder(base);
+			BaseNPowerDecoder decoder = new BaseNPowerDecoder(base);
+			BaseNRemainderDecoder expected = new BaseNRemainderDecoder(base);
+
+			UUID[] extremes = { new UUID(0L, 0L), new UUID(0L, 1L), new UUID(-1L, -1L), new UUID(1L, 0L),
+					new UUID(0L, -1L), new UUID(Long.MIN_VALUE, 0L) };
+			for (UUID uuid : extremes) {
+				assertEquals(uuid, decoder.apply(encoder.apply(uuid)));
+			}
+
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				UUID uuid = new UUID(random.nextLong(), random.nextLong());
+				String string = encoder.apply(uuid);
+				assertEquals(uuid, decoder.apply(string));
+				assertEquals(uuid, decoder.apply("--" + string + "--", 2));
+				assertEquals(expected.apply(string), decoder.apply(string));
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeOverflow() {
+		for (int radix = 2; radix <= 64; radix++) {
+
+			BaseN base = new BaseN(radix);
+			BaseNPowerDecoder decoder = new BaseNPowerDecoder(base);
+
+			char[] chars = new char[base.getLength()];
+			Arrays.fill(chars, base.getAlphabet().get(radix - 1));
+			String string = new String(chars);
+
+			if (Math.pow(radix, base.getLength()) > Math.pow(2, 128)) {
+				try {
+					decoder.apply(string);
+					fail("Should throw an exception");
+				} catch (InvalidUuidException e) {
+					assertEquals("Invalid encoded string (overflow): \"" + string + "\"", e.getMessage());
+				}
+			} else {
+				// the greatest number is exactly 2^128 - 1
+				assertEquals(new UUID(-1L, -1L), decoder.apply(string));
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeInvalid() {
+		SplittableRandom random = new SplittableRandom(1);
+		char[] invalid = { ' ', '.', '\u00e0', '\u0100', '\u4e00', '\uffff' };
+		for (int radix = 2; radix <= 64; radix++) {
+
+			BaseN base = new BaseN(radix);
+			BaseNPowerEncoder encoder = new BaseNPowerEncoder(base);
+			BaseNPowerDecoder decoder = new BaseNPowerDecoder(base);
+
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				char[] chars = encoder.apply(new UUID(random.nextLong(), random.nextLong())).toCharArray();
+				chars[random.nextInt(chars.length)] = invalid[random.nextInt(invalid.length)];
+				String string = new String(chars);
+				try {
+					decoder.apply(string);
+					fail("Should throw an exception");
+				} catch (InvalidUuidException e) {
+					assertEquals(InvalidUuidException.newInstance(string).getMessage(), e.getMessage());
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+
+public class BaseNPowerEncoderTest {
+
+	private static final int DEFAULT_LOOP_MAX = 100;
+
+	@Test
+	public void testEncode() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int radix = 2; radix <= 64; radix++) {
+
+			BaseN base = new BaseN(radix);
+			BaseNPowerEncoder encoder = new BaseNPowerEncoder(base);
+			BaseNRemainderEncoder expected = new BaseNRemainderEncoder(base);
+
+			UUID[] extremes = { new UUID(0L, 0L), new UUID(0L, 1L), new UUID(-1L, -1L), new UUID(1L, 0L),
+					new UUID(0L, -1L), new UUID(Long.MIN_VALUE, 0L) };
+			for (UUID uuid : extremes) {
+				assertEquals(expected.apply(uuid), encoder.apply(uuid));
+			}
+
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				UUID uuid = new UUID(random.nextLong(), random.nextLong());
+				String string = encoder.apply(uuid);
+				assertEquals(expected.apply(uuid), string);
+				assertEquals(encode(base, uuid), string);
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeInto() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int radix = 2; radix <= 64; radix++) {
+
+			BaseN base = new BaseN(radix);
+			BaseNPowerEncoder encoder = new BaseNPowerEncoder(base);
+
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				UUID uuid = new UUID(random.nextLong(), random.nextLong());
+				char[] chars = new char[base.getLength() + 2];
+				assertEquals(base.getLength() + 1, encoder.apply(uuid, chars, 1));
+				assertEquals(encoder.apply(uuid), new String(chars, 1, base.getLength()));
+				assertEquals(0, chars[0]);
+				assertEquals(0, chars[chars.length - 1]);
+			}
+		}
+	}
+
+	private String encode(BaseN base, UUID uuid) {
+
+		BigInteger number = new BigInteger(1, toBytes(uuid));
+		BigInteger n = BigInteger.valueOf(base.getRadix());
+
+		char[] buffer = new char[base.getLength()];
+		for (int b = buffer.length - 1; b >= 0; b--) {
+			buffer[b] = base.getAlphabet().get(number.remainder(n).intValue());
+			number = number.divide(n);
+		}
+
+		return new String(buffer);
+	}
+
+	private byte[] toBytes(UUID uuid) {
+		byte[] bytes = new byte[16];
+		for (int i = 0; i < 8; i++) {
+			bytes[i] = (byte) (uuid.getMostSignificantBits() >>> (56 - (i * 8)));
+			bytes[i + 8] = (byte) (uuid.getLeastSignificantBits() >>> (56 - (i * 8)));
+		}
+		return bytes;
+	}
+}
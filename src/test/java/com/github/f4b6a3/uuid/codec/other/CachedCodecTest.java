@@ -0,0 +1,156 @@
+package com.github.f4b6a3.uuid.codec.other;
+
+import static org.junit.Assert.*;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.StandardStringCodec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class CachedCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	@Test
+	public void testEncodeAndDecode() {
+
+		CachedCodec codec = new CachedCodec(Base62Codec.INSTANCE);
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String string = Base62Codec.INSTANCE.encode(uuid);
+			assertEquals(string, codec.encode(uuid));
+			assertEquals(string, codec.encode(uuid));
+			assertEquals(uuid, codec.decode(string));
+			assertEquals(uuid, codec.decode(new String(string.toCharArray())));
+		}
+	}
+
+	@Test
+	public void testHitsAndMisses() {
+
+		CachedCodec codec = new CachedCodec(StandardStringCodec.INSTANCE, 1024);
+
+		UUID uuid = UUID.randomUUID();
+		String string = uuid.toString();
+
+		assertEquals(0.0, codec.getEncodeHitRate(), 0.0);
+		assertEquals(0.0, codec.getDecodeHitRate(), 0.0);
+
+		assertEquals(string, codec.encode(uuid));
+		assertEquals(0, codec.getEncodeHits());
+		assertEquals(1, codec.getEncodeMisses());
+
+		assertEquals(string, codec.encode(uuid));
+		assertEquals(1, codec.getEncodeHits());
+		assertEquals(0.5, codec.getEncodeHitRate(), 0.0);
+
+		// the encoded string is cached for decoding too
+		assertEquals(uuid, codec.decode(string));
+		assertEquals(1, codec.getDecodeHits());
+		assertEquals(0, codec.getDecodeMisses());
+
+		// strings that differ in case are different entries
+		String upper = string.toUpperCase();
+		assertEquals(uuid, codec.decode(upper));
+		assertEquals(1, codec.getDecodeMisses());
+		assertEquals(uuid, codec.decode(upper));
+		assertEquals(2, codec.getDecodeHits());
+
+		codec.clear();
+		assertEquals(0, codec.getEncodeHits());
+		assertEquals(0, codec.getDecodeHits());
+		assertEquals(uuid, codec.decode(upper));
+		assertEquals(1, codec.getDecodeMisses());
+	}
+
+	@Test
+	public void testBounded() {
+
+		CachedCodec codec = new CachedCodec(StandardStringCodec.INSTANCE, 100);
+		assertEquals(128, codec.getSize());
+		assertEquals(1, new CachedCodec(StandardStringCodec.INSTANCE, 1).getSize());
+
+		// many more UUIDs than slots; all results are still correct
+		UUID[] uuids = new UUID[DEFAULT_LOOP_LIMIT * 10];
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+		}
+		for (int j = 0; j < 2; j++) {
+			for (UUID uuid : uuids) {
+				assertEquals(uuid.toString(), codec.encode(uuid));
+				assertEquals(uuid, codec.decode(uuid.toString()));
+			}
+		}
+		assertTrue(codec.getEncodeMisses() > codec.getSize());
+
+		try {
+			new CachedCodec(StandardStringCodec.INSTANCE, 0);
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testInvalid() {
+
+		CachedCodec codec = new CachedCodec(StandardStringCodec.INSTANCE);
+
+		String[] strings = { null, "", "invalid", "01234567-89ab-cdef-0123-456789abcdeZ" };
+		for (String string : strings) {
+			for (int i = 0; i < 2; i++) {
+				try {
+					codec.decode(string);
+					fail("Should throw exception");
+				} catch (InvalidUuidException e) {
+					// success
+				}
+				assertNull(codec.tryDecode(string));
+			}
+		}
+
+		try {
+			codec.encode(null);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		UUID uuid = UUID.randomUUID();
+		assertEquals(uuid, codec.tryDecode(uuid.toString()));
+		assertEquals(uuid, codec.tryDecode(uuid.toString()));
+		assertEquals(1, codec.getDecodeHits());
+	}
+
+	@Test
+	public void testConcurrency() throws InterruptedException {
+
+		final CachedCodec codec = new CachedCodec(StandardStringCodec.INSTANCE, 16);
+		final UUID[] uuids = new UUID[64];
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+		}
+
+		final boolean[] failed = new boolean[1];
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < DEFAULT_LOOP_LIMIT * 100; i++) {
+					UUID uuid = uuids[i % uuids.length];
+					if (!uuid.toString().equals(codec.encode(uuid)) || !uuid.equals(codec.decode(uuid.toString()))) {
+						failed[0] = true;
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertFalse(failed[0]);
+	}
+}
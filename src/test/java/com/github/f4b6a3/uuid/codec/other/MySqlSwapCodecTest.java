@@ -0,0 +1,111 @@
+package com.github.f4b6a3.uuid.codec.other;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class MySqlSwapCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	private static final MySqlSwapCodec CODEC = MySqlSwapCodec.INSTANCE;
+
+	@Test
+	public void testEncode() {
+		// example of the MySQL reference manual
+		UUID uuid = UUID.fromString("6ccd780c-baba-1026-9564-5b8c656024db");
+		byte[] bytes = CODEC.encode(uuid);
+		byte[] expected = UuidCreator.toBytes(Base16Codec.INSTANCE.decode("1026baba6ccd780c95645b8c656024db"));
+		assertArrayEquals(expected, bytes);
+		assertEquals(uuid, CODEC.decode(expected));
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			uuid = UUID.randomUUID();
+			expected = UuidCreator.toBytes(uuid);
+			bytes = CODEC.encode(uuid);
+			// time-high
+			assertArrayEquals(Arrays.copyOfRange(expected, 6, 8), Arrays.copyOfRange(bytes, 0, 2));
+			// time-mid
+			assertArrayEquals(Arrays.copyOfRange(expected, 4, 6), Arrays.copyOfRange(bytes, 2, 4));
+			// time-low
+			assertArrayEquals(Arrays.copyOfRange(expected, 0, 4), Arrays.copyOfRange(bytes, 4, 8));
+			// the rest
+			assertArrayEquals(Arrays.copyOfRange(expected, 8, 16), Arrays.copyOfRange(bytes, 8, 16));
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecode() {
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			assertEquals(uuid, CODEC.decode(CODEC.encode(uuid)));
+
+			byte[] bytes = new byte[18];
+			assertEquals(17, CODEC.encode(uuid, bytes, 1));
+			assertArrayEquals(CODEC.encode(uuid), Arrays.copyOfRange(bytes, 1, 17));
+			assertEquals(uuid, CODEC.decode(bytes, 1));
+		}
+
+		try {
+			CODEC.encode(UUID.randomUUID(), new byte[16], 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			CODEC.decode(new byte[15]);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testCompare() {
+
+		UUID[] uuids = new UUID[DEFAULT_LOOP_LIMIT];
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+		}
+		uuids[0] = new UUID(0L, 0L);
+		uuids[1] = new UUID(-1L, -1L);
+
+		for (int i = 0; i < uuids.length; i++) {
+			for (int j = 0; j < uuids.length; j++) {
+				int expected = Integer.signum(compareUnsigned(CODEC.encode(uuids[i]), CODEC.encode(uuids[j])));
+				assertEquals(expected, MySqlSwapCodec.compare(uuids[i], uuids[j]));
+			}
+		}
+
+		assertEquals(0, MySqlSwapCodec.compare(null, new UUID(0L, 0L)));
+
+		// time-based UUIDs are sorted in creation order
+		UUID[] sorted = new UUID[DEFAULT_LOOP_LIMIT];
+		for (int i = 0; i < sorted.length; i++) {
+			sorted[i] = UuidCreator.getTimeBased();
+		}
+		UUID[] shuffled = sorted.clone();
+		Collections.shuffle(Arrays.asList(shuffled));
+		Arrays.sort(shuffled, MySqlSwapCodec.getComparator());
+		assertArrayEquals(sorted, shuffled);
+	}
+
+	private static int compareUnsigned(byte[] a, byte[] b) {
+		for (int i = 0; i < a.length; i++) {
+			int c = (a[i] & 0xff) - (b[i] & 0xff);
+			if (c != 0) {
+				return c;
+			}
+		}
+		return 0;
+	}
+}
@@ -1,8 +1,11 @@
 package com.github.f4b6a3.uuid.codec.other;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.UUID;
 
 import org.junit.Test;
@@ -103,6 +106,45 @@ public class NcnameCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeInto() throws IOException {
+		NcnameCodec[] codecs = { new NcnameCodec(), new NcnameCodec(Base32Codec.INSTANCE) };
+		for (NcnameCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String expected = "#" + codec.encode(uuid) + "#";
+				char[] chars = new char[expected.length()];
+				chars[0] = '#';
+				chars[chars.length - 1] = '#';
+				assertEquals(chars.length - 1, codec.encode(uuid, chars, 1));
+				assertEquals(expected, new String(chars));
+				assertEquals(expected, codec.encode(uuid, new StringBuilder("#")).append('#').toString());
+				assertEquals(expected, codec.encode(uuid, new StringWriter().append('#')).append('#').toString());
+			}
+		}
+	}
+
+	@Test
+	public void testTryDecode() {
+
+		NcnameCodec[] codecs = { new NcnameCodec(), new NcnameCodec(Base32Codec.INSTANCE) };
+
+		for (NcnameCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				assertEquals(uuid, codec.tryDecode(codec.encode(uuid)));
+			}
+
+			String string = codec.encode(UUID.randomUUID());
+			assertNull(codec.tryDecode(null));
+			assertNull(codec.tryDecode(""));
+			assertNull(codec.tryDecode(string.substring(1)));
+			assertNull(codec.tryDecode("z" + string.substring(1)));
+			assertNull(codec.tryDecode('\u0100' + string.substring(1)));
+			assertNull(codec.tryDecode(string.substring(0, 2) + "." + string.substring(3)));
+		}
+	}
+
 	@Test
 	public void testEncodeAndDecode() {
 		NcnameCodec codec = new NcnameCodec();
@@ -6,8 +6,11 @@ import org.junit.Test;
 
 import com.github.f4b6a3.uuid.codec.StandardBinaryCodec;
 import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.codec.base.Base32Codec;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Base64;
 import java.util.UUID;
 import java.util.Base64.Encoder;
@@ -56,6 +59,42 @@ public class SlugCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeInto() throws IOException {
+		SlugCodec[] codecs = { new SlugCodec(), new SlugCodec(Base32Codec.INSTANCE) };
+		for (SlugCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String expected = "/" + codec.encode(uuid);
+				char[] chars = new char[expected.length()];
+				chars[0] = '/';
+				assertEquals(chars.length, codec.encode(uuid, chars, 1));
+				assertEquals(expected, new String(chars));
+				assertEquals(expected, codec.encode(uuid, new StringBuilder("/")).toString());
+				assertEquals(expected, codec.encode(uuid, new StringWriter().append('/')).toString());
+			}
+		}
+	}
+
+	@Test
+	public void testTryDecode() {
+
+		SlugCodec[] codecs = { new SlugCodec(), new SlugCodec(Base32Codec.INSTANCE) };
+
+		for (SlugCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				assertEquals(uuid, codec.tryDecode(codec.encode(uuid)));
+			}
+
+			String string = codec.encode(UUID.randomUUID());
+			assertNull(codec.tryDecode(null));
+			assertNull(codec.tryDecode(""));
+			assertNull(codec.tryDecode(string.substring(1)));
+			assertNull(codec.tryDecode("." + string.substring(1)));
+		}
+	}
+
 	@Test
 	public void testEncodeAndDecode() {
 		SlugCodec codec = new SlugCodec();
@@ -0,0 +1,125 @@
+package com.github.f4b6a3.uuid.codec.other;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class SqlServerGuidCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	private static final SqlServerGuidCodec CODEC = SqlServerGuidCodec.INSTANCE;
+
+	@Test
+	public void testEncode() {
+		// the result of CAST(CAST('6ccd780c-baba-1026-9564-5b8c656024db' AS uniqueidentifier) AS BINARY(16))
+		UUID uuid = UUID.fromString("6ccd780c-baba-1026-9564-5b8c656024db");
+		byte[] bytes = CODEC.encode(uuid);
+		byte[] expected = UuidCreator.toBytes(Base16Codec.INSTANCE.decode("0c78cd6cbaba261095645b8c656024db"));
+		assertArrayEquals(expected, bytes);
+		assertEquals(uuid, CODEC.decode(expected));
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			uuid = UUID.randomUUID();
+			expected = UuidCreator.toBytes(new DotNetGuid4Codec().encode(uuid));
+			bytes = CODEC.encode(uuid);
+			// the same layout as the .Net Guid
+			assertArrayEquals(expected, bytes);
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecode() {
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			assertEquals(uuid, CODEC.decode(CODEC.encode(uuid)));
+
+			byte[] bytes = new byte[18];
+			assertEquals(17, CODEC.encode(uuid, bytes, 1));
+			assertArrayEquals(CODEC.encode(uuid), Arrays.copyOfRange(bytes, 1, 17));
+			assertEquals(uuid, CODEC.decode(bytes, 1));
+		}
+
+		try {
+			CODEC.encode(UUID.randomUUID(), new byte[16], 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			CODEC.decode(new byte[15]);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testCompare() {
+
+		UUID[] uuids = new UUID[DEFAULT_LOOP_LIMIT];
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+		}
+		uuids[0] = new UUID(0L, 0L);
+		uuids[1] = new UUID(-1L, -1L);
+
+		for (int i = 0; i < uuids.length; i++) {
+			for (int j = 0; j < uuids.length; j++) {
+				int expected = Integer.signum(compareUnsigned(CODEC.encode(uuids[i]), CODEC.encode(uuids[j])));
+				assertEquals(expected, SqlServerGuidCodec.compare(uuids[i], uuids[j]));
+			}
+		}
+
+		assertEquals(0, SqlServerGuidCodec.compare(null, new UUID(0L, 0L)));
+
+		// known orders of SQL Server, the smaller first
+		String[][] orders = { //
+				{ "01000000-0000-0000-0000-000000000000", "00000001-0000-0000-0000-000000000000" }, // byte 0 vs 3
+				{ "00000000-0100-0000-0000-000000000000", "00000000-0001-0000-0000-000000000000" }, // byte 4 vs 5
+				{ "00000000-0000-0100-0000-000000000000", "00000000-0000-0001-0000-000000000000" }, // byte 6 vs 7
+				{ "00000000-0001-0000-0000-000000000000", "00000000-0000-0001-0000-000000000000" }, // byte 5 vs 7
+				{ "00000001-0000-0000-0000-000000000000", "00000000-0001-0000-0000-000000000000" }, // byte 3 vs 5
+				{ "ffffffff-ffff-ffff-0001-000000000000", "00000000-0000-0000-0100-000000000000" }, // byte 9 vs 8
+				{ "ffffffff-ffff-ffff-ffff-000000000000", "00000000-0000-0000-0000-000000000001" }, // byte 8 vs 15
+				{ "00000000-0000-0000-0000-000000000001", "00000000-0000-0000-0000-010000000000" } }; // byte 15 vs 10
+		for (String[] order : orders) {
+			UUID smaller = UUID.fromString(order[0]);
+			UUID greater = UUID.fromString(order[1]);
+			assertEquals(-1, SqlServerGuidCodec.compare(smaller, greater));
+			assertEquals(1, SqlServerGuidCodec.compare(greater, smaller));
+		}
+
+		// UUIDs that differ only in the last 6 bytes are sorted by those bytes first
+		UUID[] sorted = new UUID[DEFAULT_LOOP_LIMIT];
+		for (int i = 0; i < sorted.length; i++) {
+			sorted[i] = new UUID(sorted.length - i, i);
+		}
+		UUID[] shuffled = sorted.clone();
+		Collections.shuffle(Arrays.asList(shuffled));
+		Arrays.sort(shuffled, SqlServerGuidCodec.getComparator());
+		assertArrayEquals(sorted, shuffled);
+	}
+
+	// the order in which SQL Server compares the stored bytes of a UUID
+	private static final int[] ORDER = { 10, 11, 12, 13, 14, 15, 8, 9, 6, 7, 4, 5, 0, 1, 2, 3 };
+
+	private static int compareUnsigned(byte[] a, byte[] b) {
+		for (int i : ORDER) {
+			int c = (a[i] & 0xff) - (b[i] & 0xff);
+			if (c != 0) {
+				return c;
+			}
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,176 @@
+package com.github.f4b6a3.uuid.codec.other;
+
+import static org.junit.Assert.*;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.UrnCodec;
+import com.github.f4b6a3.uuid.codec.base.Base32Codec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
+import com.github.f4b6a3.uuid.codec.other.UniversalCodec.Format;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class UniversalCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	@Test
+	public void testDecode() {
+
+		UniversalCodec codec = UniversalCodec.INSTANCE;
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String string = uuid.toString();
+			assertEquals(uuid, codec.decode(string));
+			assertEquals(uuid, codec.decode(string.toUpperCase()));
+			assertEquals(uuid, codec.decode(string.replace("-", "")));
+			assertEquals(uuid, codec.decode("{" + string + "}"));
+			assertEquals(uuid, codec.decode(UrnCodec.INSTANCE.encode(uuid)));
+			assertEquals(uuid, codec.decode(Base32Codec.INSTANCE.encode(uuid)));
+			assertEquals(Format.CANONICAL, codec.detect(string));
+			assertEquals(Format.URN, codec.detect(UrnCodec.INSTANCE.encode(uuid)));
+			assertEquals(Format.BASE_32, codec.detect(Base32Codec.INSTANCE.encode(uuid)));
+			assertEquals(Format.WITHOUT_HYPHENS, codec.detect(string.replace("-", "")));
+			assertEquals(Format.CURLY_BRACES, codec.detect("{" + string + "}"));
+
+			// the ambiguous 22-char formats are not accepted by default
+			assertNull(codec.tryDecode(Base64UrlCodec.INSTANCE.encode(uuid)));
+			assertNull(codec.tryDecode(Base62Codec.INSTANCE.encode(uuid)));
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecode() {
+		for (Format format : Format.values()) {
+			UniversalCodec codec = new UniversalCodec(format);
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String string = codec.encode(uuid);
+				assertEquals(format.toString(), format.getLength(), string.length());
+				assertEquals(format.toString(), string, format.getCodec().encode(uuid));
+				assertEquals(format.toString(), uuid, codec.decode(string));
+				assertEquals(format.toString(), format, codec.detect(string));
+			}
+		}
+
+		UUID uuid = UUID.fromString("01234567-89ab-cdef-0123-456789abcdef");
+		assertEquals("0123456789abcdef0123456789abcdef", new UniversalCodec(Format.WITHOUT_HYPHENS).encode(uuid));
+		assertEquals("{01234567-89ab-cdef-0123-456789abcdef}", new UniversalCodec(Format.CURLY_BRACES).encode(uuid));
+	}
+
+	@Test
+	public void testAmbiguous() {
+
+		Format[] formats = { Format.BASE_64_URL, Format.BASE_64, Format.BASE_62, Format.BASE_58, Format.SLUG,
+				Format.NCNAME };
+
+		for (Format first : formats) {
+			for (Format second : formats) {
+				if (first != second) {
+					try {
+						new UniversalCodec(Format.CANONICAL, first, second);
+						fail("Should throw exception");
+					} catch (IllegalArgumentException e) {
+						// success
+					}
+				}
+			}
+		}
+
+		// probe chars exclude the formats that can't match
+		UniversalCodec codec = UniversalCodec.withPrecedence(Format.BASE_58, Format.BASE_62, Format.BASE_64);
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String base64 = Base64Codec.INSTANCE.encode(uuid);
+			if (base64.indexOf('+') >= 0 || base64.indexOf('/') >= 0) {
+				assertEquals(uuid, codec.decode(base64));
+				assertEquals(Format.BASE_64, codec.detect(base64));
+			}
+		}
+	}
+
+	@Test
+	public void testPrecedence() {
+
+		UniversalCodec base62First = UniversalCodec.withPrecedence(Format.CANONICAL, Format.BASE_62,
+				Format.BASE_64_URL);
+		UniversalCodec base64First = UniversalCodec.withPrecedence(Format.CANONICAL, Format.BASE_64_URL,
+				Format.BASE_62);
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+
+			String base62 = Base62Codec.INSTANCE.encode(uuid);
+			assertEquals(uuid, base62First.decode(base62));
+			assertEquals(Format.BASE_62, base62First.detect(base62));
+			assertEquals(Format.BASE_64_URL, base64First.detect(base62));
+
+			String base64url = Base64UrlCodec.INSTANCE.encode(uuid);
+			assertEquals(uuid, base64First.decode(base64url));
+			if (base64url.indexOf('-') >= 0 || base64url.indexOf('_') >= 0) {
+				// not a base-62 string: falls back to base-64-url
+				assertEquals(uuid, base62First.decode(base64url));
+				assertEquals(Format.BASE_64_URL, base62First.detect(base64url));
+			}
+
+			String slug = SlugCodec.INSTANCE.encode(uuid);
+			assertEquals(uuid, UniversalCodec.withPrecedence(Format.SLUG, Format.BASE_64_URL).decode(slug));
+			String ncname = NcnameCodec.INSTANCE.encode(uuid);
+			assertEquals(uuid, UniversalCodec.withPrecedence(Format.NCNAME, Format.SLUG).decode(ncname));
+		}
+	}
+
+	@Test
+	public void testAllowList() {
+
+		UniversalCodec codec = new UniversalCodec(Format.BASE_62, Format.CANONICAL);
+
+		UUID uuid = UUID.randomUUID();
+		assertEquals(Base62Codec.INSTANCE.encode(uuid), codec.encode(uuid));
+		assertEquals(uuid, codec.decode(uuid.toString()));
+		assertNull(codec.tryDecode(uuid.toString().replace("-", "")));
+		assertNull(codec.tryDecode("{" + uuid + "}"));
+		assertNull(codec.tryDecode(UrnCodec.INSTANCE.encode(uuid)));
+		assertNull(codec.tryDecode(Base32Codec.INSTANCE.encode(uuid)));
+		assertNull(codec.tryDecode("-_-_-_-_-_-_-_-_-_-_-_"));
+		assertNull(codec.detect("-_-_-_-_-_-_-_-_-_-_-_"));
+	}
+
+	@Test
+	public void testInvalid() {
+
+		UniversalCodec codec = UniversalCodec.INSTANCE;
+
+		String[] strings = { null, "", "INVALID", "01234567-89ab-cdef-0123-456789abcdeg", "{01234567-89ab}",
+				"..........................", "........................................................." };
+
+		for (String string : strings) {
+			assertNull(codec.tryDecode(string));
+			try {
+				codec.decode(string);
+				fail("Should throw exception");
+			} catch (InvalidUuidException e) {
+				assertNull(e.getCause());
+			}
+		}
+
+		try {
+			new UniversalCodec();
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			new UniversalCodec(Format.CANONICAL, null);
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+}
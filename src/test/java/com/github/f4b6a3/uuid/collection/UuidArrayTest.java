@@ -0,0 +1,117 @@
+package com.github.f4b6a3.uuid.collection;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.StandardBinaryCodec;
+import com.github.f4b6a3.uuid.util.UuidSorter;
+
+public class UuidArrayTest {
+
+	private static final int DEFAULT_LOOP_MAX = 1000;
+
+	@Test
+	public void testAppendAndGet() {
+
+		UuidArray array = new UuidArray(0);
+		UUID[] uuids = new UUID[DEFAULT_LOOP_MAX];
+
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+			assertEquals(i, array.append(uuids[i]));
+		}
+		assertEquals(uuids.length, array.size());
+
+		long[] holder = new long[3];
+		for (int i = 0; i < uuids.length; i++) {
+			assertEquals(uuids[i], array.get(i));
+			array.get(i, holder, 1);
+			assertEquals(uuids[i].getMostSignificantBits(), holder[1]);
+			assertEquals(uuids[i].getLeastSignificantBits(), holder[2]);
+			assertEquals(uuids[i].getMostSignificantBits(), array.getMostSignificantBits(i));
+			assertEquals(uuids[i].getLeastSignificantBits(), array.getLeastSignificantBits(i));
+		}
+
+		array.set(0, 1L, 2L);
+		assertEquals(new UUID(1L, 2L), array.get(0));
+
+		try {
+			array.get(uuids.length);
+			fail("Should throw an exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			array.get(0, holder, 2);
+			fail("Should throw an exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		array.clear();
+		assertTrue(array.isEmpty());
+	}
+
+	@Test
+	public void testLoadStoreAndSearch() {
+
+		// more UUIDs than a chunk holds
+		int size = DirectStorage.CHUNK_SLOTS + DEFAULT_LOOP_MAX;
+		long[] msbs = new long[size];
+		long[] lsbs = new long[size];
+		SplittableRandom random = new SplittableRandom(1);
+		for (int i = 0; i < size; i++) {
+			msbs[i] = random.nextLong();
+			lsbs[i] = random.nextLong();
+		}
+		UuidSorter.sortOpaque(msbs, lsbs);
+
+		long[] pairs = new long[size * 2];
+		for (int i = 0; i < size; i++) {
+			pairs[i * 2] = msbs[i];
+			pairs[i * 2 + 1] = lsbs[i];
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(size * 16);
+		StandardBinaryCodec.INSTANCE.encodeAll(pairs, buffer).flip();
+
+		UuidArray array = new UuidArray();
+		array.append(0L, 0L); // loaded after an existing UUID
+		assertEquals(size, array.load(buffer));
+		assertFalse(buffer.hasRemaining());
+		assertEquals(size + 1, array.size());
+
+		for (int i = 0; i < size; i += 997) {
+			assertEquals(new UUID(msbs[i], lsbs[i]), array.get(i + 1));
+			assertEquals(i + 1, array.binarySearch(msbs[i], lsbs[i]));
+		}
+		assertEquals(0, array.binarySearch(new UUID(0L, 0L)));
+		assertEquals(-(size + 1) - 1, array.binarySearch(-1L, -1L));
+
+		ByteBuffer stored = ByteBuffer.allocateDirect(size * 16);
+		array.store(1, size, stored);
+		assertFalse(stored.hasRemaining());
+		stored.flip();
+		buffer.flip();
+		assertEquals(buffer, stored);
+
+		try {
+			array.store(2, size, ByteBuffer.allocate(size * 16));
+			fail("Should throw an exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			array.load(ByteBuffer.allocate(17));
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.github.f4b6a3.uuid.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+public class UuidDirectSetTest {
+
+	private static final int DEFAULT_LOOP_MAX = 10_000;
+
+	@Test
+	public void testAddAndContains() {
+
+		UuidDirectSet set = new UuidDirectSet(0);
+		Set<UUID> expected = new HashSet<>();
+		SplittableRandom random = new SplittableRandom(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			UUID uuid = i % 2 == 0 ? UuidCreator.getTimeOrderedEpoch() : new UUID(random.nextInt(100), random.nextInt(100));
+			assertEquals(expected.add(uuid), set.add(uuid));
+			assertEquals(expected.size(), set.size());
+		}
+
+		for (UUID uuid : expected) {
+			assertTrue(set.contains(uuid));
+		}
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			assertFalse(set.contains(UUID.randomUUID()));
+		}
+
+		UuidArray array = new UuidArray();
+		set.copyTo(array);
+		assertEquals(expected.size(), array.size());
+		Set<UUID> actual = new HashSet<>();
+		for (long i = 0; i < array.size(); i++) {
+			actual.add(array.get(i));
+		}
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	public void testLargeSet() {
+
+		// larger than a chunk after growing
+		int size = DirectStorage.CHUNK_SLOTS;
+		UuidDirectSet set = new UuidDirectSet();
+		for (int i = 0; i < size; i++) {
+			assertTrue(set.add(0x017f22e279b07000L, i));
+		}
+		for (int i = 0; i < size; i++) {
+			assertTrue(set.contains(0x017f22e279b07000L, i));
+		}
+		assertFalse(set.contains(0x017f22e279b07000L, size));
+		assertEquals(size, set.size());
+	}
+
+	@Test
+	public void testNil() {
+		UuidDirectSet set = new UuidDirectSet();
+		assertFalse(set.contains(0L, 0L));
+		assertTrue(set.add(new UUID(0L, 0L)));
+		assertFalse(set.add(0L, 0L));
+		assertTrue(set.contains(0L, 0L));
+		assertEquals(1, set.size());
+	}
+}
@@ -0,0 +1,55 @@
+package com.github.f4b6a3.uuid.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class UuidLongMapTest {
+
+	private static final int DEFAULT_LOOP_MAX = 10_000;
+
+	@Test
+	public void testPutGetRemove() {
+
+		UuidLongMap map = new UuidLongMap();
+		Map<UUID, Long> expected = new HashMap<>();
+		SplittableRandom random = new SplittableRandom(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			UUID uuid = new UUID(random.nextInt(100), random.nextInt(100));
+			long value = random.nextLong();
+			switch (random.nextInt(3)) {
+			case 0:
+				assertEquals(expected.remove(uuid) != null, map.remove(uuid));
+				break;
+			case 1:
+				assertEquals(expected.put(uuid, value) == null, map.put(uuid, value));
+				break;
+			default:
+				assertEquals(expected.merge(uuid, value, Long::sum).longValue(), map.addTo(uuid, value));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+
+		for (Map.Entry<UUID, Long> entry : expected.entrySet()) {
+			assertTrue(map.containsKey(entry.getKey()));
+			assertEquals(entry.getValue().longValue(), map.getOrDefault(entry.getKey(), -1));
+		}
+		assertEquals(-1, map.getOrDefault(UUID.randomUUID(), -1));
+
+		Map<UUID, Long> actual = new HashMap<>();
+		map.forEach(actual::put);
+		assertEquals(expected, actual);
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.addTo(new UUID(0L, 0L), 0));
+		assertEquals(2, map.addTo(new UUID(0L, 0L), 2));
+		assertEquals(2, map.getOrDefault(0L, 0L, -1));
+	}
+}
@@ -0,0 +1,55 @@
+package com.github.f4b6a3.uuid.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class UuidObjectMapTest {
+
+	private static final int DEFAULT_LOOP_MAX = 10_000;
+
+	@Test
+	public void testPutGetRemove() {
+
+		UuidObjectMap<String> map = new UuidObjectMap<>();
+		Map<UUID, String> expected = new HashMap<>();
+		SplittableRandom random = new SplittableRandom(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			UUID uuid = new UUID(random.nextInt(100), random.nextInt(100));
+			String value = Integer.toString(i);
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(uuid), map.remove(uuid));
+			} else {
+				assertEquals(expected.put(uuid, value), map.put(uuid, value));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+
+		for (Map.Entry<UUID, String> entry : expected.entrySet()) {
+			assertTrue(map.containsKey(entry.getKey()));
+			assertEquals(entry.getValue(), map.get(entry.getKey()));
+		}
+		assertNull(map.get(UUID.randomUUID()));
+
+		Map<UUID, String> actual = new HashMap<>();
+		map.forEach(actual::put);
+		assertEquals(expected, actual);
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(expected.keySet().iterator().next()));
+
+		try {
+			map.put(UUID.randomUUID(), null);
+			fail("Should throw an exception");
+		} catch (NullPointerException e) {
+			// success
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.github.f4b6a3.uuid.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+public class UuidSetTest {
+
+	private static final int DEFAULT_LOOP_MAX = 10_000;
+
+	@Test
+	public void testAddContainsRemove() {
+
+		UuidSet set = new UuidSet();
+		Set<UUID> expected = new HashSet<>();
+		SplittableRandom random = new SplittableRandom(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			// a small universe, so that there are many duplicates and removals
+			UUID uuid = i % 3 == 0 ? UuidCreator.getTimeOrderedEpoch() : new UUID(random.nextInt(200), random.nextInt(200));
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(uuid), set.remove(uuid));
+			} else {
+				assertEquals(expected.add(uuid), set.add(uuid));
+			}
+			assertEquals(expected.size(), set.size());
+		}
+
+		for (UUID uuid : expected) {
+			assertTrue(set.contains(uuid));
+			assertTrue(set.contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+		}
+
+		Set<UUID> actual = new HashSet<>();
+		set.forEach(actual::add);
+		assertEquals(expected, actual);
+		assertEquals(expected.size(), set.toArray().length);
+
+		set.clear();
+		assertTrue(set.isEmpty());
+		for (UUID uuid : expected) {
+			assertFalse(set.contains(uuid));
+		}
+	}
+
+	@Test
+	public void testNil() {
+
+		UuidSet set = new UuidSet(0);
+		UUID nil = new UUID(0L, 0L);
+
+		assertFalse(set.contains(nil));
+		assertTrue(set.add(nil));
+		assertFalse(set.add(nil));
+		assertTrue(set.contains(nil));
+		assertEquals(1, set.size());
+
+		for (int i = 0; i < 100; i++) {
+			set.add(UUID.randomUUID());
+		}
+		assertTrue(set.contains(nil));
+		assertEquals(101, set.size());
+
+		assertTrue(set.remove(nil));
+		assertFalse(set.contains(nil));
+		assertEquals(100, set.size());
+	}
+
+	@Test
+	public void testClustering() {
+
+		// UUIDv7 with the same time stamp and sequential counters
+		UuidSet set = new UuidSet();
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			assertTrue(set.add(0x017f22e279b07000L | (i >>> 12), 0x8000000000000000L | i));
+		}
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			assertTrue(set.contains(0x017f22e279b07000L | (i >>> 12), 0x8000000000000000L | i));
+		}
+		assertEquals(DEFAULT_LOOP_MAX, set.size());
+
+		try {
+			new UuidSet(-1);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+}
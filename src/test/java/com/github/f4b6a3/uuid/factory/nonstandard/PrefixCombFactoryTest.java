@@ -5,6 +5,7 @@ import org.junit.Test;
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
 import com.github.f4b6a3.uuid.util.CombUtil;
+import com.github.f4b6a3.uuid.util.UuidComparator;
 import com.github.f4b6a3.uuid.util.UuidTime;
 
 import static org.junit.Assert.assertEquals;
@@ -58,6 +59,27 @@ public class PrefixCombFactoryTest extends UuidFactoryTest {
 		}
 	}
 
+	@Test
+	public void testGetPrefixCombWithTimeFunction() {
+
+		SplittableRandom random = new SplittableRandom(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long time = random.nextLong(1L << 48);
+			Instant instant = Instant.ofEpochMilli(time);
+
+			UUID uuid1 = PrefixCombFactory.builder().withTimeFunction(() -> time).build().create();
+			UUID uuid2 = PrefixCombFactory.builder().withInstantFunction(() -> instant).build().create();
+			UUID uuid3 = PrefixCombFactory.builder().withInstantFunction(() -> instant).withTimeFunction(() -> time)
+					.withFastRandom().build().create();
+
+			assertEquals(time, CombUtil.getPrefix(uuid1));
+			assertEquals(time, CombUtil.getPrefix(uuid2));
+			assertEquals(time, CombUtil.getPrefix(uuid3));
+		}
+	}
+
 	@Test
 	public void testGetPrefixCombCheckTime() {
 
@@ -172,6 +194,44 @@ public class PrefixCombFactoryTest extends UuidFactoryTest {
 		}
 	}
 
+	@Test
+	public void testGetPrefixCombWithIncrementPlus1() {
+
+		final long time = 0x0123456789abL;
+		SplittableRandom random = new SplittableRandom(1);
+		PrefixCombFactory factory = PrefixCombFactory.builder().withIncrementPlus1().withTimeFunction(() -> time)
+				.withRandomFunction(() -> random.nextLong()).build();
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+
+		checkNotNull(list);
+		checkVersion(list, 4);
+		checkUniqueness(list);
+
+		for (int i = 1; i < DEFAULT_LOOP_MAX; i++) {
+			assertTrue(UuidComparator.opaqueCompare(list[i - 1], list[i]) < 0);
+			assertEquals(list[0].getMostSignificantBits(), list[i].getMostSignificantBits());
+			assertEquals((list[i - 1].getLeastSignificantBits() + 1), list[i].getLeastSignificantBits());
+		}
+	}
+
+	@Test
+	public void testGetPrefixCombWithIncrementPlus1Overflow() {
+
+		final long time = 0x0123456789abL;
+		PrefixCombFactory factory = PrefixCombFactory.builder().withIncrementPlus1().withTimeFunction(() -> time)
+				.withRandomFunction(() -> 0xffffffffffffffffL).build();
+
+		UUID uuid1 = factory.create();
+		UUID uuid2 = factory.create();
+
+		assertEquals(new UUID(0x0123456789ab4fffL, 0xbfffffffffffffffL), uuid1);
+		assertEquals(new UUID(0x0123456789ac4000L, 0x8000000000000000L), uuid2);
+	}
+
 	@Override
 	protected void checkOrdering(UUID[] list) {
 		UUID[] other = Arrays.copyOf(list, list.length);
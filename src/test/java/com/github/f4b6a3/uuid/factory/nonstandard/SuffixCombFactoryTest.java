@@ -168,6 +168,47 @@ public class SuffixCombFactoryTest extends UuidFactoryTest {
 		}
 	}
 
+	@Test
+	public void testGetSuffixCombWithIncrementPlus1() {
+
+		final long time = 0x0123456789abL;
+		SplittableRandom random = new SplittableRandom(1);
+		SuffixCombFactory factory = SuffixCombFactory.builder().withIncrementPlus1().withTimeFunction(() -> time)
+				.withRandomFunction(() -> random.nextLong()).build();
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+
+		checkNotNull(list);
+		checkVersion(list, 4);
+		checkUniqueness(list);
+
+		for (int i = 1; i < DEFAULT_LOOP_MAX; i++) {
+			long lsb1 = list[i - 1].getLeastSignificantBits();
+			long lsb2 = list[i].getLeastSignificantBits();
+			assertTrue(Long.compareUnsigned(lsb1 & 0x0000ffffffffffffL, lsb2 & 0x0000ffffffffffffL) <= 0);
+			if ((lsb1 & 0x0000ffffffffffffL) == (lsb2 & 0x0000ffffffffffffL)) {
+				assertEquals(((lsb1 >>> 48) & 0x3fff) + 1, (lsb2 >>> 48) & 0x3fff);
+			}
+		}
+	}
+
+	@Test
+	public void testGetSuffixCombWithIncrementPlus1Overflow() {
+
+		final long time = 0x0123456789abL;
+		SuffixCombFactory factory = SuffixCombFactory.builder().withIncrementPlus1().withTimeFunction(() -> time)
+				.withRandomFunction(() -> 0xffffffffffffffffL).build();
+
+		UUID uuid1 = factory.create();
+		UUID uuid2 = factory.create();
+
+		assertEquals(new UUID(0xffffffffffff4fffL, 0xbfff0123456789abL), uuid1);
+		assertEquals(new UUID(0xffffffffffff4fffL, 0x80000123456789acL), uuid2);
+	}
+
 	@Override
 	protected void checkOrdering(UUID[] list) {
 		UUID[] other = Arrays.copyOf(list, list.length);
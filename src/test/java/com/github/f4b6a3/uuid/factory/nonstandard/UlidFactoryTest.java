@@ -0,0 +1,58 @@
+package com.github.f4b6a3.uuid.factory.nonstandard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.base.Base32CrockfordCodec;
+import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
+
+public class UlidFactoryTest extends UuidFactoryTest {
+
+	@Test
+	public void testCreate() {
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		UlidFactory factory = new UlidFactory();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+
+		checkNotNull(list);
+		checkOrdering(list);
+		checkVersion(list, 7);
+		checkUniqueness(list);
+	}
+
+	@Test
+	public void testCreateString() {
+
+		// a fixed clock: the time always repeats
+		Instant instant = Instant.parse("2016-07-30T22:36:16.385Z");
+		UlidFactory factory = new UlidFactory(Clock.fixed(instant, ZoneOffset.UTC));
+
+		String previous = factory.createString();
+		assertEquals(26, previous.length());
+		assertTrue(previous.startsWith("01ARYZ6S41"));
+		assertEquals(instant, UlidFactory.getInstant(previous));
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			String string = factory.createString();
+			assertTrue(previous.compareTo(string) < 0);
+			UUID uuid = Base32CrockfordCodec.INSTANCE.decode(string);
+			UUID prev = Base32CrockfordCodec.INSTANCE.decode(previous);
+			assertEquals(prev.getLeastSignificantBits() + 1, uuid.getLeastSignificantBits());
+			previous = string;
+		}
+
+		String string = factory.createString(instant.plusMillis(1));
+		assertTrue(string.startsWith("01ARYZ6S42"));
+	}
+}
@@ -0,0 +1,228 @@
+package com.github.f4b6a3.uuid.factory.standard;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class CustomLayoutFactoryTest extends UuidFactoryTest {
+
+	@Test
+	public void testCreate() {
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		CustomLayoutFactory factory = CustomLayoutFactory.builder() //
+				.withClockField("time", 48) //
+				.withCounterField("sequence", 12) //
+				.withRandomField("random", 62) //
+				.build();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			list[i] = factory.create();
+		}
+
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_CUSTOM.getValue());
+	}
+
+	@Test
+	public void testCreateWithParameters() {
+
+		SplittableRandom seeder = new SplittableRandom(1);
+		Random random = new Random(seeder.nextLong());
+		final long millis = 1_700_000_000_000L;
+
+		CustomLayoutFactory factory = CustomLayoutFactory.builder() //
+				.withParameterField("shard", 10) //
+				.withParameterField("type", 6) //
+				.withClockField("time", 48) // crosses the version field
+				.withCounterField("sequence", 12) //
+				.withConstantField("region", 7, 0x55) // crosses the variant field
+				.withRandomField("random", 39) //
+				.withFastRandom() //
+				.withClock(Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC)) //
+				.build();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long shard = random.nextInt(1 << 10);
+			long type = random.nextInt(1 << 6);
+			UUID uuid = factory.create(shard, type);
+
+			assertEquals(UuidVersion.VERSION_CUSTOM.getValue(), uuid.version());
+			assertEquals(2, uuid.variant());
+			assertEquals(shard, factory.getValue(uuid, "shard"));
+			assertEquals(type, factory.getValue(uuid, "type"));
+			assertEquals(millis, factory.getValue(uuid, "time"));
+			assertEquals(i & 0xfff, factory.getValue(uuid, "sequence"));
+			assertEquals(0x55, factory.getValue(uuid, "region"));
+			assertEquals(shard, uuid.getMostSignificantBits() >>> 54);
+		}
+	}
+
+	@Test
+	public void testCreateWithArrayOfParameters() {
+
+		CustomLayoutFactory factory = CustomLayoutFactory.builder() //
+				.withParameterField("a", 64) //
+				.withParameterField("b", 58) //
+				.build();
+
+		long[] values = { 0xffffffffffffffffL, 0x0123456789abcdeL };
+		UUID uuid = factory.create(values);
+
+		assertEquals(values[0], factory.getValue(uuid, "a"));
+		assertEquals(values[1], factory.getValue(uuid, "b"));
+		assertEquals("ffffffff-ffff-8fff-bc12-3456789abcde", uuid.toString());
+	}
+
+	@Test
+	public void testCreateWithCounterOverflow() {
+
+		CustomLayoutFactory factory = CustomLayoutFactory.builder() //
+				.withCounterField("sequence", 2) //
+				.build();
+
+		for (int i = 0; i < 16; i++) {
+			UUID uuid = factory.create();
+			assertEquals(i & 3, factory.getValue(uuid, "sequence"));
+			assertEquals(i & 3, uuid.getMostSignificantBits() >>> 62);
+		}
+	}
+
+	@Test
+	public void testInvalidLayout() {
+
+		try {
+			CustomLayoutFactory.builder().withRandomField("a", 64).withRandomField("b", 59).build();
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			CustomLayoutFactory.builder().withRandomField("a", 0);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			CustomLayoutFactory.builder().withRandomField("a", 65);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			CustomLayoutFactory.builder().withRandomField("a", 8).withCounterField("a", 8);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			CustomLayoutFactory.builder().withConstantField("a", 8, 256);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testInvalidParameters() {
+
+		CustomLayoutFactory factory = CustomLayoutFactory.builder() //
+				.withParameterField("a", 8) //
+				.withParameterField("b", 8) //
+				.build();
+
+		try {
+			factory.create(1);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			factory.create();
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			factory.create(1, 256);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			factory.create(-1, 1);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			factory.getValue(factory.create(1, 2), "c");
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		UUID uuid = factory.create(new long[] { 1, 2 });
+		assertTrue(factory.getValue(uuid, "a") == 1 && factory.getValue(uuid, "b") == 2);
+	}
+
+	@Test
+	public void testRandomFunctionIsSerialized() throws InterruptedException {
+
+		AtomicBoolean busy = new AtomicBoolean();
+		AtomicBoolean overlap = new AtomicBoolean();
+		SplittableRandom seeder = new SplittableRandom(1);
+
+		// a random function that detects concurrent calls
+		CustomLayoutFactory factory = CustomLayoutFactory.builder() //
+				.withRandomField("random", 64) //
+				.withRandomFunction(() -> {
+					if (!busy.compareAndSet(false, true)) {
+						overlap.set(true);
+					}
+					Thread.yield(); // widen the window
+					long value = seeder.nextLong();
+					busy.set(false);
+					return value;
+				}).build();
+
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10_000; j++) {
+					factory.create();
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertFalse(overlap.get());
+	}
+}
@@ -87,6 +87,41 @@ public class CombUtilTest {
 		}
 	}
 
+	@Test
+	public void testGetPrefixAndSuffixColumns() {
+
+		long[] msbs = new long[DEFAULT_LOOP_MAX];
+		long[] lsbs = new long[DEFAULT_LOOP_MAX];
+		UUID[] prefixCombs = new UUID[DEFAULT_LOOP_MAX];
+		UUID[] suffixCombs = new UUID[DEFAULT_LOOP_MAX];
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			prefixCombs[i] = UuidCreator.getPrefixComb();
+			suffixCombs[i] = UuidCreator.getSuffixComb();
+			msbs[i] = prefixCombs[i].getMostSignificantBits();
+			lsbs[i] = suffixCombs[i].getLeastSignificantBits();
+		}
+
+		long[] prefixes = new long[DEFAULT_LOOP_MAX];
+		long[] suffixes = new long[DEFAULT_LOOP_MAX];
+		CombUtil.getPrefix(msbs, prefixes);
+		CombUtil.getSuffix(lsbs, suffixes);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			assertEquals(CombUtil.getPrefix(prefixCombs[i]), prefixes[i]);
+			assertEquals(CombUtil.getSuffix(suffixCombs[i]), suffixes[i]);
+			assertEquals(CombUtil.getPrefix(msbs[i]), prefixes[i]);
+			assertEquals(CombUtil.getSuffix(lsbs[i]), suffixes[i]);
+		}
+
+		try {
+			CombUtil.getPrefix(msbs, new long[1]);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
 	@Test
 	public void testGetPrefixInstant() {
 		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
@@ -0,0 +1,192 @@
+package com.github.f4b6a3.uuid.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class ReusableUuidBuilderTest {
+
+	private static final int DEFAULT_LOOP_MAX = 1_000;
+
+	@Test
+	public void testSameAsUuidBuilder() {
+
+		SplittableRandom seeder = new SplittableRandom(1);
+		ReusableUuidBuilder builder = new ReusableUuidBuilder(8);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			int p1 = seeder.nextInt();
+			short p2 = (short) seeder.nextInt();
+			byte p3 = (byte) seeder.nextInt();
+			byte p4 = (byte) seeder.nextInt();
+			byte[] p5 = new byte[8];
+			(new Random(seeder.nextLong())).nextBytes(p5);
+
+			UUID expected = new UuidBuilder(8).put(p1).put(p2).put(p3).put(p4).put(p5).build();
+			UUID actual = builder.reset().put(p1).put(p2).put(p3).put(p4).put(p5).build();
+
+			assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testPutTwoLongsWithoutVersionNumber() {
+
+		SplittableRandom random = new SplittableRandom(1);
+		ReusableUuidBuilder builder = new ReusableUuidBuilder();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long msb = random.nextLong();
+			long lsb = random.nextLong();
+
+			UUID expected = new UUID(msb, lsb);
+			UUID actual = builder.reset().put(msb).put(lsb).build();
+
+			assertEquals(expected, actual);
+			assertEquals(expected, builder.build()); // repeatable
+		}
+	}
+
+	@Test
+	public void testPutBits() {
+
+		SplittableRandom random = new SplittableRandom(1);
+		ReusableUuidBuilder builder = new ReusableUuidBuilder();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long msb = random.nextLong();
+			long lsb = random.nextLong();
+
+			// 48 + 12 + 20 + 48 bits, the 3rd one crossing the registers
+			UUID actual = builder.reset() //
+					.put(msb >>> 16, 48) //
+					.put(msb >>> 4, 12) //
+					.put((msb << 16) | (lsb >>> 48), 20) //
+					.put(lsb, 48) //
+					.build();
+
+			assertEquals(new UUID(msb, lsb), actual);
+			assertEquals(128, builder.position());
+			assertEquals(0, builder.remaining());
+		}
+	}
+
+	@Test
+	public void testPutAtOffset() {
+
+		SplittableRandom random = new SplittableRandom(1);
+		ReusableUuidBuilder builder = new ReusableUuidBuilder();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long msb = random.nextLong();
+			long lsb = random.nextLong();
+			long value = random.nextLong();
+			int bits = random.nextInt(1, 65);
+			int offset = random.nextInt(0, 128 - bits + 1);
+
+			UUID actual = builder.reset().put(msb).put(lsb).put(offset, value, bits).build();
+
+			long mask = bits == 64 ? -1L : (1L << bits) - 1L;
+			for (int b = 0; b < 128; b++) {
+				long expected;
+				if (b >= offset && b < offset + bits) {
+					expected = (value & mask) >>> (offset + bits - 1 - b) & 1L;
+				} else {
+					expected = (b < 64 ? msb >>> (63 - b) : lsb >>> (127 - b)) & 1L;
+				}
+				long bit = b < 64 ? actual.getMostSignificantBits() >>> (63 - b) & 1L
+						: actual.getLeastSignificantBits() >>> (127 - b) & 1L;
+				assertEquals(expected, bit);
+			}
+		}
+	}
+
+	@Test
+	public void testPosition() {
+
+		ReusableUuidBuilder builder = new ReusableUuidBuilder();
+		builder.put(-1L).put(-1L).position(60).put(0L, 8);
+
+		assertEquals(68, builder.position());
+		assertEquals(new UUID(0xfffffffffffffff0L, 0x0fffffffffffffffL), builder.position(128).build());
+	}
+
+	@Test
+	public void testIllegalArgumentException() {
+
+		try {
+			new ReusableUuidBuilder(16);
+			fail("Should throw illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			new ReusableUuidBuilder().put(0L, 65);
+			fail("Should throw illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		try {
+			new ReusableUuidBuilder().position(129);
+			fail("Should throw illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testBufferUnderflowException() {
+
+		try {
+			new ReusableUuidBuilder().put(0L).put(0L, 63).build();
+			fail("Should throw buffer underflow exception");
+		} catch (BufferUnderflowException e) {
+			// success
+		}
+
+		try {
+			new ReusableUuidBuilder().put(0L).put(0L).reset().build();
+			fail("Should throw buffer underflow exception");
+		} catch (BufferUnderflowException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testBufferOverflowException() {
+
+		try {
+			new ReusableUuidBuilder().put((byte) 0).put(0L).put(0L);
+			fail("Should throw buffer overflow exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+
+		try {
+			new ReusableUuidBuilder().put(0L).put(new byte[9]);
+			fail("Should throw buffer overflow exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+
+		try {
+			new ReusableUuidBuilder().put(120, 0L, 9);
+			fail("Should throw buffer overflow exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+	}
+}
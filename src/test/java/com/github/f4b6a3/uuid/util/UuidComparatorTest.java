@@ -9,6 +9,7 @@ import java.util.UUID;
 
 import org.junit.Test;
 
+import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.codec.StandardBinaryCodec;
 import com.github.f4b6a3.uuid.codec.other.TimeOrderedCodec;
 
@@ -246,4 +247,46 @@ public class UuidComparatorTest {
 		uuid = UuidUtil.setVersion(uuid, 1);
 		return StandardBinaryCodec.INSTANCE.encode(uuid);
 	}
+
+	@Test
+	public void testSortKeys() {
+
+		UUID[] uuids = new UUID[DEFAULT_LOOP_MAX * 2];
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			uuids[i] = UUID.randomUUID();
+			uuids[DEFAULT_LOOP_MAX + i] = UuidCreator.getTimeBased();
+		}
+
+		long[] keys = new long[uuids.length * 2];
+		UuidComparator.getSortKeys(uuids, keys);
+
+		for (int i = 0; i < uuids.length; i++) {
+			assertEquals(UuidComparator.getSortKeyHigh(uuids[i]), keys[i * 2]);
+			assertEquals(UuidComparator.getSortKeyLow(uuids[i]), keys[i * 2 + 1]);
+		}
+
+		// keys of UUIDs of the same kind are in the default order
+		for (int i = 0; i < uuids.length; i++) {
+			for (int j = 0; j < uuids.length; j++) {
+				if ((i < DEFAULT_LOOP_MAX) == (j < DEFAULT_LOOP_MAX)) {
+					int expected = UuidComparator.defaultCompare(uuids[i], uuids[j]);
+					int actual = UuidComparator.compareSortKeys(keys[i * 2], keys[i * 2 + 1], keys[j * 2],
+							keys[j * 2 + 1]);
+					assertEquals(expected, actual);
+				}
+			}
+		}
+
+		UUID timeBased = uuids[DEFAULT_LOOP_MAX];
+		assertEquals(timeBased.timestamp(), UuidComparator.getSortKeyHigh(timeBased));
+		assertEquals(0L, UuidComparator.getSortKeyHigh(null));
+		assertEquals(0L, UuidComparator.getSortKeyLow(null));
+
+		try {
+			UuidComparator.getSortKeys(uuids, new long[uuids.length]);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
 }
@@ -0,0 +1,117 @@
+package com.github.f4b6a3.uuid.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+public class UuidSorterTest {
+
+	private static final int[] SIZES = { 0, 1, 2, 31, 32, 33, 1000, 50_000 };
+
+	@Test
+	public void testSortOpaque() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int size : SIZES) {
+
+			UUID[] uuids = new UUID[size];
+			for (int i = 0; i < size; i++) {
+				// few distinct high bytes and many duplicates
+				uuids[i] = new UUID(random.nextLong() >>> random.nextInt(64), random.nextInt(100));
+			}
+			if (size > 2) {
+				uuids[1] = null;
+			}
+
+			UUID[] expected = uuids.clone();
+			Arrays.sort(expected, UuidComparator.getOpaqueInstance());
+
+			UUID[] actual = uuids.clone();
+			UuidSorter.sortOpaque(actual);
+			assertArrayEquals(expected, actual);
+
+			actual = uuids.clone();
+			UuidSorter.parallelSortOpaque(actual);
+			assertArrayEquals(expected, actual);
+
+			long[][] columns = columns(uuids);
+			UuidSorter.sortOpaque(columns[0], columns[1]);
+			assertColumnsEqual(expected, columns);
+
+			columns = columns(uuids);
+			UuidSorter.parallelSortOpaque(columns[0], columns[1]);
+			assertColumnsEqual(expected, columns);
+		}
+	}
+
+	@Test
+	public void testSortDefault() {
+		for (int size : SIZES) {
+
+			UUID[] timeBased = new UUID[size];
+			for (int i = 0; i < size; i++) {
+				timeBased[i] = UuidCreator.getTimeBased();
+			}
+
+			// time-based UUIDs are created in time order
+			UUID[] expected = timeBased.clone();
+			Collections.shuffle(Arrays.asList(timeBased), new Random(1));
+
+			UUID[] actual = timeBased.clone();
+			UuidSorter.sort(actual);
+			assertArrayEquals(expected, actual);
+
+			actual = timeBased.clone();
+			UuidSorter.parallelSort(actual);
+			assertArrayEquals(expected, actual);
+
+			long[][] columns = columns(timeBased);
+			UuidSorter.sort(columns[0], columns[1]);
+			assertColumnsEqual(expected, columns);
+
+			columns = columns(timeBased);
+			UuidSorter.parallelSort(columns[0], columns[1]);
+			assertColumnsEqual(expected, columns);
+
+			UUID[] randomBased = new UUID[size];
+			for (int i = 0; i < size; i++) {
+				randomBased[i] = UUID.randomUUID();
+			}
+			expected = randomBased.clone();
+			Arrays.sort(expected, UuidComparator.getDefaultInstance());
+			UuidSorter.parallelSort(randomBased);
+			assertArrayEquals(expected, randomBased);
+		}
+	}
+
+	@Test
+	public void testSortDifferentLengths() {
+		try {
+			UuidSorter.sort(new long[2], new long[3]);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	private static void assertColumnsEqual(UUID[] expected, long[][] columns) {
+		assertArrayEquals(columns(expected)[0], columns[0]);
+		assertArrayEquals(columns(expected)[1], columns[1]);
+	}
+
+	private static long[][] columns(UUID[] uuids) {
+		long[][] columns = new long[2][uuids.length];
+		for (int i = 0; i < uuids.length; i++) {
+			columns[0][i] = uuids[i] != null ? uuids[i].getMostSignificantBits() : 0L;
+			columns[1][i] = uuids[i] != null ? uuids[i].getLeastSignificantBits() : 0L;
+		}
+		return columns;
+	}
+}
@@ -127,6 +127,70 @@ public class UuidUtilTest {
 		}
 	}
 
+	@Test
+	public void testGetUnixMillisAndTicks() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			Instant instant = UuidTime.fromGregTimestamp(random.nextLong() & GREG_TIMESTAMP_MASK);
+
+			UUID uuid1 = TimeBasedFactory.builder().withInstant(instant).build().create();
+			UUID uuid2 = DceSecurityFactory.builder().withInstant(instant).build()
+					.create(UuidLocalDomain.LOCAL_DOMAIN_PERSON, 0);
+			UUID uuid6 = TimeOrderedFactory.builder().withInstant(instant).build().create();
+			UUID uuid7 = UuidCreator.getTimeOrderedEpoch();
+
+			UUID[] uuids = { uuid1, uuid2, uuid6, uuid7 };
+			long[] msbs = new long[uuids.length];
+			long[] lsbs = new long[uuids.length];
+			long[] millis = new long[uuids.length];
+			long[] ticks = new long[uuids.length];
+
+			for (int j = 0; j < uuids.length; j++) {
+				msbs[j] = uuids[j].getMostSignificantBits();
+				lsbs[j] = uuids[j].getLeastSignificantBits();
+				assertEquals(getInstant(uuids[j]).toEpochMilli(), getUnixMillis(uuids[j]));
+				assertEquals(UuidTime.toUnixTimestamp(getTimestamp(uuids[j])), getUnixTicks(uuids[j]));
+			}
+
+			getUnixMillis(msbs, lsbs, millis);
+			getUnixTicks(msbs, lsbs, ticks);
+			for (int j = 0; j < uuids.length; j++) {
+				assertEquals(getUnixMillis(uuids[j]), millis[j]);
+				assertEquals(getUnixTicks(uuids[j]), ticks[j]);
+			}
+
+			assertEquals(ticks[0], getTimeBasedUnixTicks(msbs[0]));
+			assertEquals(ticks[1], getDceSecurityUnixTicks(msbs[1]));
+			assertEquals(ticks[2], getTimeOrderedUnixTicks(msbs[2]));
+			assertEquals(millis[3], getTimeOrderedEpochUnixMillis(msbs[3]));
+		}
+
+		UUID[] invalid = { UUID.randomUUID(), UuidCreator.getNameBasedSha1(UuidNamespace.NAMESPACE_DNS, "name"),
+				new UUID(0x0000000000001000L, 0L) /* v1 with non-standard variant */ };
+		for (UUID uuid : invalid) {
+			try {
+				getUnixMillis(uuid);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+			try {
+				getUnixTicks(uuid);
+				fail("Should throw an exception");
+			} catch (IllegalArgumentException e) {
+				// success
+			}
+		}
+
+		try {
+			getUnixMillis(new long[2], new long[1], new long[2]);
+			fail("Should throw an exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
 	@Test
 	public void testGetClockSequence() {
 		SplittableRandom random = new SplittableRandom(1);
@@ -174,6 +174,30 @@ public class UuidValidatorTest {
 		}
 	}
 
+	@Test
+	public void testIsValidCharSequence() {
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String string = uuid.toString();
+			assertTrue(UuidValidator.isValid(new StringBuilder(string)));
+			assertTrue(UuidValidator.isValid(new StringBuilder(string.toUpperCase())));
+			assertTrue(UuidValidator.isValid(new StringBuilder(string.replace("-", ""))));
+			assertTrue(UuidValidator.isValid(new StringBuilder(string), 4));
+			assertFalse(UuidValidator.isValid(new StringBuilder(string), 7));
+		}
+
+		CharSequence uuid = null;
+		assertFalse(UuidValidator.isValid(uuid));
+		assertFalse(UuidValidator.isValid(new StringBuilder()));
+		assertFalse(UuidValidator.isValid(new StringBuilder("01234567-89ab-4def-abcdef01-23456789")));
+		assertFalse(UuidValidator.isValid(new StringBuilder("0123456789ab4defabcdef012345678")));
+		assertFalse(UuidValidator.isValid(new StringBuilder("01234567-89ab-4def-abcd-SOPQRSTUVXYZ")));
+		assertFalse(UuidValidator.isValid(new StringBuilder("01234567-89ab-4def-abcd-ef012345678\u0100")));
+		assertFalse(UuidValidator.isValid(new StringBuilder("01234567-89ab-4def-abcd-ef01234567\u0130")));
+		assertFalse(UuidValidator.isValid(new StringBuilder("01234567-89ab-4def-abcd-ef0123456789"), 16));
+	}
+
 	@Test
 	public void testIsUuidString() {
 
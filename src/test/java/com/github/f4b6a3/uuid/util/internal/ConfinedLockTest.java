@@ -0,0 +1,116 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.UuidFactory;
+import com.github.f4b6a3.uuid.factory.nonstandard.PrefixCombFactory;
+import com.github.f4b6a3.uuid.factory.standard.RandomBasedFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.standard.TimeOrderedEpochFactory;
+
+public class ConfinedLockTest {
+
+	private static final int DEFAULT_LOOP_MAX = 1_000;
+
+	@Test
+	public void testNewLock() {
+		assertFalse(ConfinedLock.newLock(false, false) instanceof ConfinedLock);
+		assertFalse(ConfinedLock.newLock(false, true) instanceof ConfinedLock);
+		assertTrue(ConfinedLock.newLock(false, false) instanceof ReentrantLock);
+		assertTrue(ConfinedLock.newLock(false, true) instanceof ReentrantLock);
+		assertTrue(ConfinedLock.newLock(true, false) instanceof ConfinedLock);
+		assertTrue(ConfinedLock.newLock(true, true) instanceof ConfinedLock);
+	}
+
+	@Test
+	public void testLockWithoutOwnerCheck() throws InterruptedException {
+
+		ConfinedLock lock = new ConfinedLock();
+		lock.lock();
+		lock.unlock();
+
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			try {
+				lock.lock();
+				lock.unlock();
+			} catch (Throwable e) {
+				error.set(e);
+			}
+		});
+		thread.start();
+		thread.join();
+
+		assertEquals(null, error.get());
+	}
+
+	@Test
+	public void testLockWithOwnerCheck() throws InterruptedException {
+
+		ConfinedLock lock = new ConfinedLock(true);
+		lock.lock();
+		lock.unlock();
+		assertTrue(lock.tryLock());
+		lock.unlock();
+
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			try {
+				lock.lock();
+				lock.unlock();
+			} catch (Throwable e) {
+				error.set(e);
+			}
+		});
+		thread.start();
+		thread.join();
+
+		assertTrue(error.get() instanceof IllegalStateException);
+	}
+
+	@Test
+	public void testThreadConfinedFactories() throws InterruptedException {
+
+		UuidFactory[] factories = { //
+				TimeBasedFactory.builder().withThreadConfinement(true).build(), //
+				TimeOrderedEpochFactory.builder().withIncrementPlus1().withThreadConfinement(true).build(), //
+				RandomBasedFactory.builder().withThreadConfinement(true).build(), //
+				PrefixCombFactory.builder().withIncrementPlus1().withThreadConfinement(true).build() //
+		};
+
+		for (UuidFactory factory : factories) {
+
+			Set<UUID> set = new HashSet<>();
+			for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+				set.add(factory.create());
+			}
+			assertEquals(DEFAULT_LOOP_MAX, set.size());
+
+			AtomicReference<Throwable> error = new AtomicReference<>();
+			Thread thread = new Thread(() -> {
+				try {
+					factory.create();
+				} catch (Throwable e) {
+					error.set(e);
+				}
+			});
+			thread.start();
+			thread.join();
+
+			if (!(error.get() instanceof IllegalStateException)) {
+				fail("Should throw illegal state exception: " + factory.getClass().getSimpleName());
+			}
+		}
+	}
+}
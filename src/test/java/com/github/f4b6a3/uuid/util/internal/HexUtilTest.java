@@ -0,0 +1,92 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class HexUtilTest {
+
+	private static final int DEFAULT_LOOP_MAX = 10_000;
+
+	@Test
+	public void testEncode() {
+
+		SplittableRandom random = new SplittableRandom(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long value = random.nextLong() & 0xffffffffL;
+			String expected = String.format("%08x", value);
+
+			char[] chars = new char[10];
+			HexUtil.encode(value, chars, 1);
+			assertEquals(expected, new String(chars, 1, 8));
+
+			HexUtil.encode(value, chars, 0, 6);
+			assertEquals(expected.substring(0, 4), new String(chars, 0, 4));
+			assertEquals(expected.substring(4, 8), new String(chars, 6, 4));
+
+			byte[] bytes = new byte[10];
+			HexUtil.encode(value, bytes, 1);
+			assertEquals(expected, new String(bytes, 1, 8, StandardCharsets.US_ASCII));
+
+			// the upper 32 bits are ignored
+			HexUtil.encode(value | (random.nextLong() << 32), chars, 1);
+			assertEquals(expected, new String(chars, 1, 8));
+		}
+	}
+
+	@Test
+	public void testDecode() {
+
+		SplittableRandom random = new SplittableRandom(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+
+			long value = random.nextLong() & 0xffffffffL;
+			String string = String.format("%08x", value);
+
+			assertEquals(value, HexUtil.decode(string, 0));
+			assertEquals(value, HexUtil.decode(string.toUpperCase(), 0));
+			assertEquals(value, HexUtil.decode("-" + string, 1));
+
+			String split = string.substring(0, 4) + "-" + string.substring(4);
+			assertEquals(value, HexUtil.decode(split, 0, 5));
+			assertEquals(value, HexUtil.decode(split.toCharArray(), 0, 5));
+			assertEquals(value, HexUtil.decode(split.getBytes(StandardCharsets.US_ASCII), 0, 5));
+		}
+	}
+
+	@Test
+	public void testDecodeEveryChar() {
+
+		for (int c = 0; c <= 0xffff; c++) {
+
+			final int expected = Character.isDigit(c) && c < 0x80 ? c - '0'
+					: (c >= 'a' && c <= 'f') ? c - 'a' + 10 : (c >= 'A' && c <= 'F') ? c - 'A' + 10 : -1;
+
+			for (int position = 0; position < 8; position++) {
+
+				char[] chars = "00000000".toCharArray();
+				chars[position] = (char) c;
+				long actual = HexUtil.decode(new String(chars), 0);
+				assertEquals(actual, HexUtil.decode(chars, 0));
+
+				if (c <= 0xff) {
+					byte[] bytes = "00000000".getBytes(StandardCharsets.US_ASCII);
+					bytes[position] = (byte) c;
+					assertEquals(actual, HexUtil.decode(bytes, 0));
+				}
+
+				if (expected < 0) {
+					assertEquals("char " + c, -1L, actual);
+				} else {
+					assertEquals("char " + c, (long) expected << (4 * (7 - position)), actual);
+				}
+			}
+		}
+	}
+}
@@ -43,6 +43,16 @@ public class SettingsUtilTest {
 		}
 	}
 
+	@Test
+	public void testSetStackless() {
+		assertFalse(SettingsUtil.isStackless());
+		SettingsUtil.setStackless(true);
+		assertTrue(SettingsUtil.isStackless());
+		SettingsUtil.setStackless(false);
+		assertFalse(SettingsUtil.isStackless());
+		SettingsUtil.clearProperty(SettingsUtil.PROPERTY_STACKLESS);
+	}
+
 	@Test
 	public void testSetPropertyWith0x() {
 		SplittableRandom random = new SplittableRandom(1);